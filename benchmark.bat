@@ -0,0 +1,34 @@
+@echo off
+echo ========================================
+echo Building and Running Benchmarks...
+echo ========================================
+echo.
+
+REM Install the application so the benchmark module can depend on it
+echo Building application...
+call mvn -B -q install -DskipTests
+if %ERRORLEVEL% NEQ 0 goto failed
+
+REM Build the JMH uber jar
+echo Building benchmark module...
+call mvn -B -q -f benchmarks\pom.xml package
+if %ERRORLEVEL% NEQ 0 goto failed
+
+echo.
+echo ========================================
+echo Build successful! Running benchmarks...
+echo ========================================
+echo.
+REM Extra arguments are passed to JMH, e.g. a benchmark regex or -p cartSize=100
+java -jar benchmarks\target\benchmarks.jar %*
+goto end
+
+:failed
+echo.
+echo ========================================
+echo Build failed! Check for compilation errors.
+echo ========================================
+echo.
+pause
+
+:end
@@ -0,0 +1,124 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.Dish;
+import dish.DishFactory;
+import dish.DishType;
+import restaurant.Catalog;
+import restaurant.CatalogEntry;
+import restaurant.MenuSnapshot;
+import restaurant.Restaurant;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogBenchmark {
+    private static final long MIN_PRICE = 500;
+    private static final long PRICE_SPREAD = 3000;
+    
+    @Param({"100000"})
+    private int dishes;
+    
+    @Param({"1", "10"})
+    private int budgetPercent;
+    
+    private List<Restaurant> restaurants;
+    private Catalog catalog;
+    private long maxPrice;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        DishType[] types = DishType.values();
+        int perRestaurant = 100;
+        restaurants = new ArrayList<>();
+        for (int r = 0; r * perRestaurant < dishes; r++) {
+            Restaurant restaurant = new Restaurant("Restaurant " + r);
+            List<Dish> menu = new ArrayList<>(perRestaurant);
+            for (int d = 0; d < perRestaurant && r * perRestaurant + d < dishes; d++) {
+                menu.add(DishFactory.createDish(types[random.nextInt(types.length)], "Dish " + r + "-" + d,
+                                                MIN_PRICE + random.nextInt((int) PRICE_SPREAD), ""));
+            }
+            restaurant.addDishes(menu);
+            restaurants.add(restaurant);
+        }
+        catalog = new Catalog(restaurants);
+        maxPrice = MIN_PRICE + PRICE_SPREAD * budgetPercent / 100;
+        long rangeFrom = MIN_PRICE + PRICE_SPREAD / 2;
+        long rangeTo = rangeFrom + PRICE_SPREAD * budgetPercent / 100;
+        for (DishType type : types) {
+            check("findUnder " + type, sumPrices(catalog.findUnder(type, maxPrice)),
+                  scan(type, Long.MIN_VALUE, maxPrice));
+            check("findPricedBetween " + type, sumPrices(catalog.findPricedBetween(type, rangeFrom, rangeTo)),
+                  scan(type, rangeFrom, rangeTo));
+        }
+        check("findUnder any", sumPrices(catalog.findUnder(null, maxPrice)), scan(null, Long.MIN_VALUE, maxPrice));
+    }
+    
+    @Benchmark
+    public long catalogFindUnder() {
+        return sumPrices(catalog.findUnder(DishType.VEGAN, maxPrice));
+    }
+    
+    @Benchmark
+    public long menuSnapshotsPricedBetween() {
+        long total = 0;
+        for (Restaurant restaurant : restaurants) {
+            for (Dish dish : restaurant.getMenuSnapshot().getDishesPricedBetween(DishType.VEGAN, Long.MIN_VALUE,
+                                                                                   maxPrice)) {
+                total += dish.getPrice();
+            }
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public long fullScan() {
+        return scan(DishType.VEGAN, Long.MIN_VALUE, maxPrice);
+    }
+    
+    private long scan(DishType type, long from, long to) {
+        long total = 0;
+        for (Restaurant restaurant : restaurants) {
+            MenuSnapshot menu = restaurant.getMenuSnapshot();
+            for (int i = 0; i < menu.size(); i++) {
+                long price = menu.getDish(i).getPrice();
+                if ((type == null || menu.getType(i) == type) && price >= from && price <= to) {
+                    total += price;
+                }
+            }
+        }
+        return total;
+    }
+    
+    private static long sumPrices(List<CatalogEntry> entries) {
+        long total = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            total += entries.get(i).getPrice();
+        }
+        return total;
+    }
+    
+    private static void check(String query, long indexed, long scanned) {
+        if (indexed != scanned) {
+            throw new IllegalStateException(query + " returned " + indexed + " but a full scan found " + scanned);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import catalog.CatalogLoadResult;
+import catalog.CatalogLoader;
+import dish.Dish;
+import money.Money;
+import restaurant.Restaurant;
+
+public class CatalogLoadStress {
+    private static final int DISHES = 1_000_000;
+    private static final int DISHES_PER_RESTAURANT = 100;
+    private static final String[] TYPES = {"VEG", "NON_VEG", "VEGAN"};
+    private static final String[] WORDS = {
+        "Spicy", "Chicken", "Paneer", "Tofu", "Salmon", "Garlic", "Pizza", "Burger", "Roll", "Bowl",
+        "Curry", "Noodles", "Taco", "Wrap", "Salad", "Truffle", "Lemon", "Honey", "Smoky", "Crispy"
+    };
+    private static final String[] DESCRIPTIONS = {
+        "Served with fresh herbs", "Topped with melted cheese", "On a bed of seasoned rice",
+        "With a side of house salad", "Finished with chili oil, lime and \"secret\" sauce"
+    };
+    
+    public static void main(String[] args) throws IOException {
+        int dishes = args.length > 0 ? Integer.parseInt(args[0]) : DISHES;
+        Path directory = Files.createTempDirectory("catalog-load-stress");
+        Path csv = directory.resolve("catalog.csv");
+        Path jsonLines = directory.resolve("catalog.jsonl");
+        long expectedTotal = write(csv, jsonLines, dishes);
+        System.out.println("Generated " + dishes + " dishes: CSV " + Files.size(csv) / (1024 * 1024) + " MB, JSON lines " +
+                           Files.size(jsonLines) / (1024 * 1024) + " MB");
+        CatalogLoader loader = new CatalogLoader(Runtime.getRuntime().availableProcessors(), 8192);
+        boolean passed = true;
+        for (Path file : new Path[] {csv, jsonLines}) {
+            System.gc();
+            resetPeakHeap();
+            CatalogLoadResult result = loader.load(file);
+            long peakHeapMb = peakHeapBytes() / (1024 * 1024);
+            long total = 0;
+            long loaded = 0;
+            for (Restaurant restaurant : result.getRestaurants()) {
+                for (Dish dish : restaurant.getMenu()) {
+                    total += dish.getPrice();
+                    loaded++;
+                }
+            }
+            System.out.println(file.getFileName() + ": " + result);
+            System.out.println("  peak heap MB: " + peakHeapMb + ", price total: " + Money.format(total));
+            passed &= loaded == dishes && result.getDishCount() == dishes && total == expectedTotal &&
+                      result.getRestaurants().size() == (dishes + DISHES_PER_RESTAURANT - 1) / DISHES_PER_RESTAURANT;
+        }
+        Files.delete(csv);
+        Files.delete(jsonLines);
+        Files.delete(directory);
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    private static long write(Path csv, Path jsonLines, int dishes) throws IOException {
+        Random random = new Random(7);
+        long total = 0;
+        try (BufferedWriter csvOut = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             BufferedWriter jsonOut = Files.newBufferedWriter(jsonLines, StandardCharsets.UTF_8)) {
+            csvOut.write("restaurant,type,name,price,description\n");
+            for (int i = 0; i < dishes; i++) {
+                String restaurant = "Restaurant " + i / DISHES_PER_RESTAURANT;
+                String type = TYPES[random.nextInt(TYPES.length)];
+                String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + i;
+                long price = 199 + random.nextInt(4000);
+                String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+                total += price;
+                csvOut.write(restaurant + "," + type + "," + name + "," + Money.format(price) + ",\"" +
+                             description.replace("\"", "\"\"") + "\"\n");
+                jsonOut.write("{\"restaurant\":\"" + restaurant + "\",\"type\":\"" + type + "\",\"name\":\"" + name +
+                              "\",\"price\":" + Money.format(price) + ",\"description\":\"" +
+                              description.replace("\"", "\\\"") + "\"}\n");
+            }
+        }
+        return total;
+    }
+    
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+    
+    private static long peakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
\ No newline at end of file
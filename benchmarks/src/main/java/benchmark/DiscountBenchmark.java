@@ -0,0 +1,47 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import discount.DiscountStrategy;
+import discount.FlatDiscount;
+import discount.PercentageDiscount;
+import money.Money;
+import payment.Payment;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscountBenchmark {
+    private DiscountStrategy percentageDiscount;
+    private DiscountStrategy flatDiscount;
+    private long cartTotal;
+    
+    @Setup
+    public void setUp() {
+        percentageDiscount = new PercentageDiscount(10);
+        flatDiscount = new FlatDiscount(2.0);
+        cartTotal = Money.of(87.43);
+    }
+    
+    @Benchmark
+    public long percentageDiscount() {
+        return Payment.calculateDiscountSilently(cartTotal, percentageDiscount);
+    }
+    
+    @Benchmark
+    public long flatDiscount() {
+        return Payment.calculateDiscountSilently(cartTotal, flatDiscount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.AddOn;
+import dish.CheeseDecorator;
+import dish.Dish;
+import dish.DishFactory;
+import dish.ExtraSauceDecorator;
+import dish.VariantCompiler;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DishDecoratorBenchmark {
+    @Param({"1", "4", "16"})
+    private int depth;
+    
+    @Param({"decorator", "variant"})
+    private String representation;
+    
+    private Dish base;
+    private AddOn[] addOns;
+    private Dish dish;
+    
+    @Setup
+    public void setUp() {
+        base = DishFactory.createDish("VEG", "Margherita Pizza", 10.99, "Classic margherita with fresh tomatoes and mozzarella");
+        addOns = new AddOn[depth];
+        for (int i = 0; i < depth; i++) {
+            addOns[i] = i % 2 == 0 ? AddOn.EXTRA_CHEESE : AddOn.EXTRA_SAUCE;
+        }
+        dish = buildDish();
+    }
+    
+    @Benchmark
+    public Dish buildDish() {
+        if (representation.equals("variant")) {
+            return VariantCompiler.compile(base, addOns);
+        }
+        Dish decorated = base;
+        for (AddOn addOn : addOns) {
+            decorated = addOn == AddOn.EXTRA_CHEESE ? new CheeseDecorator(decorated) : new ExtraSauceDecorator(decorated);
+        }
+        return decorated;
+    }
+    
+    @Benchmark
+    public long getPrice() {
+        return dish.getPrice();
+    }
+    
+    @Benchmark
+    public String getName() {
+        return dish.getName();
+    }
+    
+    @Benchmark
+    public String getDescription() {
+        return dish.getDescription();
+    }
+}
\ No newline at end of file
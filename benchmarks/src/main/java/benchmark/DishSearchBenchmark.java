@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.Dish;
+import dish.DishFactory;
+import dish.DishType;
+import restaurant.Restaurant;
+import search.DishSearchIndex;
+import search.SearchResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+public class DishSearchBenchmark {
+    private static final String[] STYLES = {
+        "Classic", "Spicy", "Smoky", "Crispy", "Garlic", "Honey", "Lemon", "Truffle", "Tandoori", "Teriyaki",
+        "Roasted", "Grilled", "Loaded", "Creamy", "Sweet", "Tangy", "Herbed", "Peppered", "Cajun", "Sesame"
+    };
+    private static final String[] INGREDIENTS = {
+        "Chicken", "Paneer", "Tofu", "Salmon", "Tuna", "Beef", "Mushroom", "Avocado", "Eggplant", "Shrimp",
+        "Pepperoni", "Margherita", "Hawaiian", "Falafel", "Halloumi", "Chickpea", "Lamb", "Pork", "Spinach", "Cauliflower"
+    };
+    private static final String[] COURSES = {
+        "Pizza", "Burger", "Roll", "Bowl", "Wrap", "Salad", "Curry", "Noodles", "Taco", "Sandwich",
+        "Soup", "Risotto", "Pasta", "Skewers", "Nigiri", "Dumplings", "Flatbread", "Biryani", "Ramen", "Burrito"
+    };
+    private static final String[] DESCRIPTIONS = {
+        "served with fresh herbs", "topped with melted cheese", "on a bed of seasoned rice",
+        "with a side of house salad", "finished with chili oil", "in a rich tomato sauce",
+        "with pickled vegetables", "slow cooked overnight", "with toasted sesame seeds", "with fresh lime"
+    };
+    
+    @Param({"1000000"})
+    private int dishes;
+    
+    @Param({"margherita pizza", "marg", "margarita", "spicy chicken burger", "tofu bowl sesame"})
+    private String query;
+    
+    private DishSearchIndex index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        DishType[] types = DishType.values();
+        int perRestaurant = 100;
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (int r = 0; r * perRestaurant < dishes; r++) {
+            Restaurant restaurant = new Restaurant("Restaurant " + r);
+            List<Dish> menu = new ArrayList<>(perRestaurant);
+            for (int d = 0; d < perRestaurant && r * perRestaurant + d < dishes; d++) {
+                String name = STYLES[random.nextInt(STYLES.length)] + " " +
+                              INGREDIENTS[random.nextInt(INGREDIENTS.length)] + " " +
+                              COURSES[random.nextInt(COURSES.length)];
+                menu.add(DishFactory.createDish(types[random.nextInt(types.length)], name,
+                                                500 + random.nextInt(3000), DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]));
+            }
+            restaurant.addDishes(menu);
+            restaurants.add(restaurant);
+        }
+        long start = System.nanoTime();
+        index = new DishSearchIndex(restaurants);
+        System.out.println("\nIndexed " + index.getDocumentCount() + " dishes, " + index.getTermCount() +
+                           " terms in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+    
+    @Benchmark
+    public List<SearchResult> searchTop10() {
+        return index.search(query, 10);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import catalog.DishStore;
+import dish.Dish;
+import dish.DishFactory;
+import dish.DishType;
+import restaurant.Restaurant;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class DishStoreBenchmark {
+    private static final int DISHES_PER_RESTAURANT = 100;
+    private static final String[] WORDS = {
+        "Spicy", "Chicken", "Paneer", "Tofu", "Salmon", "Garlic", "Pizza", "Burger", "Roll", "Bowl",
+        "Curry", "Noodles", "Taco", "Wrap", "Salad", "Truffle", "Lemon", "Honey", "Smoky", "Crispy"
+    };
+    private static final String[] DESCRIPTIONS = {
+        "Served with fresh herbs", "Topped with melted cheese", "On a bed of seasoned rice",
+        "With a side of house salad", "Finished with chili oil and lime"
+    };
+    
+    @Param({"1000000"})
+    private int dishes;
+    
+    @Param({"OBJECTS", "HEAP", "OFF_HEAP"})
+    private String model;
+    
+    private List<Restaurant> restaurants;
+    private DishStore store;
+    
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        Random random = new Random(11);
+        DishType[] types = DishType.values();
+        if (model.equals("OBJECTS")) {
+            restaurants = new ArrayList<>();
+        } else {
+            store = new DishStore(model.equals("OFF_HEAP"));
+        }
+        List<Dish> menu = new ArrayList<>(DISHES_PER_RESTAURANT);
+        for (int i = 0; i < dishes; i++) {
+            String restaurant = "Restaurant " + i / DISHES_PER_RESTAURANT;
+            DishType type = types[random.nextInt(types.length)];
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + i;
+            long price = 199 + random.nextInt(4000);
+            String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+            if (store != null) {
+                store.add(restaurant, type, name, price, description);
+                continue;
+            }
+            menu.add(DishFactory.createDish(type, name, price, description));
+            if (menu.size() == DISHES_PER_RESTAURANT || i == dishes - 1) {
+                Restaurant created = new Restaurant(restaurant);
+                created.addDishes(menu);
+                restaurants.add(created);
+                menu.clear();
+            }
+        }
+        long after = usedHeap();
+        System.out.println("\n" + model + ": " + (after - before) / dishes + " heap bytes per dish" +
+                           (store != null && store.isOffHeap() ? ", " + store.getArenaBytes() / dishes + " off-heap bytes per dish" : ""));
+    }
+    
+    @Benchmark
+    public int countVeganInPriceRange() {
+        if (store != null) {
+            return store.countPricedBetween(DishType.VEGAN, 500, 1500);
+        }
+        int count = 0;
+        for (Restaurant restaurant : restaurants) {
+            for (Dish dish : restaurant.getMenu()) {
+                long price = dish.getPrice();
+                if (dish.getType().equals("Vegan") && price >= 500 && price <= 1500) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+    
+    @Benchmark
+    public long sumVegetarianPrices() {
+        if (store != null) {
+            return store.sumPrices(DishType.VEG);
+        }
+        long total = 0;
+        for (Restaurant restaurant : restaurants) {
+            for (Dish dish : restaurant.getMenu()) {
+                if (dish.getType().equals("Vegetarian")) {
+                    total += dish.getPrice();
+                }
+            }
+        }
+        return total;
+    }
+    
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
\ No newline at end of file
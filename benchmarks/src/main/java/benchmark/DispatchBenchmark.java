@@ -0,0 +1,146 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dispatch.Assignment;
+import dispatch.BatchMatcher;
+import dispatch.CourierGrid;
+import dispatch.DispatchRequest;
+import dispatch.HashingGeocoder;
+import dispatch.Location;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private static final Location CENTER = new Location(40.7128, -74.0060);
+    private static final double RADIUS_KM = 10;
+    private static final int REQUESTS = 8192;
+    
+    @Param({"50000"})
+    private int couriers;
+    
+    @Param({"256"})
+    private int batchSize;
+    
+    private CourierGrid grid;
+    private BatchMatcher matcher;
+    private DispatchRequest[] requests;
+    private List<DispatchRequest> batch;
+    private List<Assignment> assigned;
+    private List<DispatchRequest> unmatched;
+    private double[] courierX;
+    private double[] courierY;
+    private boolean[] busy;
+    private double[] pickupX;
+    private double[] pickupY;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        grid = new CourierGrid(CENTER, RADIUS_KM, 0.5);
+        grid.addCouriers(couriers, new SplittableRandom(42));
+        matcher = new BatchMatcher(grid, 4);
+        HashingGeocoder geocoder = new HashingGeocoder(CENTER, RADIUS_KM);
+        requests = new DispatchRequest[REQUESTS];
+        pickupX = new double[REQUESTS];
+        pickupY = new double[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            Location pickup = geocoder.locate("Restaurant " + (i % 500));
+            requests[i] = new DispatchRequest("ORD" + i, pickup, geocoder.locate(i + " Main Street"), null);
+            pickupX[i] = projectX(pickup);
+            pickupY[i] = projectY(pickup);
+        }
+        courierX = new double[couriers];
+        courierY = new double[couriers];
+        busy = new boolean[couriers];
+        for (int c = 0; c < couriers; c++) {
+            Location location = grid.getLocation(c);
+            courierX[c] = projectX(location);
+            courierY[c] = projectY(location);
+        }
+        batch = new ArrayList<>(batchSize);
+        assigned = new ArrayList<>(batchSize);
+        unmatched = new ArrayList<>();
+    }
+    
+    @Benchmark
+    public int gridBatchMatch() {
+        batch.clear();
+        int start = nextBatch();
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(requests[start + i]);
+        }
+        assigned.clear();
+        unmatched.clear();
+        int matched = matcher.match(batch, assigned, unmatched);
+        for (int i = 0; i < assigned.size(); i++) {
+            Assignment assignment = assigned.get(i);
+            grid.release(assignment.getCourier(), assignment.getCourierLocation());
+        }
+        return matched;
+    }
+    
+    @Benchmark
+    public int bruteForceMatch() {
+        int start = nextBatch();
+        int[] chosen = new int[batchSize];
+        int matched = 0;
+        for (int i = 0; i < batchSize; i++) {
+            double x = pickupX[start + i];
+            double y = pickupY[start + i];
+            int best = -1;
+            double bestDistance = Double.MAX_VALUE;
+            for (int c = 0; c < couriers; c++) {
+                if (busy[c]) {
+                    continue;
+                }
+                double dx = courierX[c] - x;
+                double dy = courierY[c] - y;
+                double distance = dx * dx + dy * dy;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = c;
+                }
+            }
+            if (best >= 0) {
+                busy[best] = true;
+                chosen[matched++] = best;
+            }
+        }
+        for (int i = 0; i < matched; i++) {
+            busy[chosen[i]] = false;
+        }
+        return matched;
+    }
+    
+    private int nextBatch() {
+        int start = next;
+        next = (next + batchSize) % (REQUESTS - batchSize);
+        return start;
+    }
+    
+    private static double projectX(Location location) {
+        return (location.getLongitude() - CENTER.getLongitude()) * 111.320 * Math.cos(Math.toRadians(CENTER.getLatitude()));
+    }
+    
+    private static double projectY(Location location) {
+        return (location.getLatitude() - CENTER.getLatitude()) * 110.574;
+    }
+}
\ No newline at end of file
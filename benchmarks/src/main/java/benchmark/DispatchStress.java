@@ -0,0 +1,96 @@
+package benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import dispatch.CourierGrid;
+import dispatch.DispatchEngine;
+import dispatch.DispatchListener;
+import dispatch.DispatchRequest;
+import dispatch.HashingGeocoder;
+import dispatch.Location;
+import metrics.Histogram;
+import metrics.HistogramSnapshot;
+
+public class DispatchStress {
+    private static final int COURIERS = 50_000;
+    private static final int REQUESTS = 40_000;
+    private static final int REQUESTS_PER_SECOND = 10_000;
+    
+    public static void main(String[] args) throws InterruptedException {
+        Location center = new Location(40.7128, -74.0060);
+        CourierGrid grid = new CourierGrid(center, 10, 0.5);
+        grid.addCouriers(COURIERS, new SplittableRandom(7));
+        DispatchEngine engine = new DispatchEngine(grid, 4, 50, 4096);
+        HashingGeocoder geocoder = new HashingGeocoder(center, 10);
+        ScheduledExecutorService deliveries = Executors.newSingleThreadScheduledExecutor();
+        AtomicIntegerArray assignments = new AtomicIntegerArray(REQUESTS);
+        AtomicIntegerArray busy = new AtomicIntegerArray(COURIERS);
+        AtomicLong doubleBooked = new AtomicLong();
+        AtomicLong totalMetres = new AtomicLong();
+        Histogram waits = new Histogram();
+        DispatchListener listener = assignment -> {
+            waits.record(System.nanoTime() - assignment.getRequest().getRequestedNanos());
+            assignments.incrementAndGet(Integer.parseInt(assignment.getRequest().getOrderId()));
+            totalMetres.addAndGet(Math.round(assignment.getPickupDistanceKm() * 1000));
+            if (busy.getAndSet(assignment.getCourier(), 1) != 0) {
+                doubleBooked.incrementAndGet();
+            }
+            deliveries.schedule(() -> {
+                busy.set(assignment.getCourier(), 0);
+                engine.complete(assignment);
+            }, ThreadLocalRandom.current().nextInt(1000, 3000), TimeUnit.MILLISECONDS);
+        };
+        engine.start();
+        long begin = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            Location pickup = geocoder.locate("Restaurant " + (i % 2000));
+            engine.request(new DispatchRequest(Integer.toString(i), pickup, geocoder.locate(i + " Main Street"), listener));
+            if (i % 100 == 99) {
+                long due = begin + (i + 1) * 1_000_000_000L / REQUESTS_PER_SECOND;
+                long sleepNanos = due - System.nanoTime();
+                if (sleepNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                }
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (engine.getAssignedCount() < REQUESTS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long elapsed = System.nanoTime() - begin;
+        engine.stop();
+        deliveries.shutdownNow();
+        
+        long lost = 0;
+        long duplicated = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            int count = assignments.get(i);
+            if (count == 0) {
+                lost++;
+            } else if (count > 1) {
+                duplicated += count - 1;
+            }
+        }
+        System.out.println("Couriers: " + COURIERS + ", requests: " + REQUESTS + ", rounds: " + engine.getRoundCount() +
+                           ", elapsed ms: " + elapsed / 1_000_000);
+        System.out.println("Assignments/s: " + String.format("%.0f", engine.getAssignedCount() * 1e9 / elapsed));
+        System.out.println("Mean pickup distance km: " +
+                           String.format("%.3f", totalMetres.get() / 1000.0 / Math.max(engine.getAssignedCount(), 1)));
+        HistogramSnapshot waitTimes = waits.snapshot();
+        System.out.println("Assignment wait ms p50: " + waitTimes.percentileNanos(50) / 1_000_000 +
+                           ", p99: " + waitTimes.percentileNanos(99) / 1_000_000);
+        System.out.println("Unassigned requests: " + lost);
+        System.out.println("Duplicated assignments: " + duplicated);
+        System.out.println("Double-booked couriers: " + doubleBooked.get());
+        boolean passed = lost == 0 && duplicated == 0 && doubleBooked.get() == 0;
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
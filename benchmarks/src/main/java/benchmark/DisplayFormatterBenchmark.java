@@ -0,0 +1,65 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.ConsoleWriter;
+import util.DisplayFormatter;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayFormatterBenchmark {
+    private static final int PRICE_COUNT = 1024;
+    
+    private static final int MENU_LINES = 200;
+    
+    private long[] prices;
+    private int index;
+    private PrintStream sink;
+    private ConsoleWriter writer;
+    
+    @Setup
+    public void setUp() {
+        prices = new long[PRICE_COUNT];
+        for (int i = 0; i < PRICE_COUNT; i++) {
+            prices[i] = i * 137 % 10000;
+        }
+        sink = new PrintStream(OutputStream.nullOutputStream());
+        writer = new ConsoleWriter(sink);
+    }
+    
+    @Benchmark
+    public String formatPrice() {
+        index = (index + 1) & (PRICE_COUNT - 1);
+        return DisplayFormatter.formatPrice(prices[index]);
+    }
+    
+    @Benchmark
+    public void renderMenuWithPrintln() {
+        for (int i = 0; i < MENU_LINES; i++) {
+            sink.println((i + 1) + ". Dish " + i + " - $" + DisplayFormatter.formatPrice(prices[i]));
+        }
+    }
+    
+    @Benchmark
+    public void renderMenuWithConsoleWriter() {
+        for (int i = 0; i < MENU_LINES; i++) {
+            writer.print(i + 1).print(". Dish ").print(i).print(" - $").price(prices[i]).println();
+        }
+        writer.flush();
+    }
+}
\ No newline at end of file
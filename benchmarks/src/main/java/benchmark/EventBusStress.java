@@ -0,0 +1,128 @@
+package benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import event.BlockingWaitStrategy;
+import event.EventConsumer;
+import event.OrderEventBus;
+import event.OrderEventType;
+import event.SleepingWaitStrategy;
+import event.WaitStrategy;
+import order.Order;
+import order.OrderState;
+import user.User;
+
+public class EventBusStress {
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 1_000_000;
+    private static final long PRODUCER_STRIDE = 1_000_000_000L;
+    private static final int BUFFER_SIZE = 1024;
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    
+    public static void main(String[] args) throws InterruptedException {
+        boolean passed = run("blocking", new BlockingWaitStrategy(), false);
+        passed &= run("sleeping with slow consumer", new SleepingWaitStrategy(50_000), true);
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    private static boolean run(String label, WaitStrategy waitStrategy, boolean withSlowConsumer)
+        throws InterruptedException {
+        OrderEventBus bus = new OrderEventBus(BUFFER_SIZE, waitStrategy);
+        long[] lastAmount = new long[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            lastAmount[p] = -1;
+        }
+        AtomicLong torn = new AtomicLong();
+        AtomicLong received = new AtomicLong();
+        EventConsumer checker = bus.subscribe("checker", (event, sequence, endOfBatch) -> {
+            int producer = (int) (event.getAmount() / PRODUCER_STRIDE);
+            if (producer < 0 || producer >= PRODUCERS || event.getAmount() <= lastAmount[producer] ||
+                !event.getOrderId().equals("P" + producer)) {
+                torn.incrementAndGet();
+            } else {
+                lastAmount[producer] = event.getAmount();
+            }
+            received.incrementAndGet();
+        });
+        AtomicLong otherReceived = new AtomicLong();
+        EventConsumer other = bus.subscribe(withSlowConsumer ? "slow" : "counter", (event, sequence, endOfBatch) -> {
+            otherReceived.incrementAndGet();
+            if (withSlowConsumer) {
+                LockSupport.parkNanos(100_000);
+            }
+        });
+        EventConsumer[] gating = withSlowConsumer ? new EventConsumer[] {checker}
+            : new EventConsumer[] {checker, other};
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Order order = new Order("P" + p, new User("Stress User"));
+            producers[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                    while (lagOf(gating) > BUFFER_SIZE / 2) {
+                        Thread.yield();
+                    }
+                    bus.publish(OrderEventType.STATUS_CHANGED, order, OrderState.PLACED, OrderState.PREPARING,
+                                producer * PRODUCER_STRIDE + i);
+                }
+            });
+            producers[p].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long published = bus.getPublishedCount();
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        boolean drained = true;
+        while (checker.getSequence() < published || other.getSequence() < published) {
+            if (System.nanoTime() - deadline > 0) {
+                drained = false;
+                break;
+            }
+            Thread.sleep(10);
+        }
+        bus.shutdown();
+        
+        System.out.println(label + ": published " + published + " events in " + elapsed / 1_000_000 + " ms (" +
+                           elapsed / published + " ns/event across " + PRODUCERS + " producers)");
+        System.out.println("  checker: received " + received.get() + ", lost " + checker.getLostCount() +
+                           ", torn or out of order " + torn.get());
+        System.out.println("  " + other.getName() + ": received " + otherReceived.get() + ", lost " +
+                           other.getLostCount());
+        if (!drained) {
+            System.out.println("  consumers did not catch up within " +
+                               TimeUnit.NANOSECONDS.toSeconds(DRAIN_TIMEOUT_NANOS) + " s");
+        }
+        boolean passed = drained && torn.get() == 0 &&
+                         received.get() == published && checker.getLostCount() == 0 &&
+                         otherReceived.get() + other.getLostCount() == published;
+        if (withSlowConsumer) {
+            passed &= other.getLostCount() > 0 && other.getLostCount() <= published - (BUFFER_SIZE - 1);
+        } else {
+            passed &= other.getLostCount() == 0;
+        }
+        return passed;
+    }
+    
+    private static long lagOf(EventConsumer[] consumers) {
+        long lag = 0;
+        for (EventConsumer consumer : consumers) {
+            lag = Math.max(lag, consumer.getLag());
+        }
+        return lag;
+    }
+}
\ No newline at end of file
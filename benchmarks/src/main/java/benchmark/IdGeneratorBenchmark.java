@@ -0,0 +1,65 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import id.Base32;
+import id.SnowflakeIdGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+    private SnowflakeIdGenerator generator;
+    private SnowflakeIdGenerator microsecondClock;
+    
+    @Setup
+    public void setUp() {
+        generator = new SnowflakeIdGenerator(1);
+        microsecondClock = new SnowflakeIdGenerator(1, 0, () -> System.nanoTime() / 1000);
+    }
+    
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public long nextIdContended() {
+        return generator.nextId();
+    }
+    
+    @Benchmark
+    public long nextIdUnthrottled() {
+        return microsecondClock.nextId();
+    }
+    
+    @Benchmark
+    public String nextIdBase32() {
+        return Base32.encode(generator.nextId());
+    }
+    
+    @Benchmark
+    public String timestampId() {
+        return "ORD" + System.currentTimeMillis();
+    }
+    
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+}
\ No newline at end of file
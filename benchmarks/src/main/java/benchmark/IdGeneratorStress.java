@@ -0,0 +1,92 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import id.Base32;
+import id.SnowflakeIdGenerator;
+
+public class IdGeneratorStress {
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 2_000_000;
+    
+    public static void main(String[] args) throws InterruptedException {
+        SnowflakeIdGenerator wallClock = new SnowflakeIdGenerator(7);
+        boolean passed = run("wall clock", wallClock);
+        
+        AtomicLong fakeTime = new AtomicLong(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS + 1_000_000);
+        AtomicLong reads = new AtomicLong();
+        SnowflakeIdGenerator steppingClock = new SnowflakeIdGenerator(7, SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS, () -> {
+            long read = reads.incrementAndGet();
+            if (read % 500_000 == 0) {
+                return fakeTime.addAndGet(-250);
+            }
+            return read % 1_000 == 0 ? fakeTime.incrementAndGet() : fakeTime.get();
+        });
+        passed &= run("clock stepping backwards", steppingClock);
+        passed &= steppingClock.getIdsAheadOfClock() > 0;
+        
+        long sample = wallClock.nextId();
+        boolean roundTrips = Base32.decode(Base32.encode(sample)) == sample &&
+                             Base32.decode(Base32.encode(-1L)) == -1L && Base32.decode(Base32.encode(0L)) == 0L &&
+                             SnowflakeIdGenerator.nodeOf(sample) == 7;
+        System.out.println("Sample id: " + sample + " = " + Base32.encode(sample) + ", issued " +
+                           (System.currentTimeMillis() - wallClock.timestampMillisOf(sample)) + " ms ago");
+        System.out.println("Base-32 round trips: " + roundTrips);
+        passed &= roundTrips;
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    private static boolean run(String label, SnowflakeIdGenerator generator) throws InterruptedException {
+        long[][] issued = new long[THREADS][IDS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            long[] ids = issued[t];
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = generator.nextId();
+                }
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        
+        long nonMonotonic = 0;
+        long[] all = new long[THREADS * IDS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            long[] ids = issued[t];
+            for (int i = 1; i < ids.length; i++) {
+                if (ids[i] <= ids[i - 1]) {
+                    nonMonotonic++;
+                }
+            }
+            System.arraycopy(ids, 0, all, t * IDS_PER_THREAD, IDS_PER_THREAD);
+        }
+        Arrays.sort(all);
+        long duplicates = 0;
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                duplicates++;
+            }
+        }
+        System.out.println(label + ": " + all.length + " ids on " + THREADS + " threads in " + elapsed / 1_000_000 +
+                           " ms (" + String.format("%.1f", all.length / (elapsed / 1e9) / 1e6) + " M ids/s)");
+        System.out.println("  duplicates: " + duplicates + ", non-monotonic per thread: " + nonMonotonic +
+                           ", ids ahead of clock: " + generator.getIdsAheadOfClock());
+        return duplicates == 0 && nonMonotonic == 0;
+    }
+}
\ No newline at end of file
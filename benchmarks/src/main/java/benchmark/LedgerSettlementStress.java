@@ -0,0 +1,152 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import journal.FsyncPolicy;
+import ledger.LedgerEntryType;
+import ledger.PaymentLedger;
+import ledger.SettlementJob;
+import ledger.SettlementReport;
+import money.Money;
+import payment.PaymentMethod;
+
+public class LedgerSettlementStress {
+    private static final int PAYMENTS = 20_000_000;
+    private static final int RESTAURANTS = 2000;
+    private static final int COMMIT_EVERY = 4096;
+    private static final PaymentMethod[] METHODS = PaymentMethod.values();
+    
+    public static void main(String[] args) throws IOException {
+        int payments = args.length > 0 ? Integer.parseInt(args[0]) : PAYMENTS;
+        Path directory = Files.createTempDirectory("ledger-settlement-stress");
+        Path ledgerDir = directory.resolve("ledger");
+        Path outputDir = directory.resolve("settlements");
+        String[] restaurants = new String[RESTAURANTS];
+        for (int i = 0; i < RESTAURANTS; i++) {
+            restaurants[i] = i % 97 == 0 ? "Kitchen, No. " + i : "Kitchen " + i;
+        }
+        long[] expectedNet = new long[RESTAURANTS * METHODS.length];
+        long[] expectedAuthorized = new long[METHODS.length];
+        long[] expectedRefunded = new long[METHODS.length];
+        SplittableRandom random = new SplittableRandom(22);
+        boolean passed = true;
+        
+        for (int batch = 1; batch <= 2; batch++) {
+            int count = batch == 1 ? payments : Math.max(payments / 20, 1);
+            Arrays.fill(expectedNet, 0);
+            Arrays.fill(expectedAuthorized, 0);
+            Arrays.fill(expectedRefunded, 0);
+            PaymentLedger ledger = new PaymentLedger(ledgerDir, FsyncPolicy.NEVER, 1000, 256L * 1024 * 1024);
+            long begin = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                int restaurant = random.nextInt(RESTAURANTS);
+                int method = random.nextInt(METHODS.length);
+                long amount = 500 + random.nextInt(10_000);
+                ledger.append(LedgerEntryType.AUTHORIZATION, METHODS[method], restaurants[restaurant], i, amount);
+                expectedAuthorized[method] += amount;
+                expectedNet[restaurant * METHODS.length + method] += amount;
+                if (random.nextInt(100) < 3) {
+                    long refund = amount / 2;
+                    ledger.append(LedgerEntryType.REFUND, METHODS[method], restaurants[restaurant], i, refund);
+                    expectedRefunded[method] += refund;
+                    expectedNet[restaurant * METHODS.length + method] -= refund;
+                }
+                if (i % COMMIT_EVERY == COMMIT_EVERY - 1) {
+                    ledger.commit();
+                }
+            }
+            ledger.close();
+            long writeMillis = (System.nanoTime() - begin) / 1_000_000;
+            System.out.println("Batch " + batch + ": appended " + count + " payments (" + ledger.getRecordsWritten() +
+                               " records) in " + writeMillis + " ms");
+            
+            System.gc();
+            resetPeakHeap();
+            SettlementReport report = new SettlementJob(ledgerDir, outputDir).run();
+            long peakHeapMb = peakHeapBytes() / (1024 * 1024);
+            double seconds = report.getElapsedNanos() / 1e9;
+            System.out.println(report);
+            System.out.println(String.format("  %.1f M records/s, %.0f MB/s, peak heap MB: %d",
+                                             report.getRecords() / seconds / 1e6,
+                                             report.getBytes() / seconds / (1024 * 1024), peakHeapMb));
+            
+            boolean totalsMatch = report.getRecords() == ledger.getRecordsWritten() && report.getCorruptRecords() == 0;
+            for (PaymentMethod method : METHODS) {
+                totalsMatch &= report.getAuthorized(method) == expectedAuthorized[method.ordinal()] &&
+                               report.getRefunded(method) == expectedRefunded[method.ordinal()];
+            }
+            long[] settledNet = readNet(report.getBatchFile(), restaurants);
+            boolean rowsMatch = Arrays.equals(settledNet, expectedNet);
+            System.out.println("  totals match: " + totalsMatch + ", per-restaurant rows match: " + rowsMatch);
+            passed &= totalsMatch && rowsMatch && report.getBatchNumber() == batch;
+        }
+        SettlementReport empty = new SettlementJob(ledgerDir, outputDir).run();
+        System.out.println("Re-run without new records: " + empty);
+        passed &= empty.getBatchFile() == null;
+        
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    private static long[] readNet(Path batchFile, String[] restaurants) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < restaurants.length; i++) {
+            String name = restaurants[i];
+            ids.put(name.indexOf(',') >= 0 ? "\"" + name + "\"" : name, i);
+        }
+        long[] net = new long[restaurants.length * METHODS.length];
+        try (BufferedReader reader = Files.newBufferedReader(batchFile, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int methodStart = line.startsWith("\"") ? line.indexOf('"', 1) + 2 : line.indexOf(',') + 1;
+                String restaurant = line.substring(0, methodStart - 1);
+                if (restaurant.equals("ALL")) {
+                    continue;
+                }
+                String[] fields = line.substring(methodStart).split(",");
+                int method = 0;
+                while (!METHODS[method].getLabel().equals(fields[0])) {
+                    method++;
+                }
+                net[ids.get(restaurant) * METHODS.length + method] = Money.parse(fields[5]);
+            }
+        }
+        return net;
+    }
+    
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+    
+    private static long peakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
\ No newline at end of file
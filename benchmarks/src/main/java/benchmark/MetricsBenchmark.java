@@ -0,0 +1,78 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import metrics.Counter;
+import metrics.Histogram;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    private Histogram histogram;
+    private Histogram unstripedHistogram;
+    private Counter counter;
+    private AtomicLong atomicCounter;
+    private long value;
+    
+    @Setup
+    public void setUp() {
+        histogram = new Histogram();
+        unstripedHistogram = new Histogram(1);
+        counter = new Counter();
+        atomicCounter = new AtomicLong();
+    }
+    
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(nextValue());
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void histogramRecordContended() {
+        histogram.record(nextValue());
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void unstripedHistogramRecordContended() {
+        unstripedHistogram.record(nextValue());
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void counterIncrementContended() {
+        counter.increment();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public long atomicIncrementContended() {
+        return atomicCounter.incrementAndGet();
+    }
+    
+    @Benchmark
+    public long histogramSnapshot() {
+        return histogram.snapshot().percentileNanos(99);
+    }
+    
+    private long nextValue() {
+        value = value * 6364136223846793005L + 1442695040888963407L;
+        return (value >>> 40) & 0xFFFFF;
+    }
+}
\ No newline at end of file
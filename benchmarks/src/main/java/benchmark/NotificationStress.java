@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+import notification.DropPolicy;
+import notification.InMemoryNotificationSink;
+import notification.NotificationBatch;
+import notification.NotificationDispatcher;
+import notification.NotificationSink;
+import order.OrderState;
+
+public class NotificationStress {
+    private static final int ORDERS = 50_000;
+    private static final int THREADS = 8;
+    private static final int RECIPIENTS = 4;
+    
+    public static void main(String[] args) throws InterruptedException {
+        boolean passed = true;
+        for (DropPolicy policy : DropPolicy.values()) {
+            passed &= run(policy);
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    private static boolean run(DropPolicy policy) throws InterruptedException {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1024, 64, policy);
+        InMemoryNotificationSink memory = new InMemoryNotificationSink(0);
+        dispatcher.addSink(memory);
+        InMemoryNotificationSink[] owners = new InMemoryNotificationSink[RECIPIENTS];
+        for (int r = 0; r < RECIPIENTS; r++) {
+            owners[r] = new InMemoryNotificationSink(0);
+            dispatcher.addRecipient(r, owners[r]);
+        }
+        dispatcher.addSink(new NotificationSink() {
+            @Override
+            public void deliver(NotificationBatch batch) {
+                LockSupport.parkNanos(50_000);
+            }
+        });
+        dispatcher.start();
+        OrderState[] states = OrderState.values();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] producers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            producers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int state = 1; state < states.length; state++) {
+                    for (int i = offset; i < ORDERS; i += THREADS) {
+                        dispatcher.publish(i % RECIPIENTS, Integer.toString(i), states[state].getLabel());
+                    }
+                }
+            });
+            producers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        long publishMillis = (System.nanoTime() - begin) / 1_000_000;
+        dispatcher.stop();
+        
+        long published = dispatcher.getPublishedCount();
+        long accounted = dispatcher.getCoalescedCount() + dispatcher.getDroppedCount() + dispatcher.getDeliveredCount();
+        long stale = 0;
+        long misrouted = 0;
+        String finalLabel = states[states.length - 1].getLabel();
+        for (int i = 0; i < ORDERS; i++) {
+            String latest = memory.getLatestStatus(Integer.toString(i));
+            if (latest != null && !latest.equals(finalLabel) && policy == DropPolicy.BLOCK) {
+                stale++;
+            }
+            for (int r = 0; r < RECIPIENTS; r++) {
+                String routed = owners[r].getLatestStatus(Integer.toString(i));
+                if (r == i % RECIPIENTS ? !Objects.equals(routed, latest) : routed != null) {
+                    misrouted++;
+                }
+            }
+        }
+        System.out.println(policy + ": published " + published + " in " + publishMillis + " ms" +
+                           ", coalesced " + dispatcher.getCoalescedCount() +
+                           ", dropped " + dispatcher.getDroppedCount() +
+                           ", delivered " + dispatcher.getDeliveredCount() +
+                           ", stale " + stale +
+                           ", misrouted " + misrouted);
+        return published == accounted && dispatcher.getPendingCount() == 0 && stale == 0 && misrouted == 0 &&
+               (policy != DropPolicy.BLOCK || dispatcher.getDroppedCount() == 0);
+    }
+}
@@ -0,0 +1,67 @@
+package benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.DishFactory;
+import order.Order;
+import order.OrderLine;
+import restaurant.Restaurant;
+import user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+    @Param({"10", "100", "1000"})
+    private int cartSize;
+    
+    @Param({"4", "64"})
+    private int distinctDishes;
+    
+    private Order order;
+    
+    @Setup
+    public void setUp() {
+        Restaurant restaurant = new Restaurant("Benchmark Kitchen");
+        for (int i = 0; i < distinctDishes; i++) {
+            restaurant.addDish(DishFactory.createDish("VEG", "Dish " + i, 5.0 + i * 0.25, "Benchmark dish " + i));
+        }
+        order = new Order("ORD-BENCH", new User("Benchmark User"));
+        for (int i = 0; i < cartSize; i++) {
+            order.addDish(restaurant.getMenu().get(i % distinctDishes), restaurant);
+        }
+    }
+    
+    @Benchmark
+    public long calculateTotal() {
+        return order.calculateTotal();
+    }
+    
+    @Benchmark
+    public Collection<OrderLine> getLines() {
+        return order.getLines();
+    }
+    
+    @Benchmark
+    public long iterateLines() {
+        long total = 0;
+        for (OrderLine line : order.getLines()) {
+            total += line.getSubtotal();
+        }
+        return total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import event.OrderEventBus;
+import event.OrderEventType;
+import event.OrderEvents;
+import order.Order;
+import order.OrderState;
+import user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OrderEventBusBenchmark {
+    @Param({"none", "fast", "slow"})
+    private String consumer;
+    
+    @Param({"blocking", "sleeping"})
+    private String waitStrategy;
+    
+    private OrderEventBus bus;
+    private Order order;
+    
+    @Setup
+    public void setUp() {
+        bus = new OrderEventBus(65536, OrderEvents.waitStrategyFor(waitStrategy));
+        order = new Order("BENCH", new User("Benchmark User"));
+        if (consumer.equals("fast")) {
+            bus.subscribe("fast", (event, sequence, endOfBatch) -> { });
+        } else if (consumer.equals("slow")) {
+            bus.subscribe("slow", (event, sequence, endOfBatch) -> LockSupport.parkNanos(10_000));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        bus.shutdown();
+    }
+    
+    @Benchmark
+    public long publish() {
+        return bus.publish(OrderEventType.STATUS_CHANGED, order, OrderState.PLACED, OrderState.PREPARING, 0);
+    }
+}
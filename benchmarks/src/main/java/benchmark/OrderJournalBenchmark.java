@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.AddOn;
+import dish.Dish;
+import dish.DishFactory;
+import dish.VariantCompiler;
+import journal.FsyncPolicy;
+import journal.JournalRecord;
+import journal.OrderJournal;
+import order.Order;
+import order.OrderState;
+import restaurant.Restaurant;
+import user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OrderJournalBenchmark {
+    @Param({"ALWAYS", "INTERVAL", "NEVER"})
+    private FsyncPolicy fsyncPolicy;
+    
+    private Path directory;
+    private OrderJournal journal;
+    private Order order;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("order-journal-bench");
+        journal = new OrderJournal(directory, fsyncPolicy, 50, 64L * 1024 * 1024, 8);
+        Restaurant restaurant = new Restaurant("Pizza Palace");
+        Dish pizza = DishFactory.createDish("VEG", "Margherita Pizza", 12.99, "Classic tomato and mozzarella");
+        order = new Order("BENCH-1", new User("Benchmark User"));
+        order.addDish(pizza, restaurant, 2);
+        order.addDish(VariantCompiler.compile(pizza, AddOn.EXTRA_CHEESE), restaurant, 1);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+    
+    @Benchmark
+    public boolean appendTransition() {
+        return journal.append(JournalRecord.transition(order.getOrderId(), OrderState.PLACED, OrderState.PREPARING));
+    }
+    
+    @Benchmark
+    public boolean appendPlaced() {
+        return journal.append(JournalRecord.placed(order));
+    }
+}
\ No newline at end of file
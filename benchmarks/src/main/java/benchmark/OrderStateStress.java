@@ -0,0 +1,113 @@
+package benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import order.Order;
+import order.OrderRegistry;
+import order.OrderState;
+import order.OrderStateListener;
+import user.User;
+
+public class OrderStateStress {
+    private static final int ORDERS = 200_000;
+    private static final int THREADS = 8;
+    
+    public static void main(String[] args) throws InterruptedException {
+        Order[] orders = new Order[ORDERS];
+        User user = new User("Stress User");
+        OrderRegistry registry = new OrderRegistry(THREADS * 4);
+        for (int i = 0; i < ORDERS; i++) {
+            orders[i] = new Order(Integer.toString(i), user);
+            registry.register(orders[i]);
+        }
+        AtomicIntegerArray transitionCounts = new AtomicIntegerArray(ORDERS);
+        AtomicIntegerArray reachedStates = new AtomicIntegerArray(ORDERS);
+        AtomicLong repeatedStates = new AtomicLong();
+        OrderStateListener listener = new OrderStateListener() {
+            @Override
+            public void onTransition(Order order, OrderState from, OrderState to) {
+                int index = Integer.parseInt(order.getOrderId());
+                transitionCounts.incrementAndGet(index);
+                int bit = 1 << to.ordinal();
+                if ((reachedStates.getAndAccumulate(index, bit, (a, b) -> a | b) & bit) != 0) {
+                    repeatedStates.incrementAndGet();
+                }
+            }
+        };
+        Order.addStateListener(listener);
+        Order.addStateListener(registry);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int round = 0; round < 6; round++) {
+                    for (int i = 0; i < ORDERS; i++) {
+                        Order order = orders[(i + random.nextInt(ORDERS)) % ORDERS];
+                        if (random.nextBoolean()) {
+                            order.advance();
+                        } else {
+                            OrderState current = order.getStatus();
+                            if (!current.isTerminal()) {
+                                order.transitionTo(current, current.next());
+                            }
+                        }
+                    }
+                }
+                for (Order order : orders) {
+                    while (order.advance() != null) {
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        Order.removeStateListener(listener);
+        Order.removeStateListener(registry);
+        
+        int expectedTransitions = OrderState.values().length - 1;
+        long lost = 0;
+        long duplicated = 0;
+        long notDelivered = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            int count = transitionCounts.get(i);
+            if (count < expectedTransitions) {
+                lost += expectedTransitions - count;
+            } else if (count > expectedTransitions) {
+                duplicated += count - expectedTransitions;
+            }
+            if (orders[i].getStatus() != OrderState.DELIVERED) {
+                notDelivered++;
+            }
+        }
+        System.out.println("Orders: " + ORDERS + ", threads: " + THREADS + ", elapsed ms: " + elapsed / 1_000_000);
+        System.out.println("Lost transitions: " + lost);
+        System.out.println("Duplicated transitions: " + duplicated);
+        System.out.println("Repeated target states: " + repeatedStates.get());
+        long misindexed = 0;
+        for (OrderState state : OrderState.values()) {
+            int expected = state == OrderState.DELIVERED ? ORDERS : 0;
+            misindexed += Math.abs(registry.countByStatus(state) - expected);
+        }
+        System.out.println("Orders not delivered: " + notDelivered);
+        System.out.println("Misindexed status entries: " + misindexed);
+        boolean passed = lost == 0 && duplicated == 0 && repeatedStates.get() == 0 && notDelivered == 0 &&
+                         misindexed == 0;
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import gateway.ChargeResult;
+import gateway.PaymentGateway;
+import gateway.PaymentOutcome;
+import gateway.PaymentProcessor;
+import gateway.PaymentRequest;
+import gateway.PaymentStatus;
+import gateway.StubPaymentProcessor;
+import metrics.Histogram;
+import metrics.HistogramSnapshot;
+import payment.CashOnDelivery;
+import payment.CreditCardPayment;
+import payment.PayPalPayment;
+import payment.PaymentMethod;
+import payment.PaymentStrategy;
+
+public class PaymentGatewayStress {
+    private static final int PAYMENTS = 20_000;
+    private static final long TIMEOUT_MILLIS = 150;
+    private static final long SLOW_PAYPAL_MILLIS = 400;
+    
+    public static void main(String[] args) throws Exception {
+        StubPaymentProcessor stub = new StubPaymentProcessor(8, 0.9, 0.05, 0.02);
+        Map<String, Set<String>> chargesByKey = new ConcurrentHashMap<>();
+        PaymentProcessor processor = request -> {
+            if (request.getMethod() == PaymentMethod.PAYPAL && ThreadLocalRandom.current().nextInt(10) == 0) {
+                TimeUnit.MILLISECONDS.sleep(SLOW_PAYPAL_MILLIS);
+            }
+            ChargeResult result = stub.charge(request);
+            if (result.isApproved()) {
+                chargesByKey.computeIfAbsent(request.getIdempotencyKey(), key -> ConcurrentHashMap.newKeySet())
+                            .add(result.getTransactionId());
+            }
+            return result;
+        };
+        PaymentGateway gateway = new PaymentGateway(processor, 32, 4096, TIMEOUT_MILLIS, 3, 20, PAYMENTS * 2);
+        PaymentStrategy[] strategies = {
+            new CreditCardPayment("4111111111111111", "Stress User"),
+            new PayPalPayment("stress@example.com"),
+            new CashOnDelivery()
+        };
+        List<CompletableFuture<PaymentOutcome>> futures = new ArrayList<>(PAYMENTS);
+        List<CompletableFuture<PaymentOutcome>> resubmitted = new ArrayList<>();
+        List<Integer> resubmittedIndexes = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (int i = 0; i < PAYMENTS; i++) {
+            PaymentRequest request = new PaymentRequest("STRESS-" + i, 500 + i % 5000, strategies[i % strategies.length]);
+            futures.add(gateway.submit(request));
+            if (i % 10 == 0) {
+                resubmitted.add(gateway.submit(request));
+                resubmittedIndexes.add(i);
+            }
+            if (i % 50 == 49) {
+                TimeUnit.MILLISECONDS.sleep(20);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(2, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        
+        Map<PaymentMethod, Histogram> latencies = new EnumMap<>(PaymentMethod.class);
+        for (PaymentMethod method : PaymentMethod.values()) {
+            latencies.put(method, new Histogram());
+        }
+        long approved = 0;
+        long approvedWithoutCharge = 0;
+        long unreconciled = 0;
+        for (CompletableFuture<PaymentOutcome> future : futures) {
+            PaymentOutcome outcome = future.join();
+            latencies.get(outcome.getMethod()).record(outcome.getElapsedNanos());
+            ChargeResult charge = stub.getCharge(outcome.getIdempotencyKey());
+            if (outcome.isApproved()) {
+                approved++;
+                if (charge == null || !charge.getTransactionId().equals(outcome.getTransactionId())) {
+                    approvedWithoutCharge++;
+                }
+            } else if (charge != null) {
+                unreconciled++;
+            }
+        }
+        long doubleCharged = 0;
+        for (Set<String> transactions : chargesByKey.values()) {
+            if (transactions.size() > 1) {
+                doubleCharged++;
+            }
+        }
+        long divergentDuplicates = 0;
+        for (int i = 0; i < resubmitted.size(); i++) {
+            if (resubmitted.get(i).join() != futures.get(resubmittedIndexes.get(i)).join()) {
+                divergentDuplicates++;
+            }
+        }
+        gateway.shutdown();
+        
+        System.out.println("Payments: " + PAYMENTS + ", elapsed ms: " + elapsed / 1_000_000);
+        for (PaymentStatus status : PaymentStatus.values()) {
+            System.out.println("  " + status + ": " + gateway.getOutcomeCount(status));
+        }
+        System.out.println("Processor calls: " + stub.getCallCount() + ", replays: " + stub.getReplayCount() +
+                           ", transient failures: " + stub.getFailureCount());
+        System.out.println("Retries: " + gateway.getRetryCount() + ", timeouts: " + gateway.getTimeoutCount() +
+                           ", rejections: " + gateway.getRejectionCount() + ", duplicates: " + gateway.getDuplicateCount());
+        for (PaymentMethod method : PaymentMethod.values()) {
+            HistogramSnapshot histogram = latencies.get(method).snapshot();
+            System.out.println(String.format("  %-17s p50 %7.1f ms  p99 %7.1f ms", method.getLabel(),
+                                             histogram.percentileNanos(50) / 1e6, histogram.percentileNanos(99) / 1e6));
+        }
+        System.out.println("Double-charged keys: " + doubleCharged);
+        System.out.println("Approved without matching charge: " + approvedWithoutCharge);
+        System.out.println("Charged after final timeout (to reconcile): " + unreconciled);
+        System.out.println("Duplicate submissions with a different outcome: " + divergentDuplicates);
+        boolean passed = doubleCharged == 0 && approvedWithoutCharge == 0 && divergentDuplicates == 0 &&
+                         stub.getChargeCount() == approved + unreconciled;
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
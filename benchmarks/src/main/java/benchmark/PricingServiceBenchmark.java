@@ -0,0 +1,78 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.Dish;
+import dish.DishFactory;
+import dish.DishType;
+import order.Order;
+import pricing.PricingQuote;
+import pricing.PricingService;
+import restaurant.Restaurant;
+import user.User;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingServiceBenchmark {
+    private static final int BATCH_SIZE = 4096;
+    
+    private PricingService service;
+    private Order cart;
+    private Dish extra;
+    private Restaurant restaurant;
+    private List<Order> carts;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(9);
+        service = new PricingService(PricingService.standardOptions());
+        restaurant = new Restaurant("Benchmark Kitchen");
+        DishType[] types = DishType.values();
+        User user = new User("Benchmark User");
+        carts = new ArrayList<>(BATCH_SIZE);
+        for (int c = 0; c < BATCH_SIZE; c++) {
+            Order order = new Order("BENCH-" + c, user);
+            for (int i = 0; i < 5; i++) {
+                order.addDish(DishFactory.createDish(types[random.nextInt(types.length)], "Dish " + random.nextInt(50),
+                                                     500L + random.nextInt(2000), ""), restaurant, 1 + random.nextInt(3));
+            }
+            carts.add(order);
+        }
+        cart = carts.get(0);
+        extra = DishFactory.createDish(DishType.VEG, "Extra Dish", 350L, "");
+    }
+    
+    @Benchmark
+    public long cachedQuote() {
+        return service.quote(cart).getFinalPrice();
+    }
+    
+    @Benchmark
+    public long quoteAfterMutation() {
+        cart.addDish(extra, restaurant);
+        PricingQuote quote = service.quote(cart);
+        cart.removeDishQuantity(extra, restaurant, 1);
+        return quote.getFinalPrice();
+    }
+    
+    @Benchmark
+    public int quoteBatch() {
+        return service.quoteAll(carts).size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.DishFactory;
+import dish.DishType;
+import order.Order;
+import order.OrderLine;
+import promotion.Promotion;
+import promotion.PromotionEngine;
+import promotion.PromotionScope;
+import restaurant.Restaurant;
+import user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromotionEngineBenchmark {
+    private static final int RESTAURANTS = 1000;
+    
+    @Param({"10000"})
+    private int promotions;
+    
+    private List<Promotion> rules;
+    private PromotionEngine engine;
+    private Order cart;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(5);
+        DishType[] types = DishType.values();
+        rules = new ArrayList<>(promotions);
+        for (int i = 0; i < promotions; i++) {
+            PromotionScope scope;
+            String target;
+            int pick = random.nextInt(100);
+            if (pick < 90) {
+                scope = PromotionScope.RESTAURANT;
+                target = "Restaurant " + random.nextInt(RESTAURANTS);
+            } else if (pick < 97) {
+                scope = PromotionScope.DISH_TYPE;
+                target = types[random.nextInt(types.length)].name();
+            } else {
+                scope = PromotionScope.CART;
+                target = null;
+            }
+            long minimum = random.nextInt(6000);
+            boolean exclusive = random.nextInt(4) == 0;
+            if (random.nextBoolean()) {
+                rules.add(Promotion.percentage("P" + i, "Promotion " + i, scope, target, 1 + random.nextInt(5), minimum, exclusive));
+            } else {
+                rules.add(Promotion.flat("P" + i, "Promotion " + i, scope, target, 50 + random.nextInt(300), minimum, exclusive));
+            }
+        }
+        engine = PromotionEngine.compile(rules);
+        cart = new Order("BENCH-CART", new User("Benchmark User"));
+        for (int i = 0; i < 5; i++) {
+            Restaurant restaurant = new Restaurant("Restaurant " + random.nextInt(RESTAURANTS));
+            cart.addDish(DishFactory.createDish(types[i % types.length], "Dish " + i, 500L + random.nextInt(2000), ""),
+                         restaurant, 1 + random.nextInt(2));
+        }
+    }
+    
+    @Benchmark
+    public long compiledEngine() {
+        return engine.evaluate(cart).getDiscount();
+    }
+    
+    @Benchmark
+    public long linearScan() {
+        long total = 0;
+        for (OrderLine line : cart.getLines()) {
+            total += line.getSubtotal();
+        }
+        long stacked = 0;
+        long bestExclusive = 0;
+        for (Promotion rule : rules) {
+            long subtotal = 0;
+            for (OrderLine line : cart.getLines()) {
+                if (rule.getScope() == PromotionScope.CART ||
+                    (rule.getScope() == PromotionScope.RESTAURANT && rule.getRestaurant().equals(line.getRestaurant().getName())) ||
+                    (rule.getScope() == PromotionScope.DISH_TYPE && rule.getDishType() == DishType.of(line.getDish()))) {
+                    subtotal += line.getSubtotal();
+                }
+            }
+            long discount = rule.discountOn(subtotal);
+            if (rule.isExclusive()) {
+                bestExclusive = Math.max(bestExclusive, discount);
+            } else {
+                stacked += discount;
+            }
+        }
+        return Math.max(Math.min(stacked, total), bestExclusive);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package benchmark;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import server.SessionServer;
+import util.DataInitializer;
+
+public class SessionServerStress {
+    private static final String SCRIPT = "1\n1\n1\n4\n5\n5\n2\n1\n3\nJane Doe\n1 Main St\n555 1234\n\nyes\n4\n1\n5\n";
+    
+    public static void main(String[] args) throws Exception {
+        int idleSessions = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int activeSessions = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        SessionServer server = new SessionServer(0, DataInitializer.initializeSampleData(), idleSessions + activeSessions, 0);
+        server.bind();
+        Thread acceptor = new Thread(server, "acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        InetAddress host = InetAddress.getLoopbackAddress();
+        
+        List<Socket> idle = new ArrayList<>(idleSessions);
+        for (int i = 0; i < idleSessions; i++) {
+            idle.add(new Socket(host, server.getLocalPort()));
+        }
+        while (server.getActiveSessionCount() < idleSessions) {
+            Thread.sleep(10);
+        }
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        System.out.println("Idle sessions: " + server.getActiveSessionCount() +
+                           ", live threads: " + Thread.activeCount() +
+                           ", used heap MB: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        
+        ExecutorService clients = Executors.newFixedThreadPool(32);
+        List<Future<Boolean>> results = new ArrayList<>(activeSessions);
+        long begin = System.nanoTime();
+        for (int i = 0; i < activeSessions; i++) {
+            results.add(clients.submit(() -> runScript(host, server.getLocalPort())));
+        }
+        int completed = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                completed++;
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        clients.shutdown();
+        System.out.println("Active sessions completed checkout: " + completed + "/" + activeSessions +
+                           " in " + elapsed / 1_000_000 + " ms");
+        for (Socket socket : idle) {
+            socket.close();
+        }
+        server.stop();
+        boolean passed = completed == activeSessions;
+        System.out.println(passed ? "PASSED" : "FAILED");
+        System.exit(passed ? 0 : 1);
+    }
+    
+    private static boolean runScript(InetAddress host, int port) throws Exception {
+        try (Socket socket = new Socket(host, port)) {
+            OutputStream output = socket.getOutputStream();
+            output.write(SCRIPT.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            InputStream input = socket.getInputStream();
+            String transcript = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            return transcript.contains("will be collected upon delivery") && transcript.contains("Order placed successfully!") &&
+                   transcript.contains("Thank you for using");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scheduler.Timeout;
+import scheduler.TimingWheel;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StatusSchedulerBenchmark {
+    private static final Runnable NO_OP = () -> { };
+    
+    @Param({"10000", "100000", "1000000"})
+    private int pendingOrders;
+    
+    @Param({"executor", "timing-wheel"})
+    private String engine;
+    
+    private ScheduledThreadPoolExecutor executor;
+    private TimingWheel wheel;
+    private ScheduledFuture<?>[] futures;
+    private Timeout[] timeouts;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        if (engine.equals("executor")) {
+            executor = new ScheduledThreadPoolExecutor(5);
+            executor.setRemoveOnCancelPolicy(true);
+            futures = new ScheduledFuture<?>[pendingOrders];
+        } else {
+            wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 512, 2);
+            timeouts = new Timeout[pendingOrders];
+        }
+    }
+    
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if (wheel != null) {
+            wheel.stop();
+            wheel = null;
+        }
+    }
+    
+    @Benchmark
+    public void scheduleAndCancel() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (executor != null) {
+            for (int i = 0; i < pendingOrders; i++) {
+                futures[i] = executor.schedule(NO_OP, 10 + random.nextInt(111), TimeUnit.SECONDS);
+            }
+            for (int i = 0; i < pendingOrders; i++) {
+                futures[i].cancel(false);
+            }
+        } else {
+            for (int i = 0; i < pendingOrders; i++) {
+                timeouts[i] = wheel.schedule(NO_OP, 10 + random.nextInt(111), TimeUnit.SECONDS);
+            }
+            awaitBucketed(wheel);
+            for (int i = 0; i < pendingOrders; i++) {
+                timeouts[i].cancel();
+            }
+            while (wheel.getPendingCount() > 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+    
+    private static void awaitBucketed(TimingWheel wheel) {
+        while (wheel.hasPendingAdds()) {
+            Thread.onSpinWait();
+        }
+        long tick = wheel.getTickCount();
+        while (wheel.getTickCount() <= tick) {
+            Thread.onSpinWait();
+        }
+    }
+}
\ No newline at end of file
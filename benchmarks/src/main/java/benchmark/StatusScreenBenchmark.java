@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import dish.Dish;
+import dish.DishFactory;
+import order.Order;
+import order.OrderStatus;
+import user.User;
+import util.ConsoleWriter;
+import view.ScreenRenderer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusScreenBenchmark {
+    @Param({"1000", "10000"})
+    private int orders;
+    
+    @Param({"false", "true"})
+    private boolean ansi;
+    
+    private ScreenRenderer renderer;
+    private User customer;
+    
+    @Setup
+    public void setUp() {
+        Dish pizza = DishFactory.createDish("VEG", "Margherita Pizza", 10.99, "Classic margherita");
+        Dish burger = DishFactory.createDish("NON_VEG", "Classic Burger", 8.99, "Beef burger");
+        User[] customers = new User[100];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new User("Customer " + i);
+        }
+        for (int i = 0; i < orders; i++) {
+            Order order = new Order("BENCH" + i, customers[i % customers.length]);
+            order.addDish(pizza, null, 1 + i % 3);
+            order.addDish(burger, null);
+            OrderStatus.addOrder(order);
+        }
+        ConsoleWriter out = new ConsoleWriter(new PrintStream(OutputStream.nullOutputStream()));
+        renderer = new ScreenRenderer(out, ansi);
+        customer = customers[0];
+    }
+    
+    @Benchmark
+    public void redrawStatusScreen() {
+        OrderStatus.displayOrderStatus(renderer, customer);
+    }
+}
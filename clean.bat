@@ -13,6 +13,16 @@ for /r src %%f in (*.class) do (
     )
 )
 
+REM Remove Maven output directories if they exist
+if exist target (
+    echo Removing target directory...
+    rmdir /s /q target
+)
+if exist benchmarks\target (
+    echo Removing benchmarks\target directory...
+    rmdir /s /q benchmarks\target
+)
+
 REM Remove build directory if it exists
 if exist build (
     echo Removing build directory...
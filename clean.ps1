@@ -8,6 +8,14 @@ Write-Host ""
 Write-Host "Removing .class files from source directory..."
 Get-ChildItem -Path src -Include *.class -Recurse -ErrorAction SilentlyContinue | Remove-Item -Verbose -ErrorAction SilentlyContinue
 
+# Remove Maven output directories if they exist
+foreach ($dir in @("target", "benchmarks\target")) {
+    if (Test-Path $dir) {
+        Write-Host "Removing $dir directory..."
+        Remove-Item -Path $dir -Recurse -Force
+    }
+}
+
 # Remove build directory if it exists
 if (Test-Path build) {
     Write-Host "Removing build directory..."
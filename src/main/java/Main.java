@@ -1,98 +1,127 @@
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 import config.AppConfig;
+import catalog.CatalogLoadResult;
+import catalog.CatalogLoader;
+import restaurant.Catalog;
 import restaurant.Restaurant;
-import controller.RestaurantMenuController;
-import controller.ShoppingCartController;
-import payment.Payment;
+import search.DishSearchIndex;
+import controller.MainMenuController;
 import order.Order;
 import order.OrderStatus;
+import notification.ConsoleNotificationSink;
+import notification.Notification;
+import event.OrderEvents;
+import dispatch.Dispatch;
+import id.Ids;
+import ledger.Ledgers;
+import ledger.SettlementJob;
+import metrics.Metrics;
 import user.User;
 import util.DataInitializer;
-import util.InputHandler;
+import util.ConsoleWriter;
+import view.ScreenRenderer;
+import server.SessionServer;
+import simulation.LoadSimulator;
+import simulation.SimulationConfig;
 
 public class Main {
     private static List<Restaurant> restaurants;
-    private static Scanner scanner;
-    private static Order currentOrder;
+    private static Path catalogFile;
     
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length > 1 && args[0].equals("--catalog")) {
+            catalogFile = Paths.get(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+        if (args.length > 0 && args[0].equals("--simulate")) {
+            runSimulation(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--settle")) {
+            runSettlement(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            runServer(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         AppConfig config = AppConfig.getInstance();
-        System.out.println("========================================");
-        System.out.println("Welcome to " + config.getAppName());
-        System.out.println("Version: " + config.getVersion());
-        System.out.println("========================================\n");
-        restaurants = DataInitializer.initializeSampleData();
+        ConsoleWriter out = new ConsoleWriter(System.out);
+        ScreenRenderer renderer = new ScreenRenderer(out, config.isAnsiScreens());
+        out.println("========================================");
+        out.print("Welcome to ").println(config.getAppName());
+        out.print("Version: ").println(config.getVersion());
+        out.println("========================================\n").flush();
+        loadData();
         User defaultUser = new User("Guest User");
-        currentOrder = new Order("ORD001", defaultUser);
-        scanner = new Scanner(System.in);
-        RestaurantMenuController restaurantController = new RestaurantMenuController(restaurants, currentOrder, scanner);
-        ShoppingCartController cartController = new ShoppingCartController(currentOrder, scanner);
-        boolean running = true;
-        while (running) {
-            displayMenu();
-            int choice = InputHandler.readInt(scanner, "");
-            if (choice == -1) {
-                continue;
-            }
-            switch (choice) {
-                case 1:
-                    restaurantController.browseRestaurants();
-                    break;
-                case 2:
-                    placeOrder();
-                    break;
-                case 3:
-                    cartController.checkShoppingCart();
-                    break;
-                case 4:
-                    checkOrderStatus();
-                    break;
-                case 5:
-                    System.out.println("Thank you for using " + config.getAppName() + "!");
-                    running = false;
-                    break;
-                default:
-                    System.out.println("Invalid choice. Please try again.\n");
-            }
-        }
-        OrderStatus.shutdown();
+        Order currentOrder = new Order(Ids.next("ORD"), defaultUser);
+        Notification.getDispatcher().addRecipient(defaultUser.getId(),
+            new ConsoleNotificationSink(new ConsoleWriter(System.out), renderer::invalidate));
+        Scanner scanner = new Scanner(System.in);
+        new MainMenuController(restaurants, new DishSearchIndex(restaurants), new Catalog(restaurants), currentOrder,
+                               scanner, renderer).run();
+        shutdown();
         scanner.close();
     }
     
-    private static void displayMenu() {
-        System.out.println("\n=== Main Menu ===");
-        System.out.println("1. Browse Restaurants");
-        System.out.println("2. Place Order");
-        System.out.println("3. Check Shopping Cart");
-        System.out.println("4. Check Order Status");
-        System.out.println("5. Exit");
-        System.out.print("\nEnter your choice: ");
+    private static void runSimulation(String[] options) throws InterruptedException {
+        SimulationConfig simulationConfig = SimulationConfig.fromArgs(options);
+        loadData();
+        new LoadSimulator(restaurants, simulationConfig).run();
+        shutdown();
     }
     
-    private static void placeOrder() {
-        if (currentOrder.getItemCount() == 0) {
-            System.out.println("\nCart is empty.");
-            System.out.println();
+    private static void runServer(String[] options) {
+        AppConfig config = AppConfig.getInstance();
+        int port = options.length > 0 ? Integer.parseInt(options[0]) : config.getServerPort();
+        loadData();
+        SessionServer server = new SessionServer(port, restaurants, config.getServerMaxSessions(),
+                                                 config.getServerIdleTimeoutMillis());
+        Metrics.gauge("server.sessions.active", server::getActiveSessionCount);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            shutdown();
+        }));
+        server.run();
+    }
+    
+    private static void runSettlement(String[] options) {
+        AppConfig config = AppConfig.getInstance();
+        if (config.getLedgerDir() == null) {
+            System.out.println("Set app.ledger.dir to the payment ledger to settle.");
             return;
         }
-        Payment.displayPaymentWindow(currentOrder, scanner);
+        Path ledgerDir = Paths.get(config.getLedgerDir());
+        Path outputDir = options.length > 0 ? Paths.get(options[0]) : ledgerDir.resolve("settlements");
+        System.out.println(new SettlementJob(ledgerDir, outputDir).run());
     }
     
-    private static void checkOrderStatus() {
-        boolean viewingStatus = true;
-        while (viewingStatus) {
-            OrderStatus.displayOrderStatus();
-            int choice = InputHandler.readInt(scanner, "");
-            if (choice == -1) {
-                continue;
-            }
-            if (choice == 1) {
-                viewingStatus = false;
-                System.out.println();
-            } else {
-                System.out.println("Invalid choice. Please try again.\n");
-            }
+    private static void loadData() {
+        if (catalogFile != null) {
+            AppConfig config = AppConfig.getInstance();
+            CatalogLoader loader = new CatalogLoader(config.getCatalogParallelism(), config.getCatalogChunkLines());
+            CatalogLoadResult result = loader.load(catalogFile);
+            restaurants = result.getRestaurants();
+            System.out.println("Catalog loaded: " + result + "\n");
+        } else {
+            restaurants = DataInitializer.initializeSampleData();
         }
+        int recovered = OrderStatus.recover(restaurants);
+        if (recovered > 0) {
+            System.out.println("Recovered " + recovered + " orders from the journal.\n");
+        }
+    }
+    
+    private static void shutdown() {
+        Dispatch.shutdown();
+        OrderStatus.shutdown();
+        OrderEvents.shutdown();
+        Notification.shutdown();
+        Ledgers.shutdown();
+        Metrics.shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package catalog;
+
+import java.nio.file.Path;
+
+public enum CatalogFormat {
+    CSV,
+    JSON_LINES;
+    
+    public static CatalogFormat forPath(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json")) {
+            return JSON_LINES;
+        }
+        throw new IllegalArgumentException("Unsupported catalog file: " + file);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+package catalog;
+
+class CatalogLineParser {
+    static final int RESTAURANT = 0;
+    static final int TYPE = 1;
+    static final int NAME = 2;
+    static final int PRICE = 3;
+    static final int DESCRIPTION = 4;
+    static final int FIELD_COUNT = 5;
+    
+    private static final String[] JSON_KEYS = {"restaurant", "type", "name", "price", "description"};
+    
+    private StringBuilder field;
+    private int position;
+    
+    CatalogLineParser() {
+        this.field = new StringBuilder(64);
+    }
+    
+    static boolean isCsvHeader(String line) {
+        return line.regionMatches(true, 0, "restaurant,", 0, "restaurant,".length());
+    }
+    
+    void parseCsv(String line, String[] fields) {
+        int count = 0;
+        position = 0;
+        while (true) {
+            if (count == FIELD_COUNT) {
+                throw new IllegalArgumentException("expected " + FIELD_COUNT + " fields");
+            }
+            fields[count++] = csvField(line);
+            if (position >= line.length()) {
+                break;
+            }
+            position++;
+        }
+        if (count < FIELD_COUNT - 1) {
+            throw new IllegalArgumentException("expected " + FIELD_COUNT + " fields");
+        }
+        if (count == FIELD_COUNT - 1) {
+            fields[DESCRIPTION] = "";
+        }
+    }
+    
+    void parseJson(String line, String[] fields) {
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            fields[i] = null;
+        }
+        position = 0;
+        skipWhitespace(line);
+        expect(line, '{');
+        skipWhitespace(line);
+        if (peek(line) == '}') {
+            position++;
+        } else {
+            while (true) {
+                skipWhitespace(line);
+                String key = jsonString(line);
+                skipWhitespace(line);
+                expect(line, ':');
+                skipWhitespace(line);
+                String value = peek(line) == '"' ? jsonString(line) : jsonLiteral(line);
+                for (int i = 0; i < FIELD_COUNT; i++) {
+                    if (JSON_KEYS[i].equals(key)) {
+                        fields[i] = value;
+                    }
+                }
+                skipWhitespace(line);
+                char next = peek(line);
+                position++;
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    throw new IllegalArgumentException("expected ',' or '}' at column " + position);
+                }
+            }
+        }
+        skipWhitespace(line);
+        if (position != line.length()) {
+            throw new IllegalArgumentException("unexpected content at column " + (position + 1));
+        }
+        if (fields[DESCRIPTION] == null) {
+            fields[DESCRIPTION] = "";
+        }
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (fields[i] == null) {
+                throw new IllegalArgumentException("missing \"" + JSON_KEYS[i] + "\"");
+            }
+        }
+    }
+    
+    private String csvField(String line) {
+        if (position < line.length() && line.charAt(position) == '"') {
+            field.setLength(0);
+            position++;
+            while (true) {
+                if (position >= line.length()) {
+                    throw new IllegalArgumentException("unterminated quoted field");
+                }
+                char c = line.charAt(position++);
+                if (c == '"') {
+                    if (position < line.length() && line.charAt(position) == '"') {
+                        field.append('"');
+                        position++;
+                    } else {
+                        break;
+                    }
+                } else {
+                    field.append(c);
+                }
+            }
+            if (position < line.length() && line.charAt(position) != ',') {
+                throw new IllegalArgumentException("unexpected character after quoted field at column " + (position + 1));
+            }
+            return field.toString();
+        }
+        int start = position;
+        int end = line.indexOf(',', start);
+        if (end < 0) {
+            end = line.length();
+        }
+        position = end;
+        return line.substring(start, end).trim();
+    }
+    
+    private String jsonString(String line) {
+        expect(line, '"');
+        field.setLength(0);
+        while (true) {
+            if (position >= line.length()) {
+                throw new IllegalArgumentException("unterminated string");
+            }
+            char c = line.charAt(position++);
+            if (c == '"') {
+                return field.toString();
+            }
+            if (c != '\\') {
+                field.append(c);
+                continue;
+            }
+            if (position >= line.length()) {
+                throw new IllegalArgumentException("unterminated escape");
+            }
+            char escaped = line.charAt(position++);
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    field.append(escaped);
+                    break;
+                case 'b':
+                    field.append('\b');
+                    break;
+                case 'f':
+                    field.append('\f');
+                    break;
+                case 'n':
+                    field.append('\n');
+                    break;
+                case 'r':
+                    field.append('\r');
+                    break;
+                case 't':
+                    field.append('\t');
+                    break;
+                case 'u':
+                    if (position + 4 > line.length()) {
+                        throw new IllegalArgumentException("truncated unicode escape");
+                    }
+                    try {
+                        field.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("invalid unicode escape at column " + position);
+                    }
+                    position += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid escape at column " + position);
+            }
+        }
+    }
+    
+    private String jsonLiteral(String line) {
+        int start = position;
+        while (position < line.length()) {
+            char c = line.charAt(position);
+            if (c == ',' || c == '}' || Character.isWhitespace(c)) {
+                break;
+            }
+            position++;
+        }
+        if (start == position) {
+            throw new IllegalArgumentException("expected a value at column " + (start + 1));
+        }
+        return line.substring(start, position);
+    }
+    
+    private void skipWhitespace(String line) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private char peek(String line) {
+        if (position >= line.length()) {
+            throw new IllegalArgumentException("unexpected end of line");
+        }
+        return line.charAt(position);
+    }
+    
+    private void expect(String line, char expected) {
+        if (peek(line) != expected) {
+            throw new IllegalArgumentException("expected '" + expected + "' at column " + (position + 1));
+        }
+        position++;
+    }
+}
\ No newline at end of file
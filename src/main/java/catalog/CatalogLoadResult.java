@@ -0,0 +1,80 @@
+package catalog;
+
+import java.util.List;
+import restaurant.Restaurant;
+
+public class CatalogLoadResult {
+    private final List<Restaurant> restaurants;
+    private final DishStore store;
+    private final long lineCount;
+    private final long dishCount;
+    private final int internedStrings;
+    private final long readNanos;
+    private final long parseNanos;
+    private final long buildNanos;
+    private final long publishNanos;
+    private final long elapsedNanos;
+    
+    CatalogLoadResult(List<Restaurant> restaurants, DishStore store, long lineCount, long dishCount, int internedStrings,
+                      long readNanos, long parseNanos, long buildNanos, long publishNanos, long elapsedNanos) {
+        this.restaurants = restaurants;
+        this.store = store;
+        this.lineCount = lineCount;
+        this.dishCount = dishCount;
+        this.internedStrings = internedStrings;
+        this.readNanos = readNanos;
+        this.parseNanos = parseNanos;
+        this.buildNanos = buildNanos;
+        this.publishNanos = publishNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public List<Restaurant> getRestaurants() {
+        return restaurants;
+    }
+    
+    public DishStore getStore() {
+        return store;
+    }
+    
+    public long getLineCount() {
+        return lineCount;
+    }
+    
+    public long getDishCount() {
+        return dishCount;
+    }
+    
+    public int getInternedStrings() {
+        return internedStrings;
+    }
+    
+    public long getReadNanos() {
+        return readNanos;
+    }
+    
+    public long getParseNanos() {
+        return parseNanos;
+    }
+    
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+    
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d restaurants, %d dishes from %d lines in %d ms " +
+                             "(read %d ms, parse %d ms, build %d ms, publish %d ms, %d interned strings)",
+                             store != null ? store.getRestaurantCount() : restaurants.size(), dishCount, lineCount, elapsedNanos / 1_000_000,
+                             readNanos / 1_000_000, parseNanos / 1_000_000, buildNanos / 1_000_000,
+                             publishNanos / 1_000_000, internedStrings);
+    }
+}
\ No newline at end of file
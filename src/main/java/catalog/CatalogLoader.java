@@ -0,0 +1,240 @@
+package catalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import dish.Dish;
+import dish.DishFactory;
+import dish.DishType;
+import money.Money;
+import restaurant.Restaurant;
+
+public class CatalogLoader {
+    private static final int READ_BUFFER_CHARS = 1 << 20;
+    private static final int INTERNED_STRINGS = 1 << 16;
+    
+    private int parallelism;
+    private int chunkLines;
+    
+    public CatalogLoader(int parallelism, int chunkLines) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (chunkLines <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.parallelism = parallelism;
+        this.chunkLines = chunkLines;
+    }
+    
+    public CatalogLoadResult load(Path file) {
+        return load(file, null);
+    }
+    
+    public CatalogLoadResult loadColumnar(Path file, boolean offHeap) {
+        return load(file, new DishStore(offHeap, chunkLines));
+    }
+    
+    private CatalogLoadResult load(Path file, DishStore store) {
+        CatalogFormat format = CatalogFormat.forPath(file);
+        StringInterner interner = new StringInterner(INTERNED_STRINGS);
+        Map<String, Restaurant> restaurants = new LinkedHashMap<>();
+        ArrayDeque<ForkJoinTask<ParsedChunk>> pending = new ArrayDeque<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        long lineCount = 0;
+        long dishCount = 0;
+        long readNanos = 0;
+        long parseNanos = 0;
+        long buildNanos = 0;
+        long publishNanos = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8),
+                                                        READ_BUFFER_CHARS)) {
+            boolean more = true;
+            while (more || !pending.isEmpty()) {
+                if (more && pending.size() < parallelism * 2) {
+                    long readStart = System.nanoTime();
+                    String[] lines = new String[chunkLines];
+                    int count = 0;
+                    String line;
+                    while (count < chunkLines && (line = reader.readLine()) != null) {
+                        lines[count++] = line;
+                    }
+                    readNanos += System.nanoTime() - readStart;
+                    more = count == chunkLines;
+                    if (count > 0) {
+                        pending.add(pool.submit(new ChunkParser(format, lines, count, lineCount + 1, interner, store == null)));
+                        lineCount += count;
+                    }
+                    continue;
+                }
+                ParsedChunk chunk = pending.poll().join();
+                if (chunk.failure != null) {
+                    throw chunk.failure;
+                }
+                parseNanos += chunk.parseNanos;
+                buildNanos += chunk.buildNanos;
+                long publishStart = System.nanoTime();
+                dishCount += store == null ? publish(chunk, restaurants) : publish(chunk, store);
+                publishNanos += System.nanoTime() - publishStart;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalog " + file, e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return new CatalogLoadResult(new ArrayList<>(restaurants.values()), store, lineCount, dishCount, interner.size(),
+                                     readNanos, parseNanos, buildNanos, publishNanos, System.nanoTime() - start);
+    }
+    
+    private static int publish(ParsedChunk chunk, Map<String, Restaurant> restaurants) {
+        Map<String, List<Dish>> byRestaurant = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.count; i++) {
+            byRestaurant.computeIfAbsent(chunk.restaurantNames[i], name -> new ArrayList<>()).add(chunk.dishes[i]);
+        }
+        for (Map.Entry<String, List<Dish>> entry : byRestaurant.entrySet()) {
+            restaurants.computeIfAbsent(entry.getKey(), Restaurant::new).addDishes(entry.getValue());
+        }
+        return chunk.count;
+    }
+    
+    private static int publish(ParsedChunk chunk, DishStore store) {
+        for (int i = 0; i < chunk.count; i++) {
+            store.add(chunk.restaurantNames[i], chunk.types[i], chunk.names[i], chunk.prices[i], chunk.descriptions[i]);
+        }
+        return chunk.count;
+    }
+    
+    private static class ChunkParser implements Callable<ParsedChunk> {
+        private final CatalogFormat format;
+        private final String[] lines;
+        private final int lineCount;
+        private final long firstLine;
+        private final StringInterner interner;
+        private final boolean buildDishes;
+        
+        ChunkParser(CatalogFormat format, String[] lines, int lineCount, long firstLine, StringInterner interner,
+                    boolean buildDishes) {
+            this.format = format;
+            this.lines = lines;
+            this.lineCount = lineCount;
+            this.firstLine = firstLine;
+            this.interner = interner;
+            this.buildDishes = buildDishes;
+        }
+        
+        @Override
+        public ParsedChunk call() {
+            long parseStart = System.nanoTime();
+            CatalogLineParser parser = new CatalogLineParser();
+            String[] fields = new String[CatalogLineParser.FIELD_COUNT];
+            String[] restaurantNames = new String[lineCount];
+            DishType[] types = new DishType[lineCount];
+            String[] names = new String[lineCount];
+            long[] prices = new long[lineCount];
+            String[] descriptions = new String[lineCount];
+            int count = 0;
+            for (int i = 0; i < lineCount; i++) {
+                String line = lines[i];
+                lines[i] = null;
+                if (skip(line, firstLine + i)) {
+                    continue;
+                }
+                try {
+                    if (format == CatalogFormat.CSV) {
+                        parser.parseCsv(line, fields);
+                    } else {
+                        parser.parseJson(line, fields);
+                    }
+                    if (fields[CatalogLineParser.RESTAURANT].isEmpty()) {
+                        throw new IllegalArgumentException("restaurant is required");
+                    }
+                    if (fields[CatalogLineParser.NAME].isEmpty()) {
+                        throw new IllegalArgumentException("dish name is required");
+                    }
+                    types[count] = DishType.parse(fields[CatalogLineParser.TYPE]);
+                    prices[count] = Money.parse(fields[CatalogLineParser.PRICE]);
+                } catch (IllegalArgumentException | ArithmeticException e) {
+                    return new ParsedChunk(new IllegalArgumentException("Invalid catalog line " + (firstLine + i) + ": " +
+                                                                        e.getMessage(), e));
+                }
+                restaurantNames[count] = interner.intern(fields[CatalogLineParser.RESTAURANT]);
+                names[count] = fields[CatalogLineParser.NAME];
+                descriptions[count] = interner.intern(fields[CatalogLineParser.DESCRIPTION]);
+                count++;
+            }
+            long buildStart = System.nanoTime();
+            Dish[] dishes = null;
+            if (buildDishes) {
+                dishes = new Dish[count];
+                for (int i = 0; i < count; i++) {
+                    dishes[i] = DishFactory.createDish(types[i], names[i], prices[i], descriptions[i]);
+                }
+            }
+            return new ParsedChunk(restaurantNames, types, names, prices, descriptions, dishes, count,
+                                   buildStart - parseStart, System.nanoTime() - buildStart);
+        }
+        
+        private boolean skip(String line, long lineNumber) {
+            if (line.isBlank()) {
+                return true;
+            }
+            if (format != CatalogFormat.CSV) {
+                return false;
+            }
+            return line.startsWith("#") || (lineNumber == 1 && CatalogLineParser.isCsvHeader(line));
+        }
+    }
+    
+    private static class ParsedChunk {
+        private final String[] restaurantNames;
+        private final DishType[] types;
+        private final String[] names;
+        private final long[] prices;
+        private final String[] descriptions;
+        private final Dish[] dishes;
+        private final int count;
+        private final long parseNanos;
+        private final long buildNanos;
+        private final IllegalArgumentException failure;
+        
+        ParsedChunk(String[] restaurantNames, DishType[] types, String[] names, long[] prices, String[] descriptions,
+                    Dish[] dishes, int count, long parseNanos, long buildNanos) {
+            this.restaurantNames = restaurantNames;
+            this.types = types;
+            this.names = names;
+            this.prices = prices;
+            this.descriptions = descriptions;
+            this.dishes = dishes;
+            this.count = count;
+            this.parseNanos = parseNanos;
+            this.buildNanos = buildNanos;
+            this.failure = null;
+        }
+        
+        ParsedChunk(IllegalArgumentException failure) {
+            this.restaurantNames = null;
+            this.types = null;
+            this.names = null;
+            this.prices = null;
+            this.descriptions = null;
+            this.dishes = null;
+            this.count = 0;
+            this.parseNanos = 0;
+            this.buildNanos = 0;
+            this.failure = failure;
+        }
+    }
+}
\ No newline at end of file
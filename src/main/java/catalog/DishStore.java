@@ -0,0 +1,216 @@
+package catalog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import dish.Dish;
+import dish.DishType;
+
+public class DishStore {
+    private static final int PAGE_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int SHARED_DESCRIPTIONS = 1 << 16;
+    private static final DishType[] TYPES = DishType.values();
+    
+    private boolean offHeap;
+    private List<ByteBuffer> pages;
+    private ByteBuffer page;
+    private long arenaBytes;
+    private long[] prices;
+    private byte[] types;
+    private long[] names;
+    private long[] descriptions;
+    private int[] restaurants;
+    private int size;
+    private List<String> restaurantNames;
+    private Map<String, Integer> restaurantIds;
+    private Map<String, Long> sharedDescriptions;
+    
+    public DishStore(boolean offHeap) {
+        this(offHeap, 1024);
+    }
+    
+    public DishStore(boolean offHeap, int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.offHeap = offHeap;
+        this.pages = new ArrayList<>();
+        this.prices = new long[initialCapacity];
+        this.types = new byte[initialCapacity];
+        this.names = new long[initialCapacity];
+        this.descriptions = new long[initialCapacity];
+        this.restaurants = new int[initialCapacity];
+        this.restaurantNames = new ArrayList<>();
+        this.restaurantIds = new HashMap<>();
+        this.sharedDescriptions = new HashMap<>();
+        newPage();
+    }
+    
+    public int add(String restaurant, Dish dish) {
+        return add(restaurant, DishType.of(dish), dish.getName(), dish.getPrice(), dish.getDescription());
+    }
+    
+    public int add(String restaurant, DishType type, String name, long price, String description) {
+        if (size == prices.length) {
+            grow();
+        }
+        int index = size;
+        Integer restaurantId = restaurantIds.get(restaurant);
+        if (restaurantId == null) {
+            restaurantId = restaurantNames.size();
+            restaurantNames.add(restaurant);
+            restaurantIds.put(restaurant, restaurantId);
+        }
+        prices[index] = price;
+        types[index] = (byte) type.ordinal();
+        names[index] = store(name);
+        descriptions[index] = storeDescription(description);
+        restaurants[index] = restaurantId;
+        size++;
+        return index;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+    
+    public long getArenaBytes() {
+        return arenaBytes;
+    }
+    
+    public long getPrice(int index) {
+        checkIndex(index);
+        return prices[index];
+    }
+    
+    public DishType getType(int index) {
+        checkIndex(index);
+        return TYPES[types[index]];
+    }
+    
+    public String getName(int index) {
+        checkIndex(index);
+        return load(names[index]);
+    }
+    
+    public String getDescription(int index) {
+        checkIndex(index);
+        return load(descriptions[index]);
+    }
+    
+    public String getRestaurant(int index) {
+        checkIndex(index);
+        return restaurantNames.get(restaurants[index]);
+    }
+    
+    public int getRestaurantCount() {
+        return restaurantNames.size();
+    }
+    
+    public Dish view(int index) {
+        checkIndex(index);
+        return new StoredDish(this, index);
+    }
+    
+    public int countPricedBetween(DishType type, long minPrice, long maxPrice) {
+        byte code = (byte) type.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == code && prices[i] >= minPrice && prices[i] <= maxPrice) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    public long sumPrices(DishType type) {
+        byte code = (byte) type.ordinal();
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == code) {
+                total = Math.addExact(total, prices[i]);
+            }
+        }
+        return total;
+    }
+    
+    public int[] findPricedBetween(DishType type, long minPrice, long maxPrice) {
+        int[] found = new int[countPricedBetween(type, minPrice, maxPrice)];
+        byte code = (byte) type.ordinal();
+        int next = 0;
+        for (int i = 0; i < size && next < found.length; i++) {
+            if (types[i] == code && prices[i] >= minPrice && prices[i] <= maxPrice) {
+                found[next++] = i;
+            }
+        }
+        return found;
+    }
+    
+    private long storeDescription(String description) {
+        Long shared = sharedDescriptions.get(description);
+        if (shared != null) {
+            return shared;
+        }
+        long reference = store(description);
+        if (sharedDescriptions.size() < SHARED_DESCRIPTIONS) {
+            sharedDescriptions.put(description, reference);
+        }
+        return reference;
+    }
+    
+    private long store(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Text too long for the dish store: " + bytes.length + " bytes");
+        }
+        if (page.remaining() < bytes.length + 2) {
+            newPage();
+        }
+        long reference = (long) (pages.size() - 1) << 32 | page.position();
+        page.putShort((short) bytes.length);
+        page.put(bytes);
+        arenaBytes += bytes.length + 2;
+        return reference;
+    }
+    
+    private String load(long reference) {
+        ByteBuffer source = pages.get((int) (reference >>> 32));
+        int offset = (int) reference;
+        int length = source.getShort(offset) & 0xFFFF;
+        if (source.hasArray()) {
+            return new String(source.array(), source.arrayOffset() + offset + 2, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        source.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private void newPage() {
+        page = offHeap ? ByteBuffer.allocateDirect(PAGE_BYTES) : ByteBuffer.allocate(PAGE_BYTES);
+        pages.add(page);
+    }
+    
+    private void grow() {
+        int capacity = Math.max(prices.length * 2, 16);
+        prices = Arrays.copyOf(prices, capacity);
+        types = Arrays.copyOf(types, capacity);
+        names = Arrays.copyOf(names, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        restaurants = Arrays.copyOf(restaurants, capacity);
+    }
+    
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package catalog;
+
+import dish.Dish;
+
+public class StoredDish implements Dish {
+    private final DishStore store;
+    private final int index;
+    
+    StoredDish(DishStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+    
+    public int getIndex() {
+        return index;
+    }
+    
+    @Override
+    public String getName() {
+        return store.getName(index);
+    }
+    
+    @Override
+    public long getPrice() {
+        return store.getPrice(index);
+    }
+    
+    @Override
+    public String getType() {
+        return store.getType(index).getLabel();
+    }
+    
+    @Override
+    public String getDescription() {
+        return store.getDescription(index);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof StoredDish)) {
+            return false;
+        }
+        StoredDish that = (StoredDish) other;
+        return store == that.store && index == that.index;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(store) + index;
+    }
+}
\ No newline at end of file
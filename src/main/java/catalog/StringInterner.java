@@ -0,0 +1,29 @@
+package catalog;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+class StringInterner {
+    private ConcurrentHashMap<String, String> strings;
+    private int capacity;
+    
+    StringInterner(int capacity) {
+        this.strings = new ConcurrentHashMap<>();
+        this.capacity = capacity;
+    }
+    
+    String intern(String value) {
+        String existing = strings.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (strings.size() >= capacity) {
+            return value;
+        }
+        existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+    
+    int size() {
+        return strings.size();
+    }
+}
\ No newline at end of file
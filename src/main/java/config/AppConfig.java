@@ -1,13 +1,121 @@
 package config;
 
+import java.util.Currency;
+import notification.DropPolicy;
+import journal.FsyncPolicy;
+
 public class AppConfig {
     private static AppConfig instance;
     private String appName;
     private String version;
+    private long statusTickMillis;
+    private int statusWheelSize;
+    private int statusWorkerThreads;
+    private Currency currency;
+    private boolean ansiScreens;
+    private int notificationQueueCapacity;
+    private int notificationBatchSize;
+    private DropPolicy notificationDropPolicy;
+    private String notificationLogDir;
+    private long notificationLogMaxBytes;
+    private int eventBufferSize;
+    private String eventWaitStrategy;
+    private int serverPort;
+    private int serverMaxSessions;
+    private int serverIdleTimeoutMillis;
+    private boolean serverAnsiScreens;
+    private String journalDir;
+    private FsyncPolicy journalFsyncPolicy;
+    private long journalFsyncIntervalMillis;
+    private long journalSegmentBytes;
+    private int journalCompactAfterSegments;
+    private int searchMaxResults;
+    private int catalogParallelism;
+    private int catalogChunkLines;
+    private String promotionsFile;
+    private int gatewayBulkheadThreads;
+    private int gatewayBulkheadQueue;
+    private long gatewayTimeoutMillis;
+    private int gatewayMaxAttempts;
+    private long gatewayBackoffMillis;
+    private int gatewayIdempotencyKeys;
+    private boolean gatewayStub;
+    private double gatewayStubLatencyMillis;
+    private double gatewayStubLatencySpread;
+    private double gatewayStubFailureRate;
+    private double gatewayStubDeclineRate;
+    private String ledgerDir;
+    private FsyncPolicy ledgerFsyncPolicy;
+    private long ledgerFsyncIntervalMillis;
+    private long ledgerSegmentBytes;
+    private int idNode;
+    private boolean metricsJmx;
+    private String metricsSnapshotFile;
+    private long metricsSnapshotIntervalMillis;
+    private int dispatchCouriers;
+    private double dispatchCenterLatitude;
+    private double dispatchCenterLongitude;
+    private double dispatchRadiusKm;
+    private double dispatchCellKm;
+    private int dispatchCandidates;
+    private long dispatchRoundMillis;
+    private int dispatchBatchSize;
     
     private AppConfig() {
         this.appName = "Food Delivery App";
         this.version = "1.0";
+        this.statusTickMillis = Long.getLong("app.status.tickMillis", 100L);
+        this.statusWheelSize = Integer.getInteger("app.status.wheelSize", 512);
+        this.statusWorkerThreads = Integer.getInteger("app.status.workerThreads", 2);
+        this.currency = Currency.getInstance(System.getProperty("app.currency", "USD"));
+        this.ansiScreens = Boolean.getBoolean("app.view.ansi");
+        this.notificationQueueCapacity = Integer.getInteger("app.notification.queueCapacity", 4096);
+        this.notificationBatchSize = Integer.getInteger("app.notification.batchSize", 64);
+        this.notificationDropPolicy = DropPolicy.valueOf(System.getProperty("app.notification.dropPolicy", "DROP_OLDEST"));
+        this.notificationLogDir = System.getProperty("app.notification.logDir");
+        this.notificationLogMaxBytes = Long.getLong("app.notification.logMaxBytes", 10L * 1024 * 1024);
+        this.eventBufferSize = Integer.getInteger("app.events.bufferSize", 65536);
+        this.eventWaitStrategy = System.getProperty("app.events.waitStrategy", "blocking");
+        this.serverPort = Integer.getInteger("app.server.port", 7070);
+        this.serverMaxSessions = Integer.getInteger("app.server.maxSessions", 20000);
+        this.serverIdleTimeoutMillis = Integer.getInteger("app.server.idleTimeoutMillis", 30 * 60 * 1000);
+        this.serverAnsiScreens = Boolean.parseBoolean(System.getProperty("app.server.ansi", "true"));
+        this.journalDir = System.getProperty("app.journal.dir");
+        this.journalFsyncPolicy = FsyncPolicy.valueOf(System.getProperty("app.journal.fsync", "INTERVAL"));
+        this.journalFsyncIntervalMillis = Long.getLong("app.journal.fsyncIntervalMillis", 50L);
+        this.journalSegmentBytes = Long.getLong("app.journal.segmentBytes", 64L * 1024 * 1024);
+        this.journalCompactAfterSegments = Integer.getInteger("app.journal.compactAfterSegments", 8);
+        this.searchMaxResults = Integer.getInteger("app.search.maxResults", 10);
+        this.catalogParallelism = Integer.getInteger("app.catalog.parallelism", Runtime.getRuntime().availableProcessors());
+        this.catalogChunkLines = Integer.getInteger("app.catalog.chunkLines", 8192);
+        this.promotionsFile = System.getProperty("app.promotions.file");
+        this.gatewayBulkheadThreads = Integer.getInteger("app.gateway.bulkheadThreads", 16);
+        this.gatewayBulkheadQueue = Integer.getInteger("app.gateway.bulkheadQueue", 256);
+        this.gatewayTimeoutMillis = Long.getLong("app.gateway.timeoutMillis", 3000L);
+        this.gatewayMaxAttempts = Integer.getInteger("app.gateway.maxAttempts", 3);
+        this.gatewayBackoffMillis = Long.getLong("app.gateway.backoffMillis", 100L);
+        this.gatewayIdempotencyKeys = Integer.getInteger("app.gateway.idempotencyKeys", 100000);
+        this.gatewayStub = Boolean.getBoolean("app.gateway.stub");
+        this.gatewayStubLatencyMillis = Double.parseDouble(System.getProperty("app.gateway.stub.latencyMillis", "40"));
+        this.gatewayStubLatencySpread = Double.parseDouble(System.getProperty("app.gateway.stub.latencySpread", "0.5"));
+        this.gatewayStubFailureRate = Double.parseDouble(System.getProperty("app.gateway.stub.failureRate", "0.02"));
+        this.gatewayStubDeclineRate = Double.parseDouble(System.getProperty("app.gateway.stub.declineRate", "0.01"));
+        this.ledgerDir = System.getProperty("app.ledger.dir");
+        this.ledgerFsyncPolicy = FsyncPolicy.valueOf(System.getProperty("app.ledger.fsync", "ALWAYS"));
+        this.ledgerFsyncIntervalMillis = Long.getLong("app.ledger.fsyncIntervalMillis", 50L);
+        this.ledgerSegmentBytes = Long.getLong("app.ledger.segmentBytes", 256L * 1024 * 1024);
+        this.idNode = Integer.getInteger("app.id.node", 0);
+        this.metricsJmx = Boolean.parseBoolean(System.getProperty("app.metrics.jmx", "true"));
+        this.metricsSnapshotFile = System.getProperty("app.metrics.snapshotFile");
+        this.metricsSnapshotIntervalMillis = Long.getLong("app.metrics.snapshotIntervalMillis", 10000L);
+        this.dispatchCouriers = Integer.getInteger("app.dispatch.couriers", 200);
+        this.dispatchCenterLatitude = Double.parseDouble(System.getProperty("app.dispatch.centerLatitude", "40.7128"));
+        this.dispatchCenterLongitude = Double.parseDouble(System.getProperty("app.dispatch.centerLongitude", "-74.0060"));
+        this.dispatchRadiusKm = Double.parseDouble(System.getProperty("app.dispatch.radiusKm", "10"));
+        this.dispatchCellKm = Double.parseDouble(System.getProperty("app.dispatch.cellKm", "0.5"));
+        this.dispatchCandidates = Integer.getInteger("app.dispatch.candidates", 4);
+        this.dispatchRoundMillis = Long.getLong("app.dispatch.roundMillis", 200L);
+        this.dispatchBatchSize = Integer.getInteger("app.dispatch.batchSize", 1024);
     }
     
     public static AppConfig getInstance() {
@@ -24,4 +132,212 @@ public class AppConfig {
     public String getVersion() {
         return version;
     }
+    
+    public long getStatusTickMillis() {
+        return statusTickMillis;
+    }
+    
+    public int getStatusWheelSize() {
+        return statusWheelSize;
+    }
+    
+    public int getStatusWorkerThreads() {
+        return statusWorkerThreads;
+    }
+    
+    public Currency getCurrency() {
+        return currency;
+    }
+    
+    public boolean isAnsiScreens() {
+        return ansiScreens;
+    }
+    
+    public int getNotificationQueueCapacity() {
+        return notificationQueueCapacity;
+    }
+    
+    public int getNotificationBatchSize() {
+        return notificationBatchSize;
+    }
+    
+    public DropPolicy getNotificationDropPolicy() {
+        return notificationDropPolicy;
+    }
+    
+    public String getNotificationLogDir() {
+        return notificationLogDir;
+    }
+    
+    public long getNotificationLogMaxBytes() {
+        return notificationLogMaxBytes;
+    }
+    
+    public int getEventBufferSize() {
+        return eventBufferSize;
+    }
+    
+    public String getEventWaitStrategy() {
+        return eventWaitStrategy;
+    }
+    
+    public int getServerPort() {
+        return serverPort;
+    }
+    
+    public int getServerMaxSessions() {
+        return serverMaxSessions;
+    }
+    
+    public int getServerIdleTimeoutMillis() {
+        return serverIdleTimeoutMillis;
+    }
+    
+    public String getJournalDir() {
+        return journalDir;
+    }
+    
+    public FsyncPolicy getJournalFsyncPolicy() {
+        return journalFsyncPolicy;
+    }
+    
+    public long getJournalFsyncIntervalMillis() {
+        return journalFsyncIntervalMillis;
+    }
+    
+    public long getJournalSegmentBytes() {
+        return journalSegmentBytes;
+    }
+    
+    public int getJournalCompactAfterSegments() {
+        return journalCompactAfterSegments;
+    }
+    
+    public int getSearchMaxResults() {
+        return searchMaxResults;
+    }
+    
+    public int getCatalogParallelism() {
+        return catalogParallelism;
+    }
+    
+    public int getCatalogChunkLines() {
+        return catalogChunkLines;
+    }
+    
+    public String getPromotionsFile() {
+        return promotionsFile;
+    }
+    
+    public int getGatewayBulkheadThreads() {
+        return gatewayBulkheadThreads;
+    }
+    
+    public int getGatewayBulkheadQueue() {
+        return gatewayBulkheadQueue;
+    }
+    
+    public long getGatewayTimeoutMillis() {
+        return gatewayTimeoutMillis;
+    }
+    
+    public int getGatewayMaxAttempts() {
+        return gatewayMaxAttempts;
+    }
+    
+    public long getGatewayBackoffMillis() {
+        return gatewayBackoffMillis;
+    }
+    
+    public int getGatewayIdempotencyKeys() {
+        return gatewayIdempotencyKeys;
+    }
+    
+    public boolean isGatewayStub() {
+        return gatewayStub;
+    }
+    
+    public double getGatewayStubLatencyMillis() {
+        return gatewayStubLatencyMillis;
+    }
+    
+    public double getGatewayStubLatencySpread() {
+        return gatewayStubLatencySpread;
+    }
+    
+    public double getGatewayStubFailureRate() {
+        return gatewayStubFailureRate;
+    }
+    
+    public double getGatewayStubDeclineRate() {
+        return gatewayStubDeclineRate;
+    }
+    
+    public String getLedgerDir() {
+        return ledgerDir;
+    }
+    
+    public FsyncPolicy getLedgerFsyncPolicy() {
+        return ledgerFsyncPolicy;
+    }
+    
+    public long getLedgerFsyncIntervalMillis() {
+        return ledgerFsyncIntervalMillis;
+    }
+    
+    public long getLedgerSegmentBytes() {
+        return ledgerSegmentBytes;
+    }
+    
+    public int getIdNode() {
+        return idNode;
+    }
+    
+    public boolean isMetricsJmx() {
+        return metricsJmx;
+    }
+    
+    public String getMetricsSnapshotFile() {
+        return metricsSnapshotFile;
+    }
+    
+    public long getMetricsSnapshotIntervalMillis() {
+        return metricsSnapshotIntervalMillis;
+    }
+    
+    public int getDispatchCouriers() {
+        return dispatchCouriers;
+    }
+    
+    public double getDispatchCenterLatitude() {
+        return dispatchCenterLatitude;
+    }
+    
+    public double getDispatchCenterLongitude() {
+        return dispatchCenterLongitude;
+    }
+    
+    public double getDispatchRadiusKm() {
+        return dispatchRadiusKm;
+    }
+    
+    public double getDispatchCellKm() {
+        return dispatchCellKm;
+    }
+    
+    public int getDispatchCandidates() {
+        return dispatchCandidates;
+    }
+    
+    public long getDispatchRoundMillis() {
+        return dispatchRoundMillis;
+    }
+    
+    public int getDispatchBatchSize() {
+        return dispatchBatchSize;
+    }
+    
+    public boolean isServerAnsiScreens() {
+        return serverAnsiScreens;
+    }
 }
\ No newline at end of file
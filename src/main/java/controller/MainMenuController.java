@@ -0,0 +1,105 @@
+package controller;
+
+import java.util.List;
+import java.util.Scanner;
+import config.AppConfig;
+import restaurant.Catalog;
+import restaurant.Restaurant;
+import search.DishSearchIndex;
+import payment.Payment;
+import order.Order;
+import order.OrderStatus;
+import util.ConsoleWriter;
+import util.InputHandler;
+import view.ScreenBuilder;
+import view.ScreenRenderer;
+
+public class MainMenuController {
+    private Order currentOrder;
+    private Scanner scanner;
+    private ScreenRenderer renderer;
+    private ConsoleWriter out;
+    private RestaurantMenuController restaurantController;
+    private ShoppingCartController cartController;
+    
+    public MainMenuController(List<Restaurant> restaurants, DishSearchIndex searchIndex, Catalog catalog,
+                              Order currentOrder, Scanner scanner, ScreenRenderer renderer) {
+        this.currentOrder = currentOrder;
+        this.scanner = scanner;
+        this.renderer = renderer;
+        this.out = renderer.getWriter();
+        this.restaurantController = new RestaurantMenuController(restaurants, searchIndex, catalog, currentOrder, scanner,
+                                                               renderer);
+        this.cartController = new ShoppingCartController(currentOrder, scanner, renderer);
+    }
+    
+    public void run() {
+        AppConfig config = AppConfig.getInstance();
+        boolean running = true;
+        while (running) {
+            displayMenu();
+            int choice = InputHandler.readChoice(scanner, renderer);
+            if (choice == -1) {
+                continue;
+            }
+            switch (choice) {
+                case 1:
+                    restaurantController.browseRestaurants();
+                    break;
+                case 2:
+                    placeOrder();
+                    break;
+                case 3:
+                    cartController.checkShoppingCart();
+                    break;
+                case 4:
+                    checkOrderStatus();
+                    break;
+                case 5:
+                    out.print("Thank you for using ").print(config.getAppName()).println("!").flush();
+                    running = false;
+                    break;
+                default:
+                    renderer.notice("Invalid choice. Please try again.\n");
+            }
+        }
+    }
+    
+    private void displayMenu() {
+        ScreenBuilder screen = renderer.begin();
+        screen.println("\n=== Main Menu ===");
+        screen.println("1. Browse Restaurants");
+        screen.println("2. Place Order");
+        screen.println("3. Check Shopping Cart");
+        screen.println("4. Check Order Status");
+        screen.println("5. Exit");
+        screen.print("\nEnter your choice: ");
+        renderer.render(screen.build());
+    }
+    
+    private void placeOrder() {
+        if (currentOrder.getItemCount() == 0) {
+            renderer.notice("\nCart is empty.\n");
+            return;
+        }
+        Payment.displayPaymentWindow(currentOrder, scanner, out);
+        renderer.invalidate();
+    }
+    
+    private void checkOrderStatus() {
+        boolean viewingStatus = true;
+        while (viewingStatus) {
+            OrderStatus.displayOrderStatus(renderer, currentOrder.getUser());
+            int choice = InputHandler.readChoice(scanner, renderer);
+            if (choice == -1) {
+                continue;
+            }
+            if (choice == 1) {
+                viewingStatus = false;
+                renderer.notice("");
+            } else {
+                renderer.notice("Invalid choice. Please try again.\n");
+            }
+        }
+    }
+}
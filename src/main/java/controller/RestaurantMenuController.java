@@ -2,36 +2,56 @@ package controller;
 
 import java.util.List;
 import java.util.Scanner;
+import config.AppConfig;
+import restaurant.Catalog;
+import restaurant.CatalogEntry;
 import restaurant.Restaurant;
+import restaurant.MenuSnapshot;
+import search.DishSearchIndex;
+import search.SearchResult;
 import dish.Dish;
-import dish.VegDish;
-import dish.VeganDish;
-import dish.CheeseDecorator;
-import dish.ExtraSauceDecorator;
+import dish.DishType;
+import dish.AddOn;
+import dish.VariantCompiler;
 import order.Order;
+import money.Money;
+import util.ConsoleWriter;
 import util.InputHandler;
-import util.DisplayFormatter;
+import view.ScreenBuilder;
+import view.ScreenRenderer;
 
 public class RestaurantMenuController {
     private List<Restaurant> restaurants;
+    private DishSearchIndex searchIndex;
+    private Catalog catalog;
     private Order currentOrder;
     private Scanner scanner;
+    private ScreenRenderer renderer;
     
-    public RestaurantMenuController(List<Restaurant> restaurants, Order currentOrder, Scanner scanner) {
+    public RestaurantMenuController(List<Restaurant> restaurants, DishSearchIndex searchIndex, Catalog catalog,
+                                    Order currentOrder, Scanner scanner, ScreenRenderer renderer) {
         this.restaurants = restaurants;
+        this.searchIndex = searchIndex;
+        this.catalog = catalog;
         this.currentOrder = currentOrder;
         this.scanner = scanner;
+        this.renderer = renderer;
     }
     
     public void browseRestaurants() {
         boolean browsing = true;
         while (browsing) {
-            System.out.println("\n\n=== Browse Restaurants ===");
+            ScreenBuilder screen = renderer.begin();
+            screen.println("\n\n=== Browse Restaurants ===");
             for (int i = 0; i < restaurants.size(); i++) {
-                System.out.println((i + 1) + ". " + restaurants.get(i).getName());
+                screen.print(i + 1).print(". ").println(restaurants.get(i).getName());
             }
-            System.out.println((restaurants.size() + 1) + ". Return to Main Menu");
-            int choice = InputHandler.readInt(scanner, "\nEnter your choice: ");
+            screen.print(restaurants.size() + 1).println(". Search Dishes");
+            screen.print(restaurants.size() + 2).println(". Find Dishes by Budget");
+            screen.print(restaurants.size() + 3).println(". Return to Main Menu");
+            screen.print("\nEnter your choice: ");
+            renderer.render(screen.build());
+            int choice = InputHandler.readChoice(scanner, renderer);
             if (choice == -1) {
                 continue;
             }
@@ -39,10 +59,14 @@ public class RestaurantMenuController {
                 Restaurant selectedRestaurant = restaurants.get(choice - 1);
                 displayRestaurantMenu(selectedRestaurant);
             } else if (choice == restaurants.size() + 1) {
+                searchDishes();
+            } else if (choice == restaurants.size() + 2) {
+                findDishesByBudget();
+            } else if (choice == restaurants.size() + 3) {
                 browsing = false;
-                System.out.println();
+                renderer.notice("");
             } else {
-                System.out.println("Invalid choice. Please try again.\n");
+                renderer.notice("Invalid choice. Please try again.\n");
             }
         }
     }
@@ -50,68 +74,182 @@ public class RestaurantMenuController {
     private void displayRestaurantMenu(Restaurant restaurant) {
         boolean viewingMenu = true;
         while (viewingMenu) {
-            System.out.println("\n\n=== " + restaurant.getName() + " Menu ===");
-            List<Dish> menu = restaurant.getMenu();
+            ScreenBuilder screen = renderer.begin();
+            screen.print("\n\n=== ").print(restaurant.getName()).println(" Menu ===");
+            MenuSnapshot menu = restaurant.getMenuSnapshot();
             if (menu.isEmpty()) {
-                System.out.println("No dishes available at this restaurant.");
+                screen.println("No dishes available at this restaurant.");
             } else {
                 for (int i = 0; i < menu.size(); i++) {
-                    Dish dish = menu.get(i);
-                    String dishName = dish.getName();
-                    if (dish instanceof VegDish || dish instanceof VeganDish) {
-                        dishName += " (VEG)";
+                    Dish dish = menu.getDish(i);
+                    screen.print(i + 1).print(". ").print(dish.getName());
+                    if (menu.getType(i).isVegetarian()) {
+                        screen.print(" (VEG)");
                     }
-                    System.out.println((i + 1) + ". " + dishName + 
-                                     " - $" + DisplayFormatter.formatPrice(dish.getPrice()));
+                    screen.print(" - $").price(dish.getPrice()).println();
                 }
             }
-            System.out.println((menu.size() + 1) + ". Return to Restaurants");
-            System.out.println();
-            System.out.println("Current Order Total: $" + DisplayFormatter.formatPrice(currentOrder.calculateTotal()));
-            int choice = InputHandler.readInt(scanner, "\nEnter your choice: ");
+            screen.print(menu.size() + 1).println(". Return to Restaurants");
+            screen.println();
+            screen.print("Current Order Total: $").price(currentOrder.calculateTotal()).println();
+            screen.print("\nEnter your choice: ");
+            renderer.render(screen.build());
+            int choice = InputHandler.readChoice(scanner, renderer);
             if (choice == -1) {
                 continue;
             }
             if (choice >= 1 && choice <= menu.size()) {
-                Dish selectedDish = menu.get(choice - 1);
-                boolean supportsDecorators = restaurant.getName().equals("Pizza Palace") || 
-                                            restaurant.getName().equals("Burger King");
-                Dish dishToAdd = selectedDish;
-                if (supportsDecorators) {
-                    dishToAdd = showDecoratorOptions(selectedDish);
-                }
-                currentOrder.addDish(dishToAdd, restaurant);
-                System.out.println("\n\n✓ Added \"" + dishToAdd.getName() + 
-                                 "\" ($" + DisplayFormatter.formatPrice(dishToAdd.getPrice()) + 
-                                 ") to your order.");
-                System.out.println("Current order total: $" + DisplayFormatter.formatPrice(currentOrder.calculateTotal()));
-                System.out.println("Items in cart: " + currentOrder.getItemCount() + "\n");
+                addToOrder(restaurant, menu.getDish(choice - 1));
             } else if (choice == menu.size() + 1) {
                 viewingMenu = false;
             } else {
-                System.out.println("Invalid choice. Please try again.\n");
+                renderer.notice("Invalid choice. Please try again.\n");
+            }
+        }
+    }
+    
+    private void searchDishes() {
+        ConsoleWriter out = renderer.getWriter();
+        out.print("\nEnter dish name or keywords: ").flush();
+        String query = scanner.nextLine().trim();
+        renderer.invalidate();
+        if (query.isEmpty()) {
+            renderer.notice("");
+            return;
+        }
+        List<SearchResult> results = searchIndex.search(query, AppConfig.getInstance().getSearchMaxResults());
+        boolean viewingResults = true;
+        while (viewingResults) {
+            ScreenBuilder screen = renderer.begin();
+            screen.print("\n\n=== Search Results for \"").print(query).println("\" ===");
+            if (results.isEmpty()) {
+                screen.println("No dishes matched your search.");
             }
+            for (int i = 0; i < results.size(); i++) {
+                SearchResult result = results.get(i);
+                screen.print(i + 1).print(". ").print(result.getDish().getName())
+                      .print(" (").print(result.getRestaurant().getName()).print(")")
+                      .print(" - $").price(result.getDish().getPrice()).println();
+            }
+            screen.print(results.size() + 1).println(". Return to Restaurants");
+            screen.print("\nEnter your choice: ");
+            renderer.render(screen.build());
+            int choice = InputHandler.readChoice(scanner, renderer);
+            if (choice == -1) {
+                continue;
+            }
+            if (choice >= 1 && choice <= results.size()) {
+                SearchResult selected = results.get(choice - 1);
+                addToOrder(selected.getRestaurant(), selected.getDish());
+            } else if (choice == results.size() + 1) {
+                viewingResults = false;
+                renderer.notice("");
+            } else {
+                renderer.notice("Invalid choice. Please try again.\n");
+            }
+        }
+    }
+    
+    private void findDishesByBudget() {
+        DishType[] types = DishType.values();
+        ScreenBuilder screen = renderer.begin();
+        screen.println("\n\n=== Find Dishes by Budget ===");
+        screen.println("1. Any");
+        for (int i = 0; i < types.length; i++) {
+            screen.print(i + 2).print(". ").println(types[i].getLabel());
+        }
+        screen.print("\nEnter your choice: ");
+        renderer.render(screen.build());
+        int choice = InputHandler.readChoice(scanner, renderer);
+        if (choice < 1 || choice > types.length + 1) {
+            if (choice != -1) {
+                renderer.notice("Invalid choice. Please try again.\n");
+            }
+            return;
+        }
+        DishType type = choice == 1 ? null : types[choice - 2];
+        ConsoleWriter out = renderer.getWriter();
+        out.print("\nEnter maximum price: $").flush();
+        String input = scanner.nextLine().trim();
+        renderer.invalidate();
+        long maxPrice;
+        try {
+            maxPrice = Money.parse(input);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            renderer.notice("Invalid price. Please try again.\n");
+            return;
+        }
+        List<CatalogEntry> matches = catalog.findUnder(type, maxPrice);
+        int shown = Math.min(matches.size(), AppConfig.getInstance().getSearchMaxResults());
+        boolean viewingResults = true;
+        while (viewingResults) {
+            screen = renderer.begin();
+            screen.print("\n\n=== ").print(type == null ? "Dishes" : type.getLabel() + " Dishes")
+                  .print(" up to $").price(maxPrice).println(" ===");
+            if (shown == 0) {
+                screen.println("No dishes are available at that price.");
+            } else if (shown < matches.size()) {
+                screen.print("Showing the ").print(shown).print(" cheapest of ").print(matches.size())
+                      .println(" dishes.");
+            }
+            for (int i = 0; i < shown; i++) {
+                CatalogEntry entry = matches.get(i);
+                screen.print(i + 1).print(". ").print(entry.getDish().getName())
+                      .print(" (").print(entry.getRestaurant().getName()).print(")")
+                      .print(" - $").price(entry.getPrice()).println();
+            }
+            screen.print(shown + 1).println(". Return to Restaurants");
+            screen.print("\nEnter your choice: ");
+            renderer.render(screen.build());
+            choice = InputHandler.readChoice(scanner, renderer);
+            if (choice == -1) {
+                continue;
+            }
+            if (choice >= 1 && choice <= shown) {
+                CatalogEntry selected = matches.get(choice - 1);
+                addToOrder(selected.getRestaurant(), selected.getDish());
+            } else if (choice == shown + 1) {
+                viewingResults = false;
+                renderer.notice("");
+            } else {
+                renderer.notice("Invalid choice. Please try again.\n");
+            }
+        }
+    }
+    
+    private void addToOrder(Restaurant restaurant, Dish selectedDish) {
+        boolean supportsDecorators = restaurant.getName().equals("Pizza Palace") ||
+                                    restaurant.getName().equals("Burger King");
+        Dish dishToAdd = selectedDish;
+        if (supportsDecorators) {
+            dishToAdd = showDecoratorOptions(selectedDish);
         }
+        currentOrder.addDish(dishToAdd, restaurant);
+        renderer.notice("\n\n✓ Added \"" + dishToAdd.getName() + "\" ($" + Money.format(dishToAdd.getPrice()) + ") to your order.");
+        renderer.notice("Current order total: $" + Money.format(currentOrder.calculateTotal()));
+        renderer.notice("Items in cart: " + currentOrder.getItemCount() + "\n");
     }
     
     private Dish showDecoratorOptions(Dish baseDish) {
-        System.out.println("\n--- Add Extras ---");
-        System.out.println("1. Extra Cheese (+$2.00)");
-        System.out.println("2. Extra Sauce (+$1.50)");
-        System.out.println("3. Extra Cheese + Extra Sauce (+$3.50)");
-        System.out.println("4. None");
-        int decoratorChoice = InputHandler.readInt(scanner, "\nEnter your choice: ");
+        ScreenBuilder screen = renderer.begin();
+        screen.println("\n--- Add Extras ---");
+        screen.print("1. Extra Cheese (+$").price(AddOn.EXTRA_CHEESE.getPrice()).println(")");
+        screen.print("2. Extra Sauce (+$").price(AddOn.EXTRA_SAUCE.getPrice()).println(")");
+        screen.print("3. Extra Cheese + Extra Sauce (+$").price(AddOn.EXTRA_CHEESE.getPrice() + AddOn.EXTRA_SAUCE.getPrice()).println(")");
+        screen.println("4. None");
+        screen.print("\nEnter your choice: ");
+        renderer.render(screen.build());
+        int decoratorChoice = InputHandler.readChoice(scanner, renderer);
         if (decoratorChoice == -1) {
             return baseDish;
         }
         switch (decoratorChoice) {
             case 1:
-                return new CheeseDecorator(baseDish);
+                return VariantCompiler.compile(baseDish, AddOn.EXTRA_CHEESE);
             case 2:
-                return new ExtraSauceDecorator(baseDish);
+                return VariantCompiler.compile(baseDish, AddOn.EXTRA_SAUCE);
             case 3:
-                Dish withCheese = new CheeseDecorator(baseDish);
-                return new ExtraSauceDecorator(withCheese);
+                return VariantCompiler.compile(baseDish, AddOn.EXTRA_CHEESE, AddOn.EXTRA_SAUCE);
             case 4:
             default:
                 return baseDish;
@@ -1,5 +1,16 @@
 package discount;
 
+import util.ConsoleWriter;
+import util.TextOutput;
+
 public interface DiscountStrategy {
-    double applyDiscount(double originalPrice);
+    long applyDiscount(long originalPrice, TextOutput out);
+    long discountedPrice(long originalPrice);
+    
+    default long applyDiscount(long originalPrice) {
+        ConsoleWriter out = new ConsoleWriter(System.out);
+        long discountedPrice = applyDiscount(originalPrice, out);
+        out.flush();
+        return discountedPrice;
+    }
 }
\ No newline at end of file
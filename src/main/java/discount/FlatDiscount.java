@@ -1,29 +1,37 @@
 package discount;
 
+import money.Money;
+import util.TextOutput;
+
 public class FlatDiscount implements DiscountStrategy {
-    private double discountAmount;
+    private long discountAmount;
     
     public FlatDiscount(double discountAmount) {
         if (discountAmount < 0) {
             throw new IllegalArgumentException("Discount amount cannot be negative");
         }
-        this.discountAmount = discountAmount;
+        this.discountAmount = Money.of(discountAmount);
     }
     
     @Override
-    public double applyDiscount(double originalPrice) {
+    public long applyDiscount(long originalPrice, TextOutput out) {
         if (originalPrice < 0) {
             return originalPrice;
         }
-        double discountedPrice = originalPrice - discountAmount;
-        if (discountedPrice < 0) {
-            discountedPrice = 0;
-        }
-        System.out.println("Applied $" + String.format("%.2f", discountAmount) + " flat discount");
+        long discountedPrice = discountedPrice(originalPrice);
+        out.print("Applied $").price(discountAmount).println(" flat discount");
         return discountedPrice;
     }
     
-    public double getDiscountAmount() {
+    @Override
+    public long discountedPrice(long originalPrice) {
+        if (originalPrice < 0) {
+            return originalPrice;
+        }
+        return Money.nonNegative(originalPrice - discountAmount);
+    }
+    
+    public long getDiscountAmount() {
         return discountAmount;
     }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package discount;
 
+import util.TextOutput;
+
 public class NoDiscount implements DiscountStrategy {
     public NoDiscount() {
     }
     
     @Override
-    public double applyDiscount(double originalPrice) {
+    public long applyDiscount(long originalPrice, TextOutput out) {
         if (originalPrice < 0) {
-            System.out.println("Invalid price: $" + originalPrice);
+            out.print("Invalid price: $").price(originalPrice).println();
             return originalPrice;
         }
-        System.out.println("No discount applied");
+        out.println("No discount applied");
+        return originalPrice;
+    }
+    
+    @Override
+    public long discountedPrice(long originalPrice) {
         return originalPrice;
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package discount;
 
+import money.Money;
+import util.TextOutput;
+
 public class PercentageDiscount implements DiscountStrategy {
     private double percentage;
     
@@ -11,17 +14,24 @@ public class PercentageDiscount implements DiscountStrategy {
     }
     
     @Override
-    public double applyDiscount(double originalPrice) {
+    public long applyDiscount(long originalPrice, TextOutput out) {
         if (originalPrice < 0) {
-            System.out.println("Invalid price: $" + originalPrice);
+            out.print("Invalid price: $").price(originalPrice).println();
             return originalPrice;
         }
-        double discountAmount = originalPrice * percentage / 100;
-        double discountedPrice = originalPrice - discountAmount;
-        System.out.println("Applied " + percentage + "% discount");
+        long discountedPrice = discountedPrice(originalPrice);
+        out.println("Applied " + percentage + "% discount");
         return discountedPrice;
     }
     
+    @Override
+    public long discountedPrice(long originalPrice) {
+        if (originalPrice < 0) {
+            return originalPrice;
+        }
+        return originalPrice - Money.percentage(originalPrice, percentage);
+    }
+    
     public double getPercentage() {
         return percentage;
     }
@@ -0,0 +1,30 @@
+package dish;
+
+import money.Money;
+
+public enum AddOn {
+    EXTRA_CHEESE("Extra Cheese", "with extra cheese", Money.of(2.0)),
+    EXTRA_SAUCE("Extra Sauce", "with extra sauce", Money.of(1.5));
+    
+    private final String label;
+    private final String description;
+    private final long price;
+    
+    AddOn(String label, String description, long price) {
+        this.label = label;
+        this.description = description;
+        this.price = price;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public long getPrice() {
+        return price;
+    }
+}
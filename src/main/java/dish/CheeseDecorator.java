@@ -1,6 +1,8 @@
 package dish;
 
 public class CheeseDecorator extends DishDecorator {
+    public static final long PRICE = AddOn.EXTRA_CHEESE.getPrice();
+    
     public CheeseDecorator(Dish dish) {
         super(dish);
     }
@@ -11,8 +13,8 @@ public class CheeseDecorator extends DishDecorator {
     }
     
     @Override
-    public double getPrice() {
-        return decoratedDish.getPrice() + 2.0;
+    public long getPrice() {
+        return decoratedDish.getPrice() + PRICE;
     }
     
     @Override
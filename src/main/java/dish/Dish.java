@@ -2,7 +2,7 @@ package dish;
 
 public interface Dish {
     String getName();
-    double getPrice();
+    long getPrice();
     String getType();
     String getDescription();
 }
\ No newline at end of file
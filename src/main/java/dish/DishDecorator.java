@@ -13,7 +13,7 @@ public abstract class DishDecorator implements Dish {
     }
     
     @Override
-    public double getPrice() {
+    public long getPrice() {
         return decoratedDish.getPrice();
     }
     
@@ -1,7 +1,13 @@
 package dish;
 
+import money.Money;
+
 public class DishFactory {
     public static Dish createDish(String type, String name, double price, String description) {
+        return createDish(type, name, Money.of(price), description);
+    }
+    
+    public static Dish createDish(String type, String name, long price, String description) {
         switch (type.toUpperCase()) {
             case "VEG":
                 return new VegDish(name, price, description);
@@ -13,4 +19,17 @@ public class DishFactory {
                 throw new IllegalArgumentException("Unknown dish type: " + type);
         }
     }
+    
+    public static Dish createDish(DishType type, String name, long price, String description) {
+        switch (type) {
+            case VEG:
+                return new VegDish(name, price, description);
+            case NON_VEG:
+                return new NonVegDish(name, price, description);
+            case VEGAN:
+                return new VeganDish(name, price, description);
+            default:
+                throw new IllegalArgumentException("Unknown dish type: " + type);
+        }
+    }
 }
\ No newline at end of file
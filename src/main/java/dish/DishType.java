@@ -0,0 +1,49 @@
+package dish;
+
+public enum DishType {
+    VEG("Vegetarian", true),
+    NON_VEG("Non-Vegetarian", false),
+    VEGAN("Vegan", true);
+    
+    private final String label;
+    private final boolean vegetarian;
+    
+    DishType(String label, boolean vegetarian) {
+        this.label = label;
+        this.vegetarian = vegetarian;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public boolean isVegetarian() {
+        return vegetarian;
+    }
+    
+    public static DishType of(Dish dish) {
+        return fromLabel(dish.getType());
+    }
+    
+    public static DishType parse(String value) {
+        for (DishType type : values()) {
+            if (type.name().equalsIgnoreCase(value) || type.label.equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown dish type: " + value);
+    }
+    
+    public static DishType fromLabel(String label) {
+        switch (label) {
+            case "Vegetarian":
+                return VEG;
+            case "Non-Vegetarian":
+                return NON_VEG;
+            case "Vegan":
+                return VEGAN;
+            default:
+                throw new IllegalArgumentException("Unknown dish type: " + label);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package dish;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import money.Money;
+
+public class DishVariant implements Dish {
+    private final Dish base;
+    private final AddOn[] addOns;
+    private final String name;
+    private final long price;
+    private final String description;
+    private final AtomicReferenceArray<DishVariant> extensions;
+    
+    DishVariant(Dish base) {
+        this.base = base;
+        this.addOns = new AddOn[0];
+        this.name = base.getName();
+        this.price = base.getPrice();
+        this.description = base.getDescription();
+        this.extensions = new AtomicReferenceArray<>(AddOn.values().length);
+    }
+    
+    private DishVariant(DishVariant parent, AddOn addOn) {
+        this.base = parent.base;
+        this.addOns = Arrays.copyOf(parent.addOns, parent.addOns.length + 1);
+        this.addOns[parent.addOns.length] = addOn;
+        this.name = parent.name + " + " + addOn.getLabel();
+        this.price = Money.add(parent.price, addOn.getPrice());
+        this.description = parent.description + ", " + addOn.getDescription();
+        this.extensions = new AtomicReferenceArray<>(AddOn.values().length);
+    }
+    
+    DishVariant with(AddOn addOn) {
+        DishVariant extension = extensions.get(addOn.ordinal());
+        if (extension != null) {
+            return extension;
+        }
+        DishVariant created = new DishVariant(this, addOn);
+        if (extensions.compareAndSet(addOn.ordinal(), null, created)) {
+            VariantCompiler.variantCreated();
+            return created;
+        }
+        return extensions.get(addOn.ordinal());
+    }
+    
+    public Dish getBase() {
+        return base;
+    }
+    
+    public List<AddOn> getAddOns() {
+        return Collections.unmodifiableList(Arrays.asList(addOns));
+    }
+    
+    int getAddOnCount() {
+        return addOns.length;
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public long getPrice() {
+        return price;
+    }
+    
+    @Override
+    public String getType() {
+        return base.getType();
+    }
+    
+    @Override
+    public String getDescription() {
+        return description;
+    }
+}
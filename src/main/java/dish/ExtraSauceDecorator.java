@@ -1,6 +1,8 @@
 package dish;
 
 public class ExtraSauceDecorator extends DishDecorator {
+    public static final long PRICE = AddOn.EXTRA_SAUCE.getPrice();
+    
     public ExtraSauceDecorator(Dish dish) {
         super(dish);
     }
@@ -11,8 +13,8 @@ public class ExtraSauceDecorator extends DishDecorator {
     }
     
     @Override
-    public double getPrice() {
-        return decoratedDish.getPrice() + 1.5;
+    public long getPrice() {
+        return decoratedDish.getPrice() + PRICE;
     }
     
     @Override
@@ -2,10 +2,10 @@ package dish;
 
 public class NonVegDish implements Dish {
     private String name;
-    private double price;
+    private long price;
     private String description;
     
-    public NonVegDish(String name, double price, String description) {
+    public NonVegDish(String name, long price, String description) {
         this.name = name;
         this.price = price;
         this.description = description;
@@ -17,7 +17,7 @@ public class NonVegDish implements Dish {
     }
     
     @Override
-    public double getPrice() {
+    public long getPrice() {
         return price;
     }
     
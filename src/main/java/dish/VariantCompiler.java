@@ -0,0 +1,76 @@
+package dish;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class VariantCompiler {
+    private static ConcurrentMap<Dish, DishVariant> roots = new ConcurrentHashMap<>();
+    private static LongAdder variantCount = new LongAdder();
+    
+    public static Dish compile(Dish base, AddOn... addOns) {
+        if (base instanceof DishVariant) {
+            return extend((DishVariant) base, addOns);
+        }
+        if (base instanceof DishDecorator) {
+            return compile(flatten(base), addOns);
+        }
+        if (addOns.length == 0) {
+            return base;
+        }
+        return extend(rootFor(base), addOns);
+    }
+    
+    public static Dish flatten(Dish dish) {
+        if (!(dish instanceof DishDecorator)) {
+            return dish;
+        }
+        List<AddOn> addOns = new ArrayList<>();
+        Dish current = dish;
+        while (current instanceof CheeseDecorator || current instanceof ExtraSauceDecorator) {
+            addOns.add(current instanceof CheeseDecorator ? AddOn.EXTRA_CHEESE : AddOn.EXTRA_SAUCE);
+            current = ((DishDecorator) current).decoratedDish;
+        }
+        if (current instanceof DishDecorator) {
+            return dish;
+        }
+        AddOn[] applied = new AddOn[addOns.size()];
+        for (int i = 0; i < applied.length; i++) {
+            applied[i] = addOns.get(applied.length - 1 - i);
+        }
+        return compile(current, applied);
+    }
+    
+    public static void evict(Dish base) {
+        roots.remove(base);
+    }
+    
+    public static long getVariantCount() {
+        return variantCount.sum();
+    }
+    
+    static void variantCreated() {
+        variantCount.increment();
+    }
+    
+    private static DishVariant rootFor(Dish base) {
+        DishVariant root = roots.get(base);
+        if (root == null) {
+            root = roots.computeIfAbsent(base, DishVariant::new);
+        }
+        return root;
+    }
+    
+    private static Dish extend(DishVariant start, AddOn[] addOns) {
+        DishVariant variant = start;
+        for (AddOn addOn : addOns) {
+            if (addOn == null) {
+                throw new IllegalArgumentException("Add-on must not be null");
+            }
+            variant = variant.with(addOn);
+        }
+        return variant.getAddOnCount() == 0 ? variant.getBase() : variant;
+    }
+}
@@ -2,10 +2,10 @@ package dish;
 
 public class VeganDish implements Dish {
     private String name;
-    private double price;
+    private long price;
     private String description;
     
-    public VeganDish(String name, double price, String description) {
+    public VeganDish(String name, long price, String description) {
         this.name = name;
         this.price = price;
         this.description = description;
@@ -17,7 +17,7 @@ public class VeganDish implements Dish {
     }
     
     @Override
-    public double getPrice() {
+    public long getPrice() {
         return price;
     }
     
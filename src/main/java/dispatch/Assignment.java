@@ -0,0 +1,44 @@
+package dispatch;
+
+public class Assignment {
+    private DispatchRequest request;
+    private int courier;
+    private Location courierLocation;
+    private double pickupDistanceKm;
+    
+    Assignment(DispatchRequest request, int courier, Location courierLocation, double pickupDistanceKm) {
+        this.request = request;
+        this.courier = courier;
+        this.courierLocation = courierLocation;
+        this.pickupDistanceKm = pickupDistanceKm;
+    }
+    
+    public DispatchRequest getRequest() {
+        return request;
+    }
+    
+    public int getCourier() {
+        return courier;
+    }
+    
+    public String getCourierId() {
+        return "C" + courier;
+    }
+    
+    public Location getCourierLocation() {
+        return courierLocation;
+    }
+    
+    public double getPickupDistanceKm() {
+        return pickupDistanceKm;
+    }
+    
+    public double getDeliveryDistanceKm() {
+        return request.getPickup().distanceKm(request.getDropoff());
+    }
+    
+    @Override
+    public String toString() {
+        return request.getOrderId() + " -> " + getCourierId() + String.format(" (%.2f km away)", pickupDistanceKm);
+    }
+}
\ No newline at end of file
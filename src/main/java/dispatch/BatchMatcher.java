@@ -0,0 +1,86 @@
+package dispatch;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class BatchMatcher {
+    private CourierGrid grid;
+    private int candidates;
+    private int[] candidateCouriers;
+    private double[] candidateDistances;
+    private long[] pairs;
+    private boolean[] matched;
+    private int[] nearestCourier;
+    private double[] nearestDistance;
+    
+    public BatchMatcher(CourierGrid grid, int candidates) {
+        if (candidates <= 0) {
+            throw new IllegalArgumentException("Candidate count must be positive");
+        }
+        this.grid = grid;
+        this.candidates = candidates;
+        this.candidateCouriers = new int[0];
+        this.candidateDistances = new double[0];
+        this.pairs = new long[0];
+        this.matched = new boolean[0];
+        this.nearestCourier = new int[candidates];
+        this.nearestDistance = new double[candidates];
+    }
+    
+    public int match(List<DispatchRequest> batch, List<Assignment> assigned, List<DispatchRequest> unmatched) {
+        int size = batch.size();
+        ensureCapacity(size);
+        int pairCount = 0;
+        for (int i = 0; i < size; i++) {
+            matched[i] = false;
+            int base = i * candidates;
+            int found = grid.nearest(batch.get(i).getPickup(), candidates, nearestCourier, nearestDistance);
+            for (int j = 0; j < found; j++) {
+                candidateCouriers[base + j] = nearestCourier[j];
+                candidateDistances[base + j] = nearestDistance[j];
+                pairs[pairCount++] = (long) Float.floatToIntBits((float) nearestDistance[j]) << 32 | (base + j);
+            }
+        }
+        Arrays.sort(pairs, 0, pairCount);
+        int matchedCount = 0;
+        for (int p = 0; p < pairCount; p++) {
+            int candidate = (int) pairs[p];
+            int request = candidate / candidates;
+            if (matched[request] || !grid.reserve(candidateCouriers[candidate])) {
+                continue;
+            }
+            matched[request] = true;
+            assigned.add(assignment(batch.get(request), candidateCouriers[candidate], candidateDistances[candidate]));
+            matchedCount++;
+        }
+        for (int i = 0; i < size; i++) {
+            if (matched[i]) {
+                continue;
+            }
+            DispatchRequest request = batch.get(i);
+            if (grid.nearest(request.getPickup(), 1, nearestCourier, nearestDistance) == 0) {
+                unmatched.add(request);
+                continue;
+            }
+            grid.reserve(nearestCourier[0]);
+            assigned.add(assignment(request, nearestCourier[0], nearestDistance[0]));
+            matchedCount++;
+        }
+        return matchedCount;
+    }
+    
+    private Assignment assignment(DispatchRequest request, int courier, double distanceKm) {
+        return new Assignment(request, courier, grid.getLocation(courier), distanceKm);
+    }
+    
+    private void ensureCapacity(int size) {
+        if (matched.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, matched.length * 2);
+        candidateCouriers = new int[capacity * candidates];
+        candidateDistances = new double[capacity * candidates];
+        pairs = new long[capacity * candidates];
+        matched = new boolean[capacity];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package dispatch;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class CourierGrid {
+    private static final int INITIAL_CELL_CAPACITY = 4;
+    
+    private Location center;
+    private double radiusKm;
+    private double cellKm;
+    private double kmPerDegreeLongitude;
+    private int columns;
+    private int rows;
+    private int[][] cells;
+    private int[] cellSizes;
+    private double[] xs;
+    private double[] ys;
+    private int[] cellOf;
+    private int[] slotOf;
+    private int courierCount;
+    private int availableCount;
+    
+    public CourierGrid(Location center, double radiusKm, double cellKm) {
+        if (!(radiusKm > 0) || !(cellKm > 0)) {
+            throw new IllegalArgumentException("Radius and cell size must be positive");
+        }
+        int side = (int) Math.ceil(2 * radiusKm / cellKm);
+        if ((long) side * side > 1 << 24) {
+            throw new IllegalArgumentException("Too many grid cells: " + side + "x" + side);
+        }
+        this.center = center;
+        this.radiusKm = radiusKm;
+        this.cellKm = cellKm;
+        this.kmPerDegreeLongitude = Location.KM_PER_DEGREE_LONGITUDE * Math.cos(Math.toRadians(center.getLatitude()));
+        this.columns = side;
+        this.rows = side;
+        this.cells = new int[side * side][];
+        this.cellSizes = new int[side * side];
+        this.xs = new double[64];
+        this.ys = new double[64];
+        this.cellOf = new int[64];
+        this.slotOf = new int[64];
+    }
+    
+    public int addCourier(Location at) {
+        if (courierCount == xs.length) {
+            int capacity = xs.length * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            cellOf = Arrays.copyOf(cellOf, capacity);
+            slotOf = Arrays.copyOf(slotOf, capacity);
+        }
+        int courier = courierCount++;
+        cellOf[courier] = -1;
+        release(courier, at);
+        return courier;
+    }
+    
+    public void addCouriers(int count, SplittableRandom random) {
+        for (int i = 0; i < count; i++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double distance = radiusKm * Math.sqrt(random.nextDouble());
+            addCourier(center.offset(distance * Math.cos(angle), distance * Math.sin(angle)));
+        }
+    }
+    
+    public boolean isAvailable(int courier) {
+        checkCourier(courier);
+        return cellOf[courier] >= 0;
+    }
+    
+    public boolean reserve(int courier) {
+        checkCourier(courier);
+        int cell = cellOf[courier];
+        if (cell < 0) {
+            return false;
+        }
+        int[] members = cells[cell];
+        int last = --cellSizes[cell];
+        int slot = slotOf[courier];
+        int moved = members[last];
+        members[slot] = moved;
+        slotOf[moved] = slot;
+        cellOf[courier] = -1;
+        availableCount--;
+        return true;
+    }
+    
+    public void release(int courier, Location at) {
+        checkCourier(courier);
+        if (cellOf[courier] >= 0) {
+            reserve(courier);
+        }
+        double x = projectX(at);
+        double y = projectY(at);
+        xs[courier] = x;
+        ys[courier] = y;
+        int cell = row(y) * columns + column(x);
+        int[] members = cells[cell];
+        int size = cellSizes[cell];
+        if (members == null) {
+            members = new int[INITIAL_CELL_CAPACITY];
+            cells[cell] = members;
+        } else if (size == members.length) {
+            members = Arrays.copyOf(members, size * 2);
+            cells[cell] = members;
+        }
+        members[size] = courier;
+        cellSizes[cell] = size + 1;
+        cellOf[courier] = cell;
+        slotOf[courier] = size;
+        availableCount++;
+    }
+    
+    public Location getLocation(int courier) {
+        checkCourier(courier);
+        return new Location(center.getLatitude() + ys[courier] / Location.KM_PER_DEGREE_LATITUDE,
+                            center.getLongitude() + xs[courier] / kmPerDegreeLongitude);
+    }
+    
+    public int nearest(Location at, int limit, int[] couriers, double[] distancesKm) {
+        return nearest(projectX(at), projectY(at), limit, couriers, distancesKm);
+    }
+    
+    int nearest(double x, double y, int limit, int[] couriers, double[] distancesKm) {
+        if (limit <= 0 || couriers.length < limit || distancesKm.length < limit) {
+            throw new IllegalArgumentException("Result arrays must hold " + limit + " couriers");
+        }
+        if (availableCount == 0) {
+            return 0;
+        }
+        int column = column(x);
+        int row = row(y);
+        int found = 0;
+        int maxRing = Math.max(columns, rows);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int top = row - ring;
+            int bottom = row + ring;
+            int left = column - ring;
+            int right = column + ring;
+            for (int c = left; c <= right; c++) {
+                found = scanCell(top, c, x, y, limit, found, couriers, distancesKm);
+                if (bottom != top) {
+                    found = scanCell(bottom, c, x, y, limit, found, couriers, distancesKm);
+                }
+            }
+            for (int r = top + 1; r < bottom; r++) {
+                found = scanCell(r, left, x, y, limit, found, couriers, distancesKm);
+                if (right != left) {
+                    found = scanCell(r, right, x, y, limit, found, couriers, distancesKm);
+                }
+            }
+            double reach = ring * cellKm;
+            if (found == limit && distancesKm[limit - 1] <= reach * reach) {
+                break;
+            }
+            if (found == availableCount && found > 0) {
+                break;
+            }
+        }
+        for (int i = 0; i < found; i++) {
+            distancesKm[i] = Math.sqrt(distancesKm[i]);
+        }
+        return found;
+    }
+    
+    private int scanCell(int row, int column, double x, double y, int limit, int found, int[] couriers,
+                         double[] distances) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            return found;
+        }
+        int cell = row * columns + column;
+        int size = cellSizes[cell];
+        int[] members = cells[cell];
+        for (int i = 0; i < size; i++) {
+            int courier = members[i];
+            double dx = xs[courier] - x;
+            double dy = ys[courier] - y;
+            double distance = dx * dx + dy * dy;
+            if (found == limit && distance >= distances[limit - 1]) {
+                continue;
+            }
+            int position = found < limit ? found++ : limit - 1;
+            while (position > 0 && distances[position - 1] > distance) {
+                distances[position] = distances[position - 1];
+                couriers[position] = couriers[position - 1];
+                position--;
+            }
+            distances[position] = distance;
+            couriers[position] = courier;
+        }
+        return found;
+    }
+    
+    public int getCourierCount() {
+        return courierCount;
+    }
+    
+    public int getAvailableCount() {
+        return availableCount;
+    }
+    
+    public Location getCenter() {
+        return center;
+    }
+    
+    double projectX(Location at) {
+        return (at.getLongitude() - center.getLongitude()) * kmPerDegreeLongitude;
+    }
+    
+    double projectY(Location at) {
+        return (at.getLatitude() - center.getLatitude()) * Location.KM_PER_DEGREE_LATITUDE;
+    }
+    
+    private int column(double x) {
+        int column = (int) Math.floor((x + radiusKm) / cellKm);
+        return Math.max(0, Math.min(columns - 1, column));
+    }
+    
+    private int row(double y) {
+        int row = (int) Math.floor((y + radiusKm) / cellKm);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+    
+    private void checkCourier(int courier) {
+        if (courier < 0 || courier >= courierCount) {
+            throw new IllegalArgumentException("Unknown courier: " + courier);
+        }
+    }
+}
\ No newline at end of file
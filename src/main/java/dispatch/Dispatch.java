@@ -0,0 +1,64 @@
+package dispatch;
+
+import java.util.SplittableRandom;
+import config.AppConfig;
+import metrics.Metrics;
+
+public class Dispatch {
+    private static volatile Geocoder geocoder;
+    private static volatile DispatchEngine engine;
+    private static volatile boolean opened;
+    
+    public static Geocoder getGeocoder() {
+        Geocoder current = geocoder;
+        if (current == null) {
+            synchronized (Dispatch.class) {
+                current = geocoder;
+                if (current == null) {
+                    AppConfig config = AppConfig.getInstance();
+                    current = new HashingGeocoder(getServiceCenter(config), config.getDispatchRadiusKm());
+                    geocoder = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    public static DispatchEngine getEngine() {
+        if (!opened) {
+            synchronized (Dispatch.class) {
+                if (!opened) {
+                    AppConfig config = AppConfig.getInstance();
+                    if (config.getDispatchCouriers() > 0) {
+                        engine = createEngine(config);
+                    }
+                    opened = true;
+                }
+            }
+        }
+        return engine;
+    }
+    
+    public static synchronized void shutdown() {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+    
+    private static DispatchEngine createEngine(AppConfig config) {
+        CourierGrid grid = new CourierGrid(getServiceCenter(config), config.getDispatchRadiusKm(),
+                                           config.getDispatchCellKm());
+        grid.addCouriers(config.getDispatchCouriers(), new SplittableRandom(config.getDispatchCouriers()));
+        DispatchEngine created = new DispatchEngine(grid, config.getDispatchCandidates(),
+                                                    config.getDispatchRoundMillis(), config.getDispatchBatchSize());
+        Metrics.gauge("dispatch.pending", created::getPendingCount);
+        Metrics.gauge("dispatch.couriers.available", created::getAvailableCourierCount);
+        Metrics.gauge("dispatch.assigned", created::getAssignedCount);
+        created.start();
+        return created;
+    }
+    
+    private static Location getServiceCenter(AppConfig config) {
+        return new Location(config.getDispatchCenterLatitude(), config.getDispatchCenterLongitude());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DispatchEngine {
+    private CourierGrid grid;
+    private BatchMatcher matcher;
+    private long roundMillis;
+    private int batchSize;
+    private Queue<DispatchRequest> requests;
+    private Queue<Assignment> completions;
+    private Queue<Assignment> cancellations;
+    private AtomicInteger queuedRequests;
+    private List<DispatchRequest> backlog;
+    private List<DispatchRequest> batch;
+    private List<Assignment> assigned;
+    private LongAdder requested;
+    private LongAdder assignedCount;
+    private LongAdder rounds;
+    private LongAdder listenerFailures;
+    private volatile int availableCouriers;
+    private volatile boolean running;
+    private Thread worker;
+    
+    public DispatchEngine(CourierGrid grid, int candidates, long roundMillis, int batchSize) {
+        if (roundMillis <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Round interval and batch size must be positive");
+        }
+        this.grid = grid;
+        this.matcher = new BatchMatcher(grid, candidates);
+        this.roundMillis = roundMillis;
+        this.batchSize = batchSize;
+        this.requests = new ConcurrentLinkedQueue<>();
+        this.completions = new ConcurrentLinkedQueue<>();
+        this.cancellations = new ConcurrentLinkedQueue<>();
+        this.queuedRequests = new AtomicInteger();
+        this.backlog = new ArrayList<>();
+        this.batch = new ArrayList<>(batchSize);
+        this.assigned = new ArrayList<>(batchSize);
+        this.requested = new LongAdder();
+        this.assignedCount = new LongAdder();
+        this.rounds = new LongAdder();
+        this.listenerFailures = new LongAdder();
+        this.availableCouriers = grid.getAvailableCount();
+    }
+    
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::dispatchLoop, "courier-dispatch");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            current = worker;
+            worker = null;
+            running = false;
+            notifyAll();
+        }
+        if (current != null) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    public void request(DispatchRequest request) {
+        requested.increment();
+        queuedRequests.incrementAndGet();
+        requests.add(request);
+    }
+    
+    public void complete(Assignment assignment) {
+        completions.add(assignment);
+    }
+    
+    public void cancel(Assignment assignment) {
+        cancellations.add(assignment);
+    }
+    
+    public synchronized int runRound() {
+        Assignment released;
+        while ((released = completions.poll()) != null) {
+            grid.release(released.getCourier(), released.getRequest().getDropoff());
+        }
+        while ((released = cancellations.poll()) != null) {
+            grid.release(released.getCourier(), released.getCourierLocation());
+        }
+        batch.clear();
+        int fromBacklog = Math.min(backlog.size(), batchSize);
+        batch.addAll(backlog.subList(0, fromBacklog));
+        backlog.subList(0, fromBacklog).clear();
+        DispatchRequest request;
+        while (batch.size() < batchSize && (request = requests.poll()) != null) {
+            queuedRequests.decrementAndGet();
+            batch.add(request);
+        }
+        assigned.clear();
+        int matched = batch.isEmpty() ? 0 : matcher.match(batch, assigned, backlog);
+        availableCouriers = grid.getAvailableCount();
+        rounds.increment();
+        assignedCount.add(matched);
+        for (int i = 0; i < assigned.size(); i++) {
+            Assignment assignment = assigned.get(i);
+            DispatchListener listener = assignment.getRequest().getListener();
+            if (listener == null) {
+                continue;
+            }
+            try {
+                listener.onAssigned(assignment);
+            } catch (RuntimeException e) {
+                listenerFailures.increment();
+                cancellations.add(assignment);
+            }
+        }
+        return matched;
+    }
+    
+    public long getRequestedCount() {
+        return requested.sum();
+    }
+    
+    public long getAssignedCount() {
+        return assignedCount.sum();
+    }
+    
+    public long getRoundCount() {
+        return rounds.sum();
+    }
+    
+    public long getListenerFailureCount() {
+        return listenerFailures.sum();
+    }
+    
+    public synchronized int getPendingCount() {
+        return backlog.size() + queuedRequests.get();
+    }
+    
+    public int getAvailableCourierCount() {
+        return availableCouriers;
+    }
+    
+    public int getCourierCount() {
+        return grid.getCourierCount();
+    }
+    
+    private void dispatchLoop() {
+        while (running) {
+            long start = System.nanoTime();
+            runRound();
+            long remainingMillis = roundMillis - (System.nanoTime() - start) / 1_000_000;
+            if (remainingMillis <= 0) {
+                continue;
+            }
+            synchronized (this) {
+                if (!running) {
+                    return;
+                }
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package dispatch;
+
+public interface DispatchListener {
+    void onAssigned(Assignment assignment);
+}
\ No newline at end of file
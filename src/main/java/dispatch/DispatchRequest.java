@@ -0,0 +1,40 @@
+package dispatch;
+
+public class DispatchRequest {
+    private String orderId;
+    private Location pickup;
+    private Location dropoff;
+    private DispatchListener listener;
+    private long requestedNanos;
+    
+    public DispatchRequest(String orderId, Location pickup, Location dropoff, DispatchListener listener) {
+        if (pickup == null || dropoff == null) {
+            throw new IllegalArgumentException("Pickup and dropoff locations are required");
+        }
+        this.orderId = orderId;
+        this.pickup = pickup;
+        this.dropoff = dropoff;
+        this.listener = listener;
+        this.requestedNanos = System.nanoTime();
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public Location getPickup() {
+        return pickup;
+    }
+    
+    public Location getDropoff() {
+        return dropoff;
+    }
+    
+    public DispatchListener getListener() {
+        return listener;
+    }
+    
+    public long getRequestedNanos() {
+        return requestedNanos;
+    }
+}
\ No newline at end of file
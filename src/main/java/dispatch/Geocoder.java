@@ -0,0 +1,5 @@
+package dispatch;
+
+public interface Geocoder {
+    Location locate(String address);
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package dispatch;
+
+public class HashingGeocoder implements Geocoder {
+    private Location center;
+    private double radiusKm;
+    
+    public HashingGeocoder(Location center, double radiusKm) {
+        if (!(radiusKm > 0)) {
+            throw new IllegalArgumentException("Radius must be positive");
+        }
+        this.center = center;
+        this.radiusKm = radiusKm;
+    }
+    
+    @Override
+    public Location locate(String address) {
+        if (address == null || address.isBlank()) {
+            return center;
+        }
+        long hash = 0xCBF29CE484222325L;
+        boolean pendingSpace = false;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (Character.isWhitespace(c) || c == ',' || c == '.') {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && hash != 0xCBF29CE484222325L) {
+                hash = (hash ^ ' ') * 0x100000001B3L;
+            }
+            pendingSpace = false;
+            hash = (hash ^ Character.toLowerCase(c)) * 0x100000001B3L;
+        }
+        long mixed = mix(hash);
+        double angle = (mixed >>> 32) * (2 * Math.PI / 4294967296.0);
+        double distance = radiusKm * Math.sqrt((mixed & 0xFFFFFFFFL) / 4294967296.0);
+        return center.offset(distance * Math.cos(angle), distance * Math.sin(angle));
+    }
+    
+    public Location getCenter() {
+        return center;
+    }
+    
+    public double getRadiusKm() {
+        return radiusKm;
+    }
+    
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package dispatch;
+
+public class Location {
+    static final double KM_PER_DEGREE_LATITUDE = 110.574;
+    static final double KM_PER_DEGREE_LONGITUDE = 111.320;
+    
+    private double latitude;
+    private double longitude;
+    
+    public Location(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Invalid coordinate: " + latitude + "," + longitude);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+    
+    public double getLatitude() {
+        return latitude;
+    }
+    
+    public double getLongitude() {
+        return longitude;
+    }
+    
+    public Location offset(double eastKm, double northKm) {
+        double latitudeDelta = northKm / KM_PER_DEGREE_LATITUDE;
+        double longitudeDelta = eastKm / (KM_PER_DEGREE_LONGITUDE * Math.cos(Math.toRadians(latitude)));
+        return new Location(Math.max(-90, Math.min(90, latitude + latitudeDelta)),
+                            Math.max(-180, Math.min(180, longitude + longitudeDelta)));
+    }
+    
+    public double distanceKm(Location other) {
+        double meanLatitude = Math.toRadians((latitude + other.latitude) / 2);
+        double east = (other.longitude - longitude) * KM_PER_DEGREE_LONGITUDE * Math.cos(meanLatitude);
+        double north = (other.latitude - latitude) * KM_PER_DEGREE_LATITUDE;
+        return Math.sqrt(east * east + north * north);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Location)) {
+            return false;
+        }
+        Location location = (Location) other;
+        return Double.compare(latitude, location.latitude) == 0 && Double.compare(longitude, location.longitude) == 0;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%.5f,%.5f", latitude, longitude);
+    }
+}
\ No newline at end of file
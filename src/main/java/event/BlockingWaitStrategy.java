@@ -0,0 +1,61 @@
+package event;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class BlockingWaitStrategy implements WaitStrategy {
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int SPIN_TRIES = 200;
+    
+    private volatile Thread[] consumers = new Thread[0];
+    private AtomicInteger parked = new AtomicInteger();
+    
+    @Override
+    public synchronized void register(Thread consumer) {
+        Thread[] registered = Arrays.copyOf(consumers, consumers.length + 1);
+        registered[consumers.length] = consumer;
+        consumers = registered;
+    }
+    
+    @Override
+    public synchronized void unregister(Thread consumer) {
+        Thread[] registered = consumers;
+        for (int i = 0; i < registered.length; i++) {
+            if (registered[i] == consumer) {
+                Thread[] remaining = new Thread[registered.length - 1];
+                System.arraycopy(registered, 0, remaining, 0, i);
+                System.arraycopy(registered, i + 1, remaining, i, registered.length - i - 1);
+                consumers = remaining;
+                return;
+            }
+        }
+    }
+    
+    @Override
+    public int idle(int attempts) {
+        if (attempts < SPIN_TRIES) {
+            Thread.onSpinWait();
+            return attempts + 1;
+        }
+        parked.incrementAndGet();
+        try {
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        } finally {
+            parked.decrementAndGet();
+        }
+        return attempts + 1;
+    }
+    
+    @Override
+    public void signal() {
+        if (parked.get() == 0) {
+            return;
+        }
+        Thread[] registered = consumers;
+        for (int i = 0; i < registered.length; i++) {
+            LockSupport.unpark(registered[i]);
+        }
+    }
+}
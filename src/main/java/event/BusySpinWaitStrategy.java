@@ -0,0 +1,9 @@
+package event;
+
+public class BusySpinWaitStrategy implements WaitStrategy {
+    @Override
+    public int idle(int attempts) {
+        Thread.onSpinWait();
+        return attempts + 1;
+    }
+}
@@ -0,0 +1,93 @@
+package event;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class EventConsumer {
+    private OrderEventBus bus;
+    private String name;
+    private OrderEventHandler handler;
+    private OrderEvent event;
+    private volatile long sequence;
+    private volatile boolean running;
+    private LongAdder lost;
+    private LongAdder failures;
+    private Thread thread;
+    
+    EventConsumer(OrderEventBus bus, String name, OrderEventHandler handler, long startSequence) {
+        this.bus = bus;
+        this.name = name;
+        this.handler = handler;
+        this.event = new OrderEvent();
+        this.sequence = startSequence;
+        this.lost = new LongAdder();
+        this.failures = new LongAdder();
+    }
+    
+    void start() {
+        running = true;
+        thread = new Thread(this::consume, "order-events-" + name);
+        thread.setDaemon(true);
+        bus.getWaitStrategy().register(thread);
+        thread.start();
+    }
+    
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        bus.getWaitStrategy().unregister(thread);
+    }
+    
+    private void consume() {
+        WaitStrategy waitStrategy = bus.getWaitStrategy();
+        long next = sequence;
+        int attempts = 0;
+        while (running) {
+            int result = bus.read(next, event);
+            if (result == OrderEventBus.PENDING) {
+                attempts = waitStrategy.idle(attempts);
+                continue;
+            }
+            attempts = 0;
+            if (result == OrderEventBus.OVERRUN) {
+                long resume = Math.max(next + 1, bus.oldestAvailable());
+                lost.add(resume - next);
+                next = resume;
+                sequence = next;
+                continue;
+            }
+            try {
+                handler.onEvent(event, next, next + 1 >= bus.getPublishedCount());
+            } catch (RuntimeException e) {
+                failures.increment();
+            }
+            next++;
+            sequence = next;
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public long getLag() {
+        return Math.max(0, bus.getPublishedCount() - sequence);
+    }
+    
+    public long getLostCount() {
+        return lost.sum();
+    }
+    
+    public long getFailureCount() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package event;
+
+import order.Order;
+import order.OrderState;
+
+public class OrderEvent {
+    private OrderEventType type;
+    private Order order;
+    private String orderId;
+    private OrderState from;
+    private OrderState to;
+    private long amount;
+    private long timestampNanos;
+    
+    void set(OrderEventType type, Order order, OrderState from, OrderState to, long amount, long timestampNanos) {
+        this.type = type;
+        this.order = order;
+        this.orderId = order.getOrderId();
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+        this.timestampNanos = timestampNanos;
+    }
+    
+    void copyFrom(OrderEvent other) {
+        this.type = other.type;
+        this.order = other.order;
+        this.orderId = other.orderId;
+        this.from = other.from;
+        this.to = other.to;
+        this.amount = other.amount;
+        this.timestampNanos = other.timestampNanos;
+    }
+    
+    public OrderEventType getType() {
+        return type;
+    }
+    
+    public Order getOrder() {
+        return order;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public OrderState getFrom() {
+        return from;
+    }
+    
+    public OrderState getTo() {
+        return to;
+    }
+    
+    public long getAmount() {
+        return amount;
+    }
+    
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+}
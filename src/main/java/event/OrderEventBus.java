@@ -0,0 +1,122 @@
+package event;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import order.Order;
+import order.OrderState;
+import order.OrderStateListener;
+
+public class OrderEventBus implements OrderStateListener {
+    static final int AVAILABLE = 0;
+    static final int PENDING = 1;
+    static final int OVERRUN = 2;
+    
+    private final OrderEvent[] ring;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong cursor;
+    private final WaitStrategy waitStrategy;
+    private final List<EventConsumer> consumers;
+    
+    public OrderEventBus(int bufferSize, WaitStrategy waitStrategy) {
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a positive power of two");
+        }
+        this.ring = new OrderEvent[bufferSize];
+        this.published = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            ring[i] = new OrderEvent();
+            published.set(i, complete(i - bufferSize));
+        }
+        this.mask = bufferSize - 1;
+        this.cursor = new AtomicLong();
+        this.waitStrategy = waitStrategy;
+        this.consumers = new CopyOnWriteArrayList<>();
+    }
+    
+    @Override
+    public void onTransition(Order order, OrderState from, OrderState to) {
+        publish(to == OrderState.PLACED ? OrderEventType.PLACED : OrderEventType.STATUS_CHANGED, order, from, to, 0);
+    }
+    
+    @Override
+    public void onCleared(Order order) {
+        publish(OrderEventType.CLEARED, order, null, OrderState.PENDING, 0);
+    }
+    
+    public void publishPaid(Order order, long amount) {
+        publish(OrderEventType.PAID, order, order.getStatus(), order.getStatus(), amount);
+    }
+    
+    public long publish(OrderEventType type, Order order, OrderState from, OrderState to, long amount) {
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) sequence & mask;
+        published.set(slot, sequence << 1);
+        VarHandle.storeStoreFence();
+        ring[slot].set(type, order, from, to, amount, System.nanoTime());
+        published.set(slot, complete(sequence));
+        waitStrategy.signal();
+        return sequence;
+    }
+    
+    public EventConsumer subscribe(String name, OrderEventHandler handler) {
+        EventConsumer consumer = new EventConsumer(this, name, handler, cursor.get());
+        consumers.add(consumer);
+        consumer.start();
+        return consumer;
+    }
+    
+    public void unsubscribe(EventConsumer consumer) {
+        if (consumers.remove(consumer)) {
+            consumer.stop();
+        }
+    }
+    
+    public void shutdown() {
+        for (EventConsumer consumer : consumers) {
+            unsubscribe(consumer);
+        }
+    }
+    
+    public List<EventConsumer> getConsumers() {
+        return List.copyOf(consumers);
+    }
+    
+    public long getPublishedCount() {
+        return cursor.get();
+    }
+    
+    public int getBufferSize() {
+        return ring.length;
+    }
+    
+    WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+    
+    int read(long sequence, OrderEvent target) {
+        int slot = (int) sequence & mask;
+        long marker = published.get(slot);
+        long markerSequence = marker >> 1;
+        if (markerSequence < sequence || (markerSequence == sequence && (marker & 1) == 0)) {
+            return PENDING;
+        }
+        if (markerSequence > sequence) {
+            return OVERRUN;
+        }
+        target.copyFrom(ring[slot]);
+        VarHandle.loadLoadFence();
+        return published.get(slot) == marker ? AVAILABLE : OVERRUN;
+    }
+    
+    long oldestAvailable() {
+        return Math.max(0, cursor.get() - ring.length + 1);
+    }
+    
+    private static long complete(long sequence) {
+        return (sequence << 1) | 1;
+    }
+}
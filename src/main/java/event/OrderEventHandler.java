@@ -0,0 +1,5 @@
+package event;
+
+public interface OrderEventHandler {
+    void onEvent(OrderEvent event, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,8 @@
+package event;
+
+public enum OrderEventType {
+    PLACED,
+    STATUS_CHANGED,
+    PAID,
+    CLEARED
+}
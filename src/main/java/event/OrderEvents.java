@@ -0,0 +1,84 @@
+package event;
+
+import java.util.concurrent.TimeUnit;
+import config.AppConfig;
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.Metrics;
+import notification.Notification;
+import notification.NotificationDispatcher;
+import order.Order;
+
+public class OrderEvents {
+    private static volatile OrderEventBus bus;
+    
+    public static OrderEventBus getBus() {
+        OrderEventBus current = bus;
+        if (current == null) {
+            synchronized (OrderEvents.class) {
+                current = bus;
+                if (current == null) {
+                    current = createBus();
+                    bus = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    public static synchronized void shutdown() {
+        if (bus != null) {
+            Order.removeStateListener(bus);
+            bus.shutdown();
+        }
+    }
+    
+    public static WaitStrategy waitStrategyFor(String name) {
+        switch (name.toLowerCase()) {
+            case "blocking":
+                return new BlockingWaitStrategy();
+            case "sleeping":
+                return new SleepingWaitStrategy(TimeUnit.MICROSECONDS.toNanos(100));
+            case "yielding":
+                return new YieldingWaitStrategy();
+            case "busy-spin":
+                return new BusySpinWaitStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown wait strategy: " + name);
+        }
+    }
+    
+    private static OrderEventBus createBus() {
+        AppConfig config = AppConfig.getInstance();
+        OrderEventBus created = new OrderEventBus(config.getEventBufferSize(),
+                                                  waitStrategyFor(config.getEventWaitStrategy()));
+        Order.addStateListener(created);
+        EventConsumer notifications = created.subscribe("notifications", (event, sequence, endOfBatch) -> {
+            if (event.getType() == OrderEventType.STATUS_CHANGED) {
+                Order order = event.getOrder();
+                long recipient = order != null && order.getUser() != null ? order.getUser().getId()
+                    : NotificationDispatcher.NO_RECIPIENT;
+                Notification.updateStatus(recipient, event.getOrderId(), event.getTo().getLabel());
+            }
+        });
+        EventConsumer metrics = created.subscribe("metrics", metricsHandler());
+        for (EventConsumer consumer : new EventConsumer[] {notifications, metrics}) {
+            Metrics.gauge("events." + consumer.getName() + ".lag", consumer::getLag);
+            Metrics.gauge("events." + consumer.getName() + ".lost", consumer::getLostCount);
+        }
+        return created;
+    }
+    
+    private static OrderEventHandler metricsHandler() {
+        OrderEventType[] types = OrderEventType.values();
+        Counter[] counts = new Counter[types.length];
+        for (OrderEventType type : types) {
+            counts[type.ordinal()] = Metrics.counter("events." + type.name().toLowerCase());
+        }
+        Histogram delivery = Metrics.histogram("events.delivery");
+        return (event, sequence, endOfBatch) -> {
+            counts[event.getType().ordinal()].increment();
+            delivery.recordSince(event.getTimestampNanos());
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package event;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class SleepingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    
+    private long sleepNanos;
+    
+    public SleepingWaitStrategy(long sleepNanos) {
+        if (sleepNanos <= 0) {
+            throw new IllegalArgumentException("Sleep time must be positive");
+        }
+        this.sleepNanos = sleepNanos;
+    }
+    
+    @Override
+    public int idle(int attempts) {
+        if (attempts < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempts < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(sleepNanos);
+            return attempts;
+        }
+        return attempts + 1;
+    }
+}
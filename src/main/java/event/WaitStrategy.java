@@ -0,0 +1,14 @@
+package event;
+
+public interface WaitStrategy {
+    int idle(int attempts);
+    
+    default void register(Thread consumer) {
+    }
+    
+    default void unregister(Thread consumer) {
+    }
+    
+    default void signal() {
+    }
+}
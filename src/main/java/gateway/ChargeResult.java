@@ -0,0 +1,33 @@
+package gateway;
+
+public class ChargeResult {
+    private boolean approved;
+    private String transactionId;
+    private String message;
+    
+    private ChargeResult(boolean approved, String transactionId, String message) {
+        this.approved = approved;
+        this.transactionId = transactionId;
+        this.message = message;
+    }
+    
+    public static ChargeResult approved(String transactionId) {
+        return new ChargeResult(true, transactionId, "Approved");
+    }
+    
+    public static ChargeResult declined(String message) {
+        return new ChargeResult(false, null, message);
+    }
+    
+    public boolean isApproved() {
+        return approved;
+    }
+    
+    public String getTransactionId() {
+        return transactionId;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package gateway;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import scheduler.Timeout;
+
+class PaymentCall {
+    private PaymentRequest request;
+    private CompletableFuture<PaymentOutcome> result;
+    private long startNanos;
+    private AtomicInteger settledAttempts;
+    private ReentrantLock chargeLock;
+    private ChargeResult charge;
+    private volatile Timeout timeout;
+    
+    PaymentCall(PaymentRequest request) {
+        this.request = request;
+        this.result = new CompletableFuture<>();
+        this.startNanos = System.nanoTime();
+        this.settledAttempts = new AtomicInteger();
+        this.chargeLock = new ReentrantLock();
+    }
+    
+    ChargeResult charge(PaymentProcessor processor) throws IOException, InterruptedException {
+        chargeLock.lockInterruptibly();
+        try {
+            if (charge == null) {
+                charge = processor.charge(request);
+            }
+            return charge;
+        } finally {
+            chargeLock.unlock();
+        }
+    }
+    
+    boolean settle(int attempt) {
+        if (!settledAttempts.compareAndSet(attempt - 1, attempt)) {
+            return false;
+        }
+        Timeout pending = timeout;
+        if (pending != null) {
+            pending.cancel();
+        }
+        return true;
+    }
+    
+    void complete(PaymentStatus status, String transactionId, String message, int attempts) {
+        result.complete(new PaymentOutcome(request, status, transactionId, message, attempts,
+                                           System.nanoTime() - startNanos));
+    }
+    
+    void setTimeout(Timeout timeout) {
+        this.timeout = timeout;
+    }
+    
+    boolean matches(PaymentRequest other) {
+        return request.getAmount() == other.getAmount() && request.getMethod() == other.getMethod();
+    }
+    
+    boolean isDone() {
+        return result.isDone();
+    }
+    
+    PaymentRequest getRequest() {
+        return request;
+    }
+    
+    CompletableFuture<PaymentOutcome> getResult() {
+        return result;
+    }
+}
\ No newline at end of file
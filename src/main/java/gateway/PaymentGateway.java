@@ -0,0 +1,203 @@
+package gateway;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import payment.PaymentMethod;
+import scheduler.TimingWheel;
+
+public class PaymentGateway {
+    private static final long TIMER_TICK_MILLIS = 5;
+    
+    private PaymentProcessor processor;
+    private long timeoutMillis;
+    private int maxAttempts;
+    private long backoffMillis;
+    private int maxRememberedKeys;
+    private Map<PaymentMethod, ThreadPoolExecutor> bulkheads;
+    private TimingWheel timer;
+    private Map<String, PaymentCall> calls;
+    private Queue<String> callOrder;
+    private Map<PaymentStatus, LongAdder> outcomes;
+    private LongAdder duplicates;
+    private LongAdder retries;
+    private LongAdder timeouts;
+    private LongAdder rejections;
+    
+    public PaymentGateway(PaymentProcessor processor, int bulkheadThreads, int bulkheadQueue, long timeoutMillis,
+                          int maxAttempts, long backoffMillis, int maxRememberedKeys) {
+        if (bulkheadThreads <= 0 || bulkheadQueue <= 0) {
+            throw new IllegalArgumentException("Bulkhead threads and queue size must be positive");
+        }
+        if (timeoutMillis <= 0 || maxAttempts <= 0 || backoffMillis < 0) {
+            throw new IllegalArgumentException("Timeout and attempts must be positive, and backoff cannot be negative");
+        }
+        this.processor = processor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxRememberedKeys = maxRememberedKeys;
+        this.bulkheads = new EnumMap<>(PaymentMethod.class);
+        for (PaymentMethod method : PaymentMethod.values()) {
+            bulkheads.put(method, newBulkhead(method, bulkheadThreads, bulkheadQueue));
+        }
+        this.timer = new TimingWheel(TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS, 1024, 1);
+        this.calls = new ConcurrentHashMap<>();
+        this.callOrder = new ConcurrentLinkedQueue<>();
+        this.outcomes = new EnumMap<>(PaymentStatus.class);
+        for (PaymentStatus status : PaymentStatus.values()) {
+            outcomes.put(status, new LongAdder());
+        }
+        this.duplicates = new LongAdder();
+        this.retries = new LongAdder();
+        this.timeouts = new LongAdder();
+        this.rejections = new LongAdder();
+    }
+    
+    public CompletableFuture<PaymentOutcome> submit(PaymentRequest request) {
+        PaymentCall call = new PaymentCall(request);
+        PaymentCall existing = calls.putIfAbsent(request.getIdempotencyKey(), call);
+        if (existing != null) {
+            if (!existing.matches(request)) {
+                throw new IllegalArgumentException("Idempotency key " + request.getIdempotencyKey() +
+                                                   " was already used for a different payment");
+            }
+            duplicates.increment();
+            return existing.getResult();
+        }
+        callOrder.add(request.getIdempotencyKey());
+        forgetOldCalls();
+        call.getResult().thenAccept(outcome -> outcomes.get(outcome.getStatus()).increment());
+        attempt(call, 1);
+        return call.getResult();
+    }
+    
+    public void shutdown() {
+        timer.stop();
+        for (ThreadPoolExecutor bulkhead : bulkheads.values()) {
+            bulkhead.shutdownNow();
+        }
+    }
+    
+    public long getOutcomeCount(PaymentStatus status) {
+        return outcomes.get(status).sum();
+    }
+    
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+    
+    public long getRetryCount() {
+        return retries.sum();
+    }
+    
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+    
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+    
+    public int getActiveCount(PaymentMethod method) {
+        return bulkheads.get(method).getActiveCount();
+    }
+    
+    public int getQueueDepth(PaymentMethod method) {
+        return bulkheads.get(method).getQueue().size();
+    }
+    
+    private void attempt(PaymentCall call, int attempt) {
+        PaymentMethod method = call.getRequest().getMethod();
+        Future<?> task;
+        try {
+            task = bulkheads.get(method).submit(() -> runAttempt(call, attempt));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            if (call.settle(attempt)) {
+                retryOrFail(call, attempt, PaymentStatus.REJECTED, method.getLabel() + " payments are at capacity");
+            }
+            return;
+        }
+        call.setTimeout(timer.schedule(() -> {
+            if (call.settle(attempt)) {
+                task.cancel(true);
+                timeouts.increment();
+                retryOrFail(call, attempt, PaymentStatus.TIMED_OUT,
+                            method.getLabel() + " payment timed out after " + timeoutMillis + " ms");
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS));
+    }
+    
+    private void runAttempt(PaymentCall call, int attempt) {
+        ChargeResult result;
+        try {
+            result = call.charge(processor);
+        } catch (InterruptedException e) {
+            return;
+        } catch (Exception e) {
+            if (call.settle(attempt)) {
+                retryOrFail(call, attempt, PaymentStatus.FAILED, e.getMessage());
+            }
+            return;
+        }
+        if (!call.settle(attempt)) {
+            return;
+        }
+        if (result.isApproved()) {
+            call.complete(PaymentStatus.APPROVED, result.getTransactionId(), result.getMessage(), attempt);
+        } else {
+            call.complete(PaymentStatus.DECLINED, null, result.getMessage(), attempt);
+        }
+    }
+    
+    private void retryOrFail(PaymentCall call, int attempt, PaymentStatus status, String message) {
+        if (attempt >= maxAttempts) {
+            call.complete(status, null, message, attempt);
+            return;
+        }
+        retries.increment();
+        long ceiling = backoffMillis << Math.min(attempt - 1, 20);
+        long delay = ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+        timer.schedule(() -> attempt(call, attempt + 1), delay, TimeUnit.MILLISECONDS);
+    }
+    
+    private void forgetOldCalls() {
+        while (calls.size() > maxRememberedKeys) {
+            String oldest = callOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            PaymentCall call = calls.get(oldest);
+            if (call != null && !call.isDone()) {
+                callOrder.add(oldest);
+                return;
+            }
+            calls.remove(oldest);
+        }
+    }
+    
+    private static ThreadPoolExecutor newBulkhead(PaymentMethod method, int threads, int queueSize) {
+        String prefix = "payment-" + method.name().toLowerCase().replace('_', '-') + "-";
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor bulkhead = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                                                             new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        bulkhead.allowCoreThreadTimeOut(true);
+        return bulkhead;
+    }
+}
\ No newline at end of file
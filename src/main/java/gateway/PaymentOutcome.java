@@ -0,0 +1,68 @@
+package gateway;
+
+import payment.PaymentMethod;
+
+public class PaymentOutcome {
+    private String idempotencyKey;
+    private PaymentMethod method;
+    private long amount;
+    private PaymentStatus status;
+    private String transactionId;
+    private String message;
+    private int attempts;
+    private long elapsedNanos;
+    
+    PaymentOutcome(PaymentRequest request, PaymentStatus status, String transactionId, String message,
+                   int attempts, long elapsedNanos) {
+        this.idempotencyKey = request.getIdempotencyKey();
+        this.method = request.getMethod();
+        this.amount = request.getAmount();
+        this.status = status;
+        this.transactionId = transactionId;
+        this.message = message;
+        this.attempts = attempts;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    
+    public PaymentMethod getMethod() {
+        return method;
+    }
+    
+    public long getAmount() {
+        return amount;
+    }
+    
+    public PaymentStatus getStatus() {
+        return status;
+    }
+    
+    public boolean isApproved() {
+        return status == PaymentStatus.APPROVED;
+    }
+    
+    public String getTransactionId() {
+        return transactionId;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return status + " " + method.getLabel() + " payment " + idempotencyKey + " after " + attempts +
+               " attempt(s): " + message;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package gateway;
+
+import java.io.IOException;
+
+public interface PaymentProcessor {
+    ChargeResult charge(PaymentRequest request) throws IOException, InterruptedException;
+}
\ No newline at end of file
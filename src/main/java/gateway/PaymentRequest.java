@@ -0,0 +1,49 @@
+package gateway;
+
+import payment.PaymentMethod;
+import payment.PaymentStrategy;
+import util.TextOutput;
+
+public class PaymentRequest {
+    private String idempotencyKey;
+    private long amount;
+    private PaymentStrategy strategy;
+    private TextOutput out;
+    
+    public PaymentRequest(String idempotencyKey, long amount, PaymentStrategy strategy) {
+        this(idempotencyKey, amount, strategy, null);
+    }
+    
+    public PaymentRequest(String idempotencyKey, long amount, PaymentStrategy strategy, TextOutput out) {
+        if (idempotencyKey == null || idempotencyKey.isEmpty()) {
+            throw new IllegalArgumentException("Idempotency key is required");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Payment strategy is required");
+        }
+        this.idempotencyKey = idempotencyKey;
+        this.amount = amount;
+        this.strategy = strategy;
+        this.out = out;
+    }
+    
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    
+    public long getAmount() {
+        return amount;
+    }
+    
+    public PaymentStrategy getStrategy() {
+        return strategy;
+    }
+    
+    public PaymentMethod getMethod() {
+        return strategy.getMethod();
+    }
+    
+    public TextOutput getOut() {
+        return out;
+    }
+}
\ No newline at end of file
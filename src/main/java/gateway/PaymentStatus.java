@@ -0,0 +1,9 @@
+package gateway;
+
+public enum PaymentStatus {
+    APPROVED,
+    DECLINED,
+    FAILED,
+    TIMED_OUT,
+    REJECTED
+}
\ No newline at end of file
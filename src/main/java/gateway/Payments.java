@@ -0,0 +1,40 @@
+package gateway;
+
+import config.AppConfig;
+import metrics.Metrics;
+import payment.PaymentMethod;
+
+public class Payments {
+    private static volatile PaymentGateway gateway;
+    
+    public static PaymentGateway getGateway() {
+        PaymentGateway current = gateway;
+        if (current == null) {
+            synchronized (Payments.class) {
+                current = gateway;
+                if (current == null) {
+                    current = createGateway();
+                    gateway = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    private static PaymentGateway createGateway() {
+        AppConfig config = AppConfig.getInstance();
+        PaymentProcessor processor = config.isGatewayStub()
+            ? new StubPaymentProcessor(config.getGatewayStubLatencyMillis(), config.getGatewayStubLatencySpread(),
+                                       config.getGatewayStubFailureRate(), config.getGatewayStubDeclineRate())
+            : new StrategyPaymentProcessor();
+        PaymentGateway created = new PaymentGateway(processor, config.getGatewayBulkheadThreads(),
+                                                    config.getGatewayBulkheadQueue(), config.getGatewayTimeoutMillis(),
+                                                    config.getGatewayMaxAttempts(), config.getGatewayBackoffMillis(),
+                                                    config.getGatewayIdempotencyKeys());
+        for (PaymentMethod method : PaymentMethod.values()) {
+            Metrics.gauge("gateway." + method.name() + ".queue", () -> created.getQueueDepth(method));
+            Metrics.gauge("gateway." + method.name() + ".active", () -> created.getActiveCount(method));
+        }
+        return created;
+    }
+}
\ No newline at end of file
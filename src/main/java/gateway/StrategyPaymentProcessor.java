@@ -0,0 +1,34 @@
+package gateway;
+
+import id.Ids;
+import metrics.Histogram;
+import metrics.Metrics;
+import payment.PaymentMethod;
+import payment.PaymentStrategy;
+
+public class StrategyPaymentProcessor implements PaymentProcessor {
+    private static final Histogram[] PROCESS_TIMES = createProcessTimes();
+    
+    @Override
+    public ChargeResult charge(PaymentRequest request) {
+        PaymentStrategy strategy = request.getStrategy();
+        long start = System.nanoTime();
+        boolean processed = request.getOut() != null
+            ? strategy.processPayment(request.getAmount(), request.getOut())
+            : strategy.processPayment(request.getAmount());
+        PROCESS_TIMES[request.getMethod().ordinal()].recordSince(start);
+        if (!processed) {
+            return ChargeResult.declined(request.getMethod().getLabel() + " payment was declined");
+        }
+        return ChargeResult.approved(Ids.next("TXN"));
+    }
+    
+    private static Histogram[] createProcessTimes() {
+        PaymentMethod[] methods = PaymentMethod.values();
+        Histogram[] histograms = new Histogram[methods.length];
+        for (PaymentMethod method : methods) {
+            histograms[method.ordinal()] = Metrics.histogram("payment." + method.name() + ".process");
+        }
+        return histograms;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package gateway;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StubPaymentProcessor implements PaymentProcessor {
+    private double medianLatencyMillis;
+    private double latencySpread;
+    private double failureRate;
+    private double declineRate;
+    private Map<String, ChargeResult> charges;
+    private AtomicLong transactions;
+    private LongAdder calls;
+    private LongAdder replays;
+    private LongAdder failures;
+    private LongAdder declines;
+    
+    public StubPaymentProcessor(double medianLatencyMillis, double latencySpread, double failureRate, double declineRate) {
+        if (medianLatencyMillis < 0 || latencySpread < 0) {
+            throw new IllegalArgumentException("Latency settings cannot be negative");
+        }
+        if (failureRate < 0 || declineRate < 0 || failureRate + declineRate > 1) {
+            throw new IllegalArgumentException("Failure and decline rates must be between 0 and 1");
+        }
+        this.medianLatencyMillis = medianLatencyMillis;
+        this.latencySpread = latencySpread;
+        this.failureRate = failureRate;
+        this.declineRate = declineRate;
+        this.charges = new ConcurrentHashMap<>();
+        this.transactions = new AtomicLong();
+        this.calls = new LongAdder();
+        this.replays = new LongAdder();
+        this.failures = new LongAdder();
+        this.declines = new LongAdder();
+    }
+    
+    @Override
+    public ChargeResult charge(PaymentRequest request) throws IOException, InterruptedException {
+        calls.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double latencyMillis = medianLatencyMillis * Math.exp(latencySpread * random.nextGaussian());
+        TimeUnit.MICROSECONDS.sleep(Math.round(latencyMillis * 1000));
+        ChargeResult previous = charges.get(request.getIdempotencyKey());
+        if (previous != null) {
+            replays.increment();
+            return previous;
+        }
+        double roll = random.nextDouble();
+        if (roll < failureRate) {
+            failures.increment();
+            throw new IOException("Stub gateway connection reset");
+        }
+        if (roll < failureRate + declineRate) {
+            declines.increment();
+            return ChargeResult.declined("Stub gateway declined the payment");
+        }
+        ChargeResult approved = ChargeResult.approved("STUB" + transactions.incrementAndGet());
+        previous = charges.putIfAbsent(request.getIdempotencyKey(), approved);
+        if (previous != null) {
+            replays.increment();
+            return previous;
+        }
+        return approved;
+    }
+    
+    public ChargeResult getCharge(String idempotencyKey) {
+        return charges.get(idempotencyKey);
+    }
+    
+    public long getChargeCount() {
+        return charges.size();
+    }
+    
+    public long getCallCount() {
+        return calls.sum();
+    }
+    
+    public long getReplayCount() {
+        return replays.sum();
+    }
+    
+    public long getFailureCount() {
+        return failures.sum();
+    }
+    
+    public long getDeclineCount() {
+        return declines.sum();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package id;
+
+import java.util.Arrays;
+
+public class Base32 {
+    public static final int LENGTH = 13;
+    
+    private static final char[] DIGITS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+    
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < DIGITS.length; i++) {
+            VALUES[DIGITS[i]] = (byte) i;
+            VALUES[Character.toLowerCase(DIGITS[i])] = (byte) i;
+        }
+        VALUES['O'] = VALUES['o'] = 0;
+        VALUES['I'] = VALUES['i'] = VALUES['L'] = VALUES['l'] = 1;
+    }
+    
+    public static String encode(long value) {
+        return appendTo(new StringBuilder(LENGTH), value).toString();
+    }
+    
+    public static StringBuilder appendTo(StringBuilder builder, long value) {
+        builder.append(DIGITS[(int) (value >>> 60)]);
+        for (int shift = 55; shift >= 0; shift -= 5) {
+            builder.append(DIGITS[(int) (value >>> shift) & 31]);
+        }
+        return builder;
+    }
+    
+    public static long decode(CharSequence text) {
+        if (text.length() != LENGTH) {
+            throw new IllegalArgumentException("Base-32 id must be " + LENGTH + " characters: " + text);
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = text.charAt(i);
+            int digit = c < VALUES.length ? VALUES[c] : -1;
+            if (digit < 0 || (i == 0 && digit > 15)) {
+                throw new IllegalArgumentException("Invalid base-32 id: " + text);
+            }
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package id;
+
+import config.AppConfig;
+
+public class Ids {
+    private static volatile SnowflakeIdGenerator generator;
+    
+    public static SnowflakeIdGenerator getGenerator() {
+        SnowflakeIdGenerator current = generator;
+        if (current == null) {
+            synchronized (Ids.class) {
+                current = generator;
+                if (current == null) {
+                    current = new SnowflakeIdGenerator(AppConfig.getInstance().getIdNode());
+                    generator = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    public static long nextId() {
+        return getGenerator().nextId();
+    }
+    
+    public static String format(String prefix, long id) {
+        return Base32.appendTo(new StringBuilder(prefix.length() + Base32.LENGTH).append(prefix), id).toString();
+    }
+    
+    public static String next(String prefix) {
+        return format(prefix, nextId());
+    }
+}
\ No newline at end of file
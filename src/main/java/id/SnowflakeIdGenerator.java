@@ -0,0 +1,87 @@
+package id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class SnowflakeIdGenerator {
+    public static final long DEFAULT_EPOCH_MILLIS = 1704067200000L;
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    public static final long MAX_LEAD_MILLIS = 1000;
+    
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    
+    private int nodeId;
+    private long nodeBits;
+    private long epochMillis;
+    private LongSupplier clock;
+    private AtomicLong state;
+    private LongAdder idsAheadOfClock;
+    
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, DEFAULT_EPOCH_MILLIS, System::currentTimeMillis);
+    }
+    
+    public SnowflakeIdGenerator(int nodeId, long epochMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.epochMillis = epochMillis;
+        this.clock = clock;
+        this.state = new AtomicLong();
+        this.idsAheadOfClock = new LongAdder();
+    }
+    
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong() - epochMillis;
+            long last = current >>> SEQUENCE_BITS;
+            long next;
+            if (now > last) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if ((current & SEQUENCE_MASK) == SEQUENCE_MASK && last - now >= MAX_LEAD_MILLIS) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (now < last) {
+                    idsAheadOfClock.increment();
+                }
+                next = current + 1;
+            }
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+    
+    public int getNodeId() {
+        return nodeId;
+    }
+    
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+    
+    public long getIdsAheadOfClock() {
+        return idsAheadOfClock.sum();
+    }
+    
+    public long timestampMillisOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epochMillis;
+    }
+    
+    public static int nodeOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+    
+    public static int sequenceOf(long id) {
+        return (int) (id & SEQUENCE_MASK);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package journal;
+
+public enum FsyncPolicy {
+    ALWAYS,
+    INTERVAL,
+    NEVER
+}
\ No newline at end of file
@@ -0,0 +1,192 @@
+package journal;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32C;
+import dish.AddOn;
+import order.OrderState;
+
+public class JournalCodec {
+    public static final int FRAME_HEADER_BYTES = 8;
+    public static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+    public static final int MAX_STRING_BYTES = 0xFFFF;
+    
+    private static final AddOn[] ADD_ONS = AddOn.values();
+    private static final OrderState[] STATES = OrderState.values();
+    
+    public static ByteBuffer encode(JournalRecord record) {
+        return encode(record, null);
+    }
+    
+    public static ByteBuffer encode(JournalRecord record, ByteBuffer reuse) {
+        byte[] orderId = utf8(record.getOrderId());
+        int bodyBytes = 1 + 8 + 2 + orderId.length;
+        byte[][] strings = null;
+        switch (record.getType()) {
+            case PLACED:
+                List<JournalLine> lines = record.getLines();
+                strings = new byte[1 + lines.size() * 3][];
+                strings[0] = utf8(record.getCustomerName());
+                bodyBytes += 2 + strings[0].length + 4;
+                for (int i = 0; i < lines.size(); i++) {
+                    JournalLine line = lines.get(i);
+                    strings[1 + i * 3] = utf8(line.getRestaurantName());
+                    strings[2 + i * 3] = utf8(line.getDishName());
+                    strings[3 + i * 3] = utf8(line.getDishType());
+                    bodyBytes += 6 + strings[1 + i * 3].length + strings[2 + i * 3].length + strings[3 + i * 3].length;
+                    bodyBytes += 1 + line.addOnArray().length + 8 + 4;
+                }
+                break;
+            case PAID:
+            case SCHEDULED:
+                bodyBytes += 8;
+                break;
+            case TRANSITION:
+                bodyBytes += 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown record type: " + record.getType());
+        }
+        ByteBuffer buffer = reuse;
+        if (buffer == null || buffer.capacity() < FRAME_HEADER_BYTES + bodyBytes) {
+            buffer = ByteBuffer.allocate(FRAME_HEADER_BYTES + bodyBytes);
+        }
+        buffer.clear();
+        buffer.putInt(bodyBytes);
+        buffer.putInt(0);
+        buffer.put(record.getType().getCode());
+        buffer.putLong(record.getTimestampMillis());
+        putString(buffer, orderId);
+        switch (record.getType()) {
+            case PLACED:
+                List<JournalLine> lines = record.getLines();
+                putString(buffer, strings[0]);
+                buffer.putInt(lines.size());
+                for (int i = 0; i < lines.size(); i++) {
+                    JournalLine line = lines.get(i);
+                    putString(buffer, strings[1 + i * 3]);
+                    putString(buffer, strings[2 + i * 3]);
+                    putString(buffer, strings[3 + i * 3]);
+                    AddOn[] addOns = line.addOnArray();
+                    buffer.put((byte) addOns.length);
+                    for (AddOn addOn : addOns) {
+                        buffer.put((byte) addOn.ordinal());
+                    }
+                    buffer.putLong(line.getUnitPrice());
+                    buffer.putInt(line.getQuantity());
+                }
+                break;
+            case PAID:
+                buffer.putLong(record.getAmount());
+                break;
+            case SCHEDULED:
+                buffer.putLong(record.getDueMillis());
+                break;
+            default:
+                buffer.put((byte) record.getFrom().ordinal());
+                buffer.put((byte) record.getTo().ordinal());
+                break;
+        }
+        buffer.putInt(4, checksum(buffer.array(), FRAME_HEADER_BYTES, bodyBytes));
+        buffer.flip();
+        return buffer;
+    }
+    
+    public static void checkEncodable(JournalRecord record) {
+        checkLength(record.getOrderId());
+        if (record.getType() == JournalRecordType.PLACED) {
+            checkLength(record.getCustomerName());
+            for (JournalLine line : record.getLines()) {
+                checkLength(line.getRestaurantName());
+                checkLength(line.getDishName());
+                checkLength(line.getDishType());
+            }
+        }
+    }
+    
+    public static JournalRecord decode(ByteBuffer body) {
+        try {
+            JournalRecordType type = JournalRecordType.fromCode(body.get());
+            if (type == null) {
+                return null;
+            }
+            long timestamp = body.getLong();
+            String orderId = getString(body);
+            switch (type) {
+                case PLACED:
+                    String customerName = getString(body);
+                    int lineCount = body.getInt();
+                    if (lineCount < 0 || lineCount > body.remaining()) {
+                        return null;
+                    }
+                    List<JournalLine> lines = new ArrayList<>(lineCount);
+                    for (int i = 0; i < lineCount; i++) {
+                        String restaurantName = getString(body);
+                        String dishName = getString(body);
+                        String dishType = getString(body);
+                        AddOn[] addOns = new AddOn[body.get()];
+                        for (int j = 0; j < addOns.length; j++) {
+                            addOns[j] = ADD_ONS[body.get()];
+                        }
+                        lines.add(new JournalLine(restaurantName, dishName, dishType, addOns,
+                                                  body.getLong(), body.getInt()));
+                    }
+                    return new JournalRecord(type, timestamp, orderId, customerName,
+                                             Collections.unmodifiableList(lines), 0, null, null, 0);
+                case PAID:
+                    return new JournalRecord(type, timestamp, orderId, null, Collections.emptyList(),
+                                             body.getLong(), null, null, 0);
+                case SCHEDULED:
+                    return new JournalRecord(type, timestamp, orderId, null, Collections.emptyList(),
+                                             0, null, null, body.getLong());
+                default:
+                    OrderState from = STATES[body.get()];
+                    OrderState to = STATES[body.get()];
+                    return new JournalRecord(type, timestamp, orderId, null, Collections.emptyList(),
+                                             0, from, to, 0);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+    
+    public static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+    
+    private static void checkLength(String text) {
+        if (text.length() > MAX_STRING_BYTES / 3) {
+            utf8(text);
+        }
+    }
+    
+    private static byte[] utf8(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Journal string too long: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+    
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+    
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                                 StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return text;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package journal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import dish.AddOn;
+
+public class JournalLine {
+    private final String restaurantName;
+    private final String dishName;
+    private final String dishType;
+    private final AddOn[] addOns;
+    private final long unitPrice;
+    private final int quantity;
+    
+    public JournalLine(String restaurantName, String dishName, String dishType, AddOn[] addOns,
+                       long unitPrice, int quantity) {
+        this.restaurantName = restaurantName;
+        this.dishName = dishName;
+        this.dishType = dishType;
+        this.addOns = addOns.clone();
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+    }
+    
+    public String getRestaurantName() {
+        return restaurantName;
+    }
+    
+    public String getDishName() {
+        return dishName;
+    }
+    
+    public String getDishType() {
+        return dishType;
+    }
+    
+    public List<AddOn> getAddOns() {
+        return Collections.unmodifiableList(Arrays.asList(addOns));
+    }
+    
+    AddOn[] addOnArray() {
+        return addOns;
+    }
+    
+    public long getUnitPrice() {
+        return unitPrice;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package journal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import dish.AddOn;
+import dish.Dish;
+import dish.DishVariant;
+import order.Order;
+import order.OrderLine;
+import order.OrderState;
+
+public class JournalRecord {
+    private final JournalRecordType type;
+    private final long timestampMillis;
+    private final String orderId;
+    private final String customerName;
+    private final List<JournalLine> lines;
+    private final long amount;
+    private final OrderState from;
+    private final OrderState to;
+    private final long dueMillis;
+    
+    JournalRecord(JournalRecordType type, long timestampMillis, String orderId, String customerName,
+                  List<JournalLine> lines, long amount, OrderState from, OrderState to, long dueMillis) {
+        this.type = type;
+        this.timestampMillis = timestampMillis;
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.lines = lines;
+        this.amount = amount;
+        this.from = from;
+        this.to = to;
+        this.dueMillis = dueMillis;
+    }
+    
+    public static JournalRecord placed(Order order) {
+        List<JournalLine> lines = new ArrayList<>();
+        for (OrderLine line : order.getLines()) {
+            Dish dish = line.getDish();
+            AddOn[] addOns = new AddOn[0];
+            if (dish instanceof DishVariant) {
+                DishVariant variant = (DishVariant) dish;
+                addOns = variant.getAddOns().toArray(addOns);
+                dish = variant.getBase();
+            }
+            String restaurantName = line.getRestaurant() != null ? line.getRestaurant().getName() : "";
+            lines.add(new JournalLine(restaurantName, dish.getName(), dish.getType(), addOns,
+                                      line.getUnitPrice(), line.getQuantity()));
+        }
+        return new JournalRecord(JournalRecordType.PLACED, System.currentTimeMillis(), order.getOrderId(),
+                                 order.getUser().getName(), Collections.unmodifiableList(lines), 0, null, null, 0);
+    }
+    
+    public static JournalRecord paid(String orderId, long amount) {
+        return new JournalRecord(JournalRecordType.PAID, System.currentTimeMillis(), orderId,
+                                 null, Collections.emptyList(), amount, null, null, 0);
+    }
+    
+    public static JournalRecord transition(String orderId, OrderState from, OrderState to) {
+        return new JournalRecord(JournalRecordType.TRANSITION, System.currentTimeMillis(), orderId,
+                                 null, Collections.emptyList(), 0, from, to, 0);
+    }
+    
+    public static JournalRecord scheduled(String orderId, long dueMillis) {
+        return new JournalRecord(JournalRecordType.SCHEDULED, System.currentTimeMillis(), orderId,
+                                 null, Collections.emptyList(), 0, null, null, dueMillis);
+    }
+    
+    public JournalRecordType getType() {
+        return type;
+    }
+    
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public String getCustomerName() {
+        return customerName;
+    }
+    
+    public List<JournalLine> getLines() {
+        return lines;
+    }
+    
+    public long getAmount() {
+        return amount;
+    }
+    
+    public OrderState getFrom() {
+        return from;
+    }
+    
+    public OrderState getTo() {
+        return to;
+    }
+    
+    public long getDueMillis() {
+        return dueMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package journal;
+
+public enum JournalRecordType {
+    PLACED((byte) 1),
+    PAID((byte) 2),
+    TRANSITION((byte) 3),
+    SCHEDULED((byte) 4);
+    
+    private final byte code;
+    
+    JournalRecordType(byte code) {
+        this.code = code;
+    }
+    
+    public byte getCode() {
+        return code;
+    }
+    
+    public static JournalRecordType fromCode(byte code) {
+        for (JournalRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,613 @@
+package journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import order.Order;
+import order.OrderState;
+import order.OrderStateListener;
+
+public class OrderJournal implements OrderStateListener {
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final int QUEUE_CAPACITY = 65536;
+    private static final int MAX_BATCH = 1024;
+    private static final long WRITE_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int STAGING_BYTES = 256 * 1024;
+    private static final int READ_BUFFER_BYTES = 1024 * 1024;
+    private static final int LAST_SLOT = 4;
+    private static final PendingWrite SHUTDOWN = new PendingWrite(null, null);
+    
+    private Path directory;
+    private FsyncPolicy fsyncPolicy;
+    private long fsyncIntervalNanos;
+    private long segmentBytes;
+    private int compactAfterSegments;
+    private Queue<PendingWrite> queue;
+    private AtomicInteger queued;
+    private AtomicInteger appending;
+    private volatile boolean running;
+    private volatile IOException failure;
+    private List<Path> sealedSegments;
+    private Path activeSegment;
+    private FileChannel channel;
+    private long segmentPosition;
+    private long nextSequence;
+    private volatile long recordsWritten;
+    private volatile long bytesWritten;
+    private volatile long batchesWritten;
+    private volatile long syncs;
+    private volatile long compactions;
+    private volatile long skippedRecords;
+    private ReentrantLock writeLock;
+    private List<PendingWrite> batch;
+    private ByteBuffer staging;
+    private ByteBuffer scratch;
+    private long lastSync;
+    private boolean unsynced;
+    private volatile boolean stopping;
+    private Thread writer;
+    private Object compactionSignal;
+    private boolean compactionRequested;
+    private boolean compactorStopping;
+    private Thread compactor;
+    
+    public OrderJournal(Path directory, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis,
+                        long segmentBytes, int compactAfterSegments) {
+        if (fsyncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Fsync interval must be positive");
+        }
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        if (compactAfterSegments < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be at least one segment");
+        }
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        this.segmentBytes = segmentBytes;
+        this.compactAfterSegments = compactAfterSegments;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.appending = new AtomicInteger();
+        this.writeLock = new ReentrantLock();
+        this.batch = new ArrayList<>(MAX_BATCH);
+        this.staging = ByteBuffer.allocateDirect(STAGING_BYTES);
+        this.scratch = ByteBuffer.allocate(4096);
+        this.lastSync = System.nanoTime();
+        try {
+            openSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order journal in " + directory, e);
+        }
+        this.running = true;
+        this.compactionSignal = new Object();
+        this.compactionRequested = sealedSegments.size() > compactAfterSegments;
+        this.compactor = new Thread(this::compactLoop, "order-journal-compactor");
+        compactor.setDaemon(true);
+        compactor.start();
+        this.writer = new Thread(this::writeLoop, "order-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    public long replay(Consumer<JournalRecord> handler) {
+        long records = 0;
+        try {
+            for (Path segment : sealedSegments) {
+                records += scanSealed(segment, handler);
+            }
+            records += scan(activeSegment, handler, false).records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay order journal in " + directory, e);
+        }
+        return records;
+    }
+    
+    @Override
+    public void onTransition(Order order, OrderState from, OrderState to) {
+        if (to == OrderState.PLACED) {
+            append(JournalRecord.placed(order));
+        } else {
+            append(JournalRecord.transition(order.getOrderId(), from, to));
+        }
+    }
+    
+    public boolean recordPaid(String orderId, long amount) {
+        return append(JournalRecord.paid(orderId, amount));
+    }
+    
+    public boolean recordScheduled(String orderId, long dueMillis) {
+        return append(JournalRecord.scheduled(orderId, dueMillis));
+    }
+    
+    public boolean append(JournalRecord record) {
+        JournalCodec.checkEncodable(record);
+        PendingWrite write = new PendingWrite(record, fsyncPolicy == FsyncPolicy.ALWAYS ? Thread.currentThread() : null);
+        appending.incrementAndGet();
+        try {
+            if (!running) {
+                return false;
+            }
+            checkFailure();
+            queue.add(write);
+            int backlog = queued.incrementAndGet();
+            if (backlog >= QUEUE_CAPACITY) {
+                helpWrite(true);
+            } else if (backlog >= MAX_BATCH) {
+                helpWrite(false);
+            }
+            if (write.waiter != null && !write.done) {
+                LockSupport.unpark(writer);
+            }
+        } finally {
+            appending.decrementAndGet();
+        }
+        if (write.waiter != null) {
+            boolean interrupted = false;
+            while (!write.done) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            checkFailure();
+        }
+        return true;
+    }
+    
+    public void close() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        while (appending.get() != 0) {
+            Thread.onSpinWait();
+        }
+        queue.add(SHUTDOWN);
+        LockSupport.unpark(writer);
+        synchronized (compactionSignal) {
+            compactorStopping = true;
+            compactionSignal.notifyAll();
+        }
+        boolean interrupted = false;
+        for (Thread worker : new Thread[] {writer, compactor}) {
+            while (true) {
+                try {
+                    worker.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public Path getDirectory() {
+        return directory;
+    }
+    
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+    
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+    
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+    
+    public long getBatchesWritten() {
+        return batchesWritten;
+    }
+    
+    public long getSyncCount() {
+        return syncs;
+    }
+    
+    public long getCompactionCount() {
+        return compactions;
+    }
+    
+    public long getSkippedRecordCount() {
+        return skippedRecords;
+    }
+    
+    private void checkFailure() {
+        if (failure != null) {
+            throw new IllegalStateException("Order journal write failed", failure);
+        }
+    }
+    
+    private void helpWrite(boolean mustWait) {
+        if (mustWait) {
+            writeLock.lock();
+        } else if (!writeLock.tryLock()) {
+            return;
+        }
+        try {
+            if (!stopping) {
+                writeQueued();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        checkFailure();
+    }
+    
+    private void openSegments() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(OrderJournal::isSegment).sorted().collect(Collectors.toList());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path leftover : files.filter(path -> path.getFileName().toString().endsWith(COMPACT_SUFFIX))
+                                      .collect(Collectors.toList())) {
+                Files.delete(leftover);
+            }
+        }
+        if (segments.isEmpty()) {
+            activeSegment = segmentFor(0);
+            sealedSegments = new ArrayList<>();
+            nextSequence = 0;
+        } else {
+            activeSegment = segments.get(segments.size() - 1);
+            sealedSegments = new ArrayList<>(segments.subList(0, segments.size() - 1));
+            SegmentScan tail = scan(activeSegment, null, false);
+            nextSequence = baseSequenceOf(activeSegment) + tail.records;
+            segmentPosition = tail.validBytes;
+        }
+        channel = FileChannel.open(activeSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(segmentPosition);
+        channel.position(segmentPosition);
+    }
+    
+    private void writeLoop() {
+        long parkNanos = fsyncPolicy == FsyncPolicy.ALWAYS ? IDLE_PARK_NANOS
+            : fsyncPolicy == FsyncPolicy.INTERVAL ? Math.min(fsyncIntervalNanos, WRITE_DELAY_NANOS) : WRITE_DELAY_NANOS;
+        while (!stopping) {
+            if (queue.isEmpty() && !syncDue()) {
+                LockSupport.parkNanos(this, parkNanos);
+                continue;
+            }
+            writeLock.lock();
+            try {
+                writeQueued();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        writeLock.lock();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private boolean syncDue() {
+        return unsynced && fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastSync >= fsyncIntervalNanos;
+    }
+    
+    private void writeQueued() {
+        PendingWrite next;
+        while (batch.size() < MAX_BATCH && (next = queue.poll()) != null) {
+            if (next == SHUTDOWN) {
+                stopping = true;
+                break;
+            }
+            batch.add(next);
+        }
+        queued.addAndGet(-batch.size());
+        try {
+            if (failure == null && !batch.isEmpty()) {
+                write(batch);
+                unsynced = true;
+            }
+            if (failure == null && unsynced && (stopping || fsyncPolicy == FsyncPolicy.ALWAYS || syncDue())) {
+                channel.force(false);
+                syncs++;
+                lastSync = System.nanoTime();
+                unsynced = false;
+            }
+            if (failure == null && segmentPosition >= segmentBytes) {
+                roll();
+                unsynced = false;
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete();
+        }
+        batch.clear();
+    }
+    
+    private void write(List<PendingWrite> batch) throws IOException {
+        int count = batch.size();
+        long bytes = 0;
+        staging.clear();
+        for (int i = 0; i < count; i++) {
+            scratch = JournalCodec.encode(batch.get(i).record, scratch);
+            bytes += scratch.remaining();
+            if (scratch.remaining() > staging.remaining()) {
+                drain(staging);
+            }
+            if (scratch.remaining() > staging.remaining()) {
+                while (scratch.hasRemaining()) {
+                    channel.write(scratch);
+                }
+            } else {
+                staging.put(scratch);
+            }
+        }
+        drain(staging);
+        segmentPosition += bytes;
+        nextSequence += count;
+        recordsWritten += count;
+        bytesWritten += bytes;
+        batchesWritten++;
+    }
+    
+    private void drain(ByteBuffer staging) throws IOException {
+        staging.flip();
+        while (staging.hasRemaining()) {
+            channel.write(staging);
+        }
+        staging.clear();
+    }
+    
+    private void roll() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            channel.force(false);
+            syncs++;
+        }
+        channel.close();
+        sealedSegments.add(activeSegment);
+        activeSegment = segmentFor(nextSequence);
+        channel = FileChannel.open(activeSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+        segmentPosition = 0;
+        if (sealedSegments.size() > compactAfterSegments) {
+            synchronized (compactionSignal) {
+                compactionRequested = true;
+                compactionSignal.notifyAll();
+            }
+        }
+    }
+    
+    private void compactLoop() {
+        while (true) {
+            synchronized (compactionSignal) {
+                while (!compactionRequested && !compactorStopping) {
+                    try {
+                        compactionSignal.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (compactorStopping) {
+                    return;
+                }
+                compactionRequested = false;
+            }
+            try {
+                compact();
+            } catch (IOException e) {
+                System.err.println("Order journal compaction failed in " + directory + ": " + e.getMessage());
+            }
+        }
+    }
+    
+    private void compact() throws IOException {
+        List<Path> segments;
+        writeLock.lock();
+        try {
+            if (sealedSegments.size() <= compactAfterSegments) {
+                return;
+            }
+            segments = new ArrayList<>(sealedSegments);
+        } finally {
+            writeLock.unlock();
+        }
+        Map<String, JournalRecord[]> retained = new LinkedHashMap<>();
+        for (Path segment : segments) {
+            scanSealed(segment, record -> retain(retained, record));
+        }
+        Path target = segments.get(0);
+        Path temporary = directory.resolve(target.getFileName() + COMPACT_SUFFIX);
+        ByteBuffer encoded = ByteBuffer.allocate(4096);
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (JournalRecord[] records : retained.values()) {
+                JournalRecord last = records[LAST_SLOT];
+                if (last.getType() == JournalRecordType.TRANSITION && last.getTo().isTerminal()) {
+                    continue;
+                }
+                for (int slot = 0; slot < LAST_SLOT; slot++) {
+                    JournalRecord record = records[slot];
+                    if (record != null) {
+                        encoded = JournalCodec.encode(record, encoded);
+                        while (encoded.hasRemaining()) {
+                            out.write(encoded);
+                        }
+                    }
+                }
+            }
+            out.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        writeLock.lock();
+        try {
+            sealedSegments.subList(1, segments.size()).clear();
+        } finally {
+            writeLock.unlock();
+        }
+        for (int i = 1; i < segments.size(); i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+        compactions++;
+    }
+    
+    private static void retain(Map<String, JournalRecord[]> retained, JournalRecord record) {
+        JournalRecord[] slots = retained.computeIfAbsent(record.getOrderId(), id -> new JournalRecord[LAST_SLOT + 1]);
+        slots[LAST_SLOT] = record;
+        switch (record.getType()) {
+            case PLACED:
+                slots[0] = record;
+                break;
+            case PAID:
+                slots[1] = record;
+                break;
+            case TRANSITION:
+                if (slots[2] == null || record.getTo().ordinal() > slots[2].getTo().ordinal()) {
+                    slots[2] = record;
+                    slots[3] = null;
+                }
+                break;
+            default:
+                if (slots[2] == null || !slots[2].getTo().isTerminal()) {
+                    slots[3] = record;
+                }
+                break;
+        }
+    }
+    
+    private long scanSealed(Path segment, Consumer<JournalRecord> handler) throws IOException {
+        SegmentScan scan = scan(segment, handler, true);
+        long unreadableBytes = Files.size(segment) - scan.validBytes - scan.skippedBytes;
+        if (scan.skippedRecords > 0 || unreadableBytes > 0) {
+            skippedRecords += scan.skippedRecords;
+            System.err.println("Order journal segment " + segment + ": skipped " + scan.skippedRecords +
+                               " corrupt records, " + unreadableBytes + " unreadable bytes at the end");
+        }
+        return scan.records;
+    }
+    
+    private static SegmentScan scan(Path segment, Consumer<JournalRecord> handler, boolean skipCorrupt)
+        throws IOException {
+        SegmentScan scan = new SegmentScan();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ)) {
+            while (true) {
+                boolean endOfFile = in.read(buffer) < 0;
+                buffer.flip();
+                while (buffer.remaining() >= JournalCodec.FRAME_HEADER_BYTES) {
+                    int start = buffer.position();
+                    int length = buffer.getInt(start);
+                    if (length <= 0 || length > JournalCodec.MAX_BODY_BYTES) {
+                        return scan;
+                    }
+                    if (buffer.remaining() < JournalCodec.FRAME_HEADER_BYTES + length) {
+                        break;
+                    }
+                    int bodyStart = start + JournalCodec.FRAME_HEADER_BYTES;
+                    JournalRecord record = null;
+                    if (buffer.getInt(start + 4) == JournalCodec.checksum(buffer.array(), bodyStart, length)) {
+                        record = JournalCodec.decode(ByteBuffer.wrap(buffer.array(), bodyStart, length));
+                    }
+                    if (record == null) {
+                        if (!skipCorrupt) {
+                            return scan;
+                        }
+                        buffer.position(bodyStart + length);
+                        scan.skippedRecords++;
+                        scan.skippedBytes += JournalCodec.FRAME_HEADER_BYTES + length;
+                        continue;
+                    }
+                    if (handler != null) {
+                        handler.accept(record);
+                    }
+                    buffer.position(bodyStart + length);
+                    scan.records++;
+                    scan.validBytes += JournalCodec.FRAME_HEADER_BYTES + length;
+                }
+                if (endOfFile) {
+                    return scan;
+                }
+                int needed = buffer.remaining() >= JournalCodec.FRAME_HEADER_BYTES
+                    ? JournalCodec.FRAME_HEADER_BYTES + buffer.getInt(buffer.position()) : 0;
+                if (needed > buffer.capacity()) {
+                    ByteBuffer larger = ByteBuffer.allocate(needed);
+                    larger.put(buffer);
+                    buffer = larger;
+                } else {
+                    buffer.compact();
+                }
+            }
+        }
+    }
+    
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+    
+    private static long baseSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    private Path segmentFor(long baseSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, baseSequence, SEGMENT_SUFFIX));
+    }
+    
+    private static class SegmentScan {
+        long records;
+        long validBytes;
+        long skippedRecords;
+        long skippedBytes;
+    }
+    
+    private static class PendingWrite {
+        final JournalRecord record;
+        final Thread waiter;
+        volatile boolean done;
+        
+        PendingWrite(JournalRecord record, Thread waiter) {
+            this.record = record;
+            this.waiter = waiter;
+        }
+        
+        void complete() {
+            done = true;
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+}
\ No newline at end of file
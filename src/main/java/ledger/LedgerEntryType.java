@@ -0,0 +1,19 @@
+package ledger;
+
+public enum LedgerEntryType {
+    AUTHORIZATION,
+    REFUND;
+    
+    private static final LedgerEntryType[] TYPES = values();
+    
+    public byte code() {
+        return (byte) (ordinal() + 1);
+    }
+    
+    public static LedgerEntryType fromCode(int code) {
+        if (code < 1 || code > TYPES.length) {
+            return null;
+        }
+        return TYPES[code - 1];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package ledger;
+
+import java.nio.file.Paths;
+import config.AppConfig;
+
+public class Ledgers {
+    private static volatile PaymentLedger ledger;
+    private static volatile boolean opened;
+    
+    public static PaymentLedger getLedger() {
+        if (!opened) {
+            synchronized (Ledgers.class) {
+                if (!opened) {
+                    AppConfig config = AppConfig.getInstance();
+                    if (config.getLedgerDir() != null) {
+                        ledger = new PaymentLedger(Paths.get(config.getLedgerDir()), config.getLedgerFsyncPolicy(),
+                                                   config.getLedgerFsyncIntervalMillis(),
+                                                   config.getLedgerSegmentBytes());
+                    }
+                    opened = true;
+                }
+            }
+        }
+        return ledger;
+    }
+    
+    public static synchronized void shutdown() {
+        if (ledger != null) {
+            ledger.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,289 @@
+package ledger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import journal.FsyncPolicy;
+import order.Order;
+import order.OrderLine;
+import payment.PaymentMethod;
+
+public class PaymentLedger {
+    static final int RECORD_BYTES = 32;
+    static final int CHECKSUM_OFFSET = RECORD_BYTES - 4;
+    static final String SEGMENT_PREFIX = "ledger-";
+    static final String SEGMENT_SUFFIX = ".bin";
+    static final String RESTAURANTS_FILE = "restaurants.txt";
+    
+    private static final int STAGING_BYTES = 1024 * 1024;
+    
+    private Path directory;
+    private FsyncPolicy fsyncPolicy;
+    private long fsyncIntervalNanos;
+    private long segmentBytes;
+    private Map<String, Integer> restaurantIds;
+    private FileChannel channel;
+    private long segmentPosition;
+    private long segmentBase;
+    private ByteBuffer staging;
+    private CRC32C checksum;
+    private long lastSync;
+    private boolean unsynced;
+    private volatile long recordsWritten;
+    private volatile long syncs;
+    private boolean closed;
+    
+    public PaymentLedger(Path directory, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis, long segmentBytes) {
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment size must hold at least one record");
+        }
+        if (fsyncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Fsync interval must be positive");
+        }
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        this.segmentBytes = segmentBytes - segmentBytes % RECORD_BYTES;
+        this.staging = ByteBuffer.allocateDirect(STAGING_BYTES);
+        this.checksum = new CRC32C();
+        this.lastSync = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            this.restaurantIds = new HashMap<>();
+            List<String> names = readRestaurants(directory);
+            for (int i = 0; i < names.size(); i++) {
+                restaurantIds.put(names.get(i), i);
+            }
+            openActiveSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open payment ledger in " + directory, e);
+        }
+    }
+    
+    public synchronized void recordAuthorization(long paymentRef, PaymentMethod method, Order order, long amount) {
+        Map<String, Long> subtotals = new LinkedHashMap<>();
+        long total = 0;
+        for (OrderLine line : order.getLines()) {
+            String restaurantName = line.getRestaurant() != null ? line.getRestaurant().getName() : "";
+            subtotals.merge(restaurantName, line.getSubtotal(), Long::sum);
+            total = Math.addExact(total, line.getSubtotal());
+        }
+        if (subtotals.isEmpty() || total == 0) {
+            append(LedgerEntryType.AUTHORIZATION, method, "", paymentRef, amount);
+        } else {
+            long allocated = 0;
+            int remaining = subtotals.size();
+            for (Map.Entry<String, Long> restaurant : subtotals.entrySet()) {
+                long share = --remaining == 0 ? amount - allocated
+                    : Math.multiplyExact(amount, restaurant.getValue()) / total;
+                allocated += share;
+                append(LedgerEntryType.AUTHORIZATION, method, restaurant.getKey(), paymentRef, share);
+            }
+        }
+        commit();
+    }
+    
+    public synchronized void recordRefund(long paymentRef, PaymentMethod method, String restaurantName, long amount) {
+        append(LedgerEntryType.REFUND, method, restaurantName, paymentRef, amount);
+        commit();
+    }
+    
+    public synchronized void append(LedgerEntryType type, PaymentMethod method, String restaurantName,
+                                    long paymentRef, long amount) {
+        if (closed) {
+            throw new IllegalStateException("Payment ledger is closed");
+        }
+        if (amount < 0) {
+            throw new IllegalArgumentException("Ledger amounts cannot be negative");
+        }
+        int restaurantId = restaurantId(restaurantName);
+        if (!staging.hasRemaining()) {
+            drain();
+        }
+        int start = staging.position();
+        staging.put(type.code());
+        staging.put((byte) method.ordinal());
+        staging.putShort((short) 0);
+        staging.putInt(restaurantId);
+        staging.putLong(paymentRef);
+        staging.putLong(amount);
+        staging.putInt((int) (System.currentTimeMillis() / 1000));
+        checksum.reset();
+        checksum.update(staging.duplicate().position(start).limit(start + CHECKSUM_OFFSET));
+        staging.putInt((int) checksum.getValue());
+    }
+    
+    public synchronized void commit() {
+        drain();
+        if (unsynced && (fsyncPolicy == FsyncPolicy.ALWAYS ||
+                         (fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastSync >= fsyncIntervalNanos))) {
+            sync();
+        }
+    }
+    
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        drain();
+        if (unsynced && fsyncPolicy != FsyncPolicy.NEVER) {
+            sync();
+        }
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close payment ledger in " + directory, e);
+        }
+    }
+    
+    public Path getDirectory() {
+        return directory;
+    }
+    
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+    
+    public long getSyncCount() {
+        return syncs;
+    }
+    
+    static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+    }
+    
+    static List<String> readRestaurants(Path directory) throws IOException {
+        List<String> names = new ArrayList<>();
+        Path file = directory.resolve(RESTAURANTS_FILE);
+        if (!Files.exists(file)) {
+            return names;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                names.add(line);
+            }
+        }
+        return names;
+    }
+    
+    private int restaurantId(String restaurantName) {
+        Integer id = restaurantIds.get(restaurantName);
+        if (id != null) {
+            return id;
+        }
+        if (restaurantName.indexOf('\n') >= 0 || restaurantName.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Restaurant names cannot contain line breaks");
+        }
+        int assigned = restaurantIds.size();
+        ByteBuffer entry = StandardCharsets.UTF_8.encode(restaurantName + "\n");
+        try (FileChannel restaurants = FileChannel.open(directory.resolve(RESTAURANTS_FILE), StandardOpenOption.CREATE,
+                                                        StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (entry.hasRemaining()) {
+                restaurants.write(entry);
+            }
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                restaurants.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to register restaurant in payment ledger", e);
+        }
+        restaurantIds.put(restaurantName, assigned);
+        return assigned;
+    }
+    
+    private void drain() {
+        if (staging.position() == 0) {
+            return;
+        }
+        int records = staging.position() / RECORD_BYTES;
+        staging.flip();
+        try {
+            while (staging.hasRemaining()) {
+                int chunk = (int) Math.min(staging.remaining(), segmentBytes - segmentPosition);
+                ByteBuffer slice = staging.duplicate().limit(staging.position() + chunk);
+                while (slice.hasRemaining()) {
+                    channel.write(slice);
+                }
+                staging.position(staging.position() + chunk);
+                segmentPosition += chunk;
+                unsynced = true;
+                if (segmentPosition >= segmentBytes) {
+                    segmentBase += segmentPosition / RECORD_BYTES;
+                    roll();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write payment ledger in " + directory, e);
+        } finally {
+            staging.clear();
+        }
+        recordsWritten += records;
+    }
+    
+    private void sync() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync payment ledger in " + directory, e);
+        }
+        syncs++;
+        lastSync = System.nanoTime();
+        unsynced = false;
+    }
+    
+    private void roll() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            channel.force(false);
+            syncs++;
+        }
+        channel.close();
+        channel = FileChannel.open(segmentFor(segmentBase), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+        segmentPosition = 0;
+        unsynced = false;
+    }
+    
+    private void openActiveSegment() throws IOException {
+        List<Path> segments = listSegments(directory);
+        Path active;
+        if (segments.isEmpty()) {
+            active = segmentFor(0);
+            segmentBase = 0;
+            segmentPosition = 0;
+        } else {
+            active = segments.get(segments.size() - 1);
+            String name = active.getFileName().toString();
+            segmentBase = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            segmentPosition = Files.size(active) / RECORD_BYTES * RECORD_BYTES;
+        }
+        channel = FileChannel.open(active, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(segmentPosition);
+        channel.position(segmentPosition);
+    }
+    
+    private Path segmentFor(long baseSequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", baseSequence) + SEGMENT_SUFFIX);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package ledger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+import money.Money;
+import payment.PaymentMethod;
+
+public class SettlementJob {
+    private static final String CHECKPOINT_FILE = "settlement.checkpoint";
+    private static final PaymentMethod[] METHODS = PaymentMethod.values();
+    
+    private Path ledgerDirectory;
+    private Path outputDirectory;
+    private int readBufferBytes;
+    private long[] authorizationCounts;
+    private long[] authorizedAmounts;
+    private long[] refundCounts;
+    private long[] refundedAmounts;
+    private int restaurantCapacity;
+    private long records;
+    private long corruptRecords;
+    
+    public SettlementJob(Path ledgerDirectory, Path outputDirectory) {
+        this(ledgerDirectory, outputDirectory, 8 * 1024 * 1024);
+    }
+    
+    public SettlementJob(Path ledgerDirectory, Path outputDirectory, int readBufferBytes) {
+        if (readBufferBytes < PaymentLedger.RECORD_BYTES) {
+            throw new IllegalArgumentException("Read buffer must hold at least one record");
+        }
+        this.ledgerDirectory = ledgerDirectory;
+        this.outputDirectory = outputDirectory;
+        this.readBufferBytes = readBufferBytes - readBufferBytes % PaymentLedger.RECORD_BYTES;
+    }
+    
+    public synchronized SettlementReport run() {
+        long start = System.nanoTime();
+        resetTotals(1024);
+        try {
+            Files.createDirectories(outputDirectory);
+            Path checkpointFile = outputDirectory.resolve(CHECKPOINT_FILE);
+            int batchNumber = 0;
+            String checkpointSegment = "";
+            long checkpointOffset = 0;
+            if (Files.exists(checkpointFile)) {
+                String[] fields = Files.readString(checkpointFile, StandardCharsets.UTF_8).trim().split(" ");
+                batchNumber = Integer.parseInt(fields[0]);
+                checkpointSegment = fields[1];
+                checkpointOffset = Long.parseLong(fields[2]);
+            }
+            String lastSegment = checkpointSegment;
+            long lastOffset = checkpointOffset;
+            long bytes = 0;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(readBufferBytes);
+            for (Path segment : PaymentLedger.listSegments(ledgerDirectory)) {
+                String name = segment.getFileName().toString();
+                int order = name.compareTo(checkpointSegment);
+                if (order < 0) {
+                    continue;
+                }
+                long from = order == 0 ? checkpointOffset : 0;
+                long end = Files.size(segment) / PaymentLedger.RECORD_BYTES * PaymentLedger.RECORD_BYTES;
+                if (end > from) {
+                    bytes += settle(segment, from, end, buffer);
+                }
+                lastSegment = name;
+                lastOffset = Math.max(end, from);
+            }
+            if (records == 0 && corruptRecords == 0) {
+                return new SettlementReport(batchNumber, null, 0, 0, 0, 0, new long[METHODS.length],
+                                            new long[METHODS.length], System.nanoTime() - start);
+            }
+            List<String> restaurants = PaymentLedger.readRestaurants(ledgerDirectory);
+            batchNumber++;
+            Path batchFile = outputDirectory.resolve(String.format("settlement-%06d.csv", batchNumber));
+            long[] authorized = new long[METHODS.length];
+            long[] refunded = new long[METHODS.length];
+            int settledRestaurants = writeBatch(batchFile, restaurants, authorized, refunded);
+            writeAtomically(checkpointFile, batchNumber + " " + lastSegment + " " + lastOffset + "\n");
+            return new SettlementReport(batchNumber, batchFile, records, bytes, corruptRecords, settledRestaurants,
+                                        authorized, refunded, System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Settlement of " + ledgerDirectory + " failed", e);
+        }
+    }
+    
+    private long settle(Path segment, long from, long end, ByteBuffer buffer) throws IOException {
+        CRC32C checksum = new CRC32C();
+        long position = from;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            while (position < end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("Ledger segment " + segment + " ended early");
+                    }
+                }
+                int limit = buffer.position();
+                position += limit;
+                for (int record = 0; record < limit; record += PaymentLedger.RECORD_BYTES) {
+                    buffer.limit(record + PaymentLedger.CHECKSUM_OFFSET).position(record);
+                    checksum.reset();
+                    checksum.update(buffer);
+                    buffer.limit(limit);
+                    LedgerEntryType type = LedgerEntryType.fromCode(buffer.get(record));
+                    int method = buffer.get(record + 1);
+                    int restaurant = buffer.getInt(record + 4);
+                    long amount = buffer.getLong(record + 16);
+                    if ((int) checksum.getValue() != buffer.getInt(record + PaymentLedger.CHECKSUM_OFFSET) ||
+                        type == null || method < 0 || method >= METHODS.length || restaurant < 0) {
+                        corruptRecords++;
+                        continue;
+                    }
+                    if (restaurant >= restaurantCapacity) {
+                        growTotals(restaurant + 1);
+                    }
+                    int slot = restaurant * METHODS.length + method;
+                    if (type == LedgerEntryType.AUTHORIZATION) {
+                        authorizationCounts[slot]++;
+                        authorizedAmounts[slot] += amount;
+                    } else {
+                        refundCounts[slot]++;
+                        refundedAmounts[slot] += amount;
+                    }
+                    records++;
+                }
+            }
+        }
+        return end - from;
+    }
+    
+    private int writeBatch(Path batchFile, List<String> restaurants, long[] authorized, long[] refunded)
+            throws IOException {
+        Path temporary = batchFile.resolveSibling(batchFile.getFileName() + ".tmp");
+        int settledRestaurants = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write("restaurant,method,authorizations,authorized,refunds,refunded,net\n");
+            StringBuilder row = new StringBuilder(128);
+            for (int restaurant = 0; restaurant < restaurantCapacity; restaurant++) {
+                boolean settled = false;
+                for (int method = 0; method < METHODS.length; method++) {
+                    int slot = restaurant * METHODS.length + method;
+                    if (authorizationCounts[slot] == 0 && refundCounts[slot] == 0) {
+                        continue;
+                    }
+                    settled = true;
+                    authorized[method] += authorizedAmounts[slot];
+                    refunded[method] += refundedAmounts[slot];
+                    String name = restaurant < restaurants.size() ? restaurants.get(restaurant) : "#" + restaurant;
+                    row.setLength(0);
+                    appendRow(row, name, METHODS[method], authorizationCounts[slot], authorizedAmounts[slot],
+                              refundCounts[slot], refundedAmounts[slot]);
+                    writer.append(row);
+                }
+                if (settled) {
+                    settledRestaurants++;
+                }
+            }
+            for (int method = 0; method < METHODS.length; method++) {
+                long authorizations = 0;
+                long refunds = 0;
+                for (int restaurant = 0; restaurant < restaurantCapacity; restaurant++) {
+                    authorizations += authorizationCounts[restaurant * METHODS.length + method];
+                    refunds += refundCounts[restaurant * METHODS.length + method];
+                }
+                row.setLength(0);
+                appendRow(row, "ALL", METHODS[method], authorizations, authorized[method], refunds, refunded[method]);
+                writer.append(row);
+            }
+        }
+        Files.move(temporary, batchFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return settledRestaurants;
+    }
+    
+    private static void appendRow(StringBuilder row, String restaurant, PaymentMethod method, long authorizations,
+                                  long authorized, long refunds, long refunded) {
+        if (restaurant.indexOf(',') >= 0 || restaurant.indexOf('"') >= 0) {
+            row.append('"').append(restaurant.replace("\"", "\"\"")).append('"');
+        } else {
+            row.append(restaurant);
+        }
+        row.append(',').append(method.getLabel()).append(',').append(authorizations).append(',');
+        Money.appendTo(row, authorized).append(',').append(refunds).append(',');
+        Money.appendTo(row, refunded).append(',');
+        Money.appendTo(row, authorized - refunded).append('\n');
+    }
+    
+    private void writeAtomically(Path file, String content) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temporary, content, StandardCharsets.UTF_8);
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    private void resetTotals(int capacity) {
+        restaurantCapacity = capacity;
+        authorizationCounts = new long[capacity * METHODS.length];
+        authorizedAmounts = new long[capacity * METHODS.length];
+        refundCounts = new long[capacity * METHODS.length];
+        refundedAmounts = new long[capacity * METHODS.length];
+        records = 0;
+        corruptRecords = 0;
+    }
+    
+    private void growTotals(int required) {
+        int capacity = Math.max(required, restaurantCapacity * 2);
+        authorizationCounts = Arrays.copyOf(authorizationCounts, capacity * METHODS.length);
+        authorizedAmounts = Arrays.copyOf(authorizedAmounts, capacity * METHODS.length);
+        refundCounts = Arrays.copyOf(refundCounts, capacity * METHODS.length);
+        refundedAmounts = Arrays.copyOf(refundedAmounts, capacity * METHODS.length);
+        restaurantCapacity = capacity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package ledger;
+
+import java.nio.file.Path;
+import money.Money;
+import payment.PaymentMethod;
+
+public class SettlementReport {
+    private int batchNumber;
+    private Path batchFile;
+    private long records;
+    private long bytes;
+    private long corruptRecords;
+    private int restaurants;
+    private long[] authorized;
+    private long[] refunded;
+    private long elapsedNanos;
+    
+    SettlementReport(int batchNumber, Path batchFile, long records, long bytes, long corruptRecords, int restaurants,
+                     long[] authorized, long[] refunded, long elapsedNanos) {
+        this.batchNumber = batchNumber;
+        this.batchFile = batchFile;
+        this.records = records;
+        this.bytes = bytes;
+        this.corruptRecords = corruptRecords;
+        this.restaurants = restaurants;
+        this.authorized = authorized;
+        this.refunded = refunded;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public int getBatchNumber() {
+        return batchNumber;
+    }
+    
+    public Path getBatchFile() {
+        return batchFile;
+    }
+    
+    public long getRecords() {
+        return records;
+    }
+    
+    public long getBytes() {
+        return bytes;
+    }
+    
+    public long getCorruptRecords() {
+        return corruptRecords;
+    }
+    
+    public int getRestaurants() {
+        return restaurants;
+    }
+    
+    public long getAuthorized(PaymentMethod method) {
+        return authorized[method.ordinal()];
+    }
+    
+    public long getRefunded(PaymentMethod method) {
+        return refunded[method.ordinal()];
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        if (batchFile == null) {
+            return "No new ledger records to settle";
+        }
+        StringBuilder summary = new StringBuilder(String.format(
+            "Batch %d: %d records (%d MB) across %d restaurants in %d ms, %d corrupt, written to %s",
+            batchNumber, records, bytes / (1024 * 1024), restaurants, elapsedNanos / 1_000_000, corruptRecords,
+            batchFile));
+        for (PaymentMethod method : PaymentMethod.values()) {
+            summary.append("\n  ").append(method.getLabel()).append(": authorized $");
+            Money.appendTo(summary, authorized[method.ordinal()]).append(", refunded $");
+            Money.appendTo(summary, refunded[method.ordinal()]);
+        }
+        return summary.toString();
+    }
+}
\ No newline at end of file
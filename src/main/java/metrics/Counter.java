@@ -0,0 +1,27 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter {
+    private LongAdder value;
+    
+    public Counter() {
+        this.value = new LongAdder();
+    }
+    
+    public void increment() {
+        value.increment();
+    }
+    
+    public void decrement() {
+        value.decrement();
+    }
+    
+    public void add(long delta) {
+        value.add(delta);
+    }
+    
+    public long getCount() {
+        return value.sum();
+    }
+}
\ No newline at end of file
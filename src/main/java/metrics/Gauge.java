@@ -0,0 +1,5 @@
+package metrics;
+
+public interface Gauge {
+    long getValue();
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package metrics;
+
+public class HistogramSnapshot {
+    private long[] counts;
+    private long count;
+    private long sumNanos;
+    private long maxNanos;
+    
+    HistogramSnapshot(long[] counts, long count, long sumNanos, long maxNanos) {
+        this.counts = counts;
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.maxNanos = maxNanos;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) sumNanos / count;
+    }
+    
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+    
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long threshold = Math.max((long) Math.ceil(count * percentile / 100.0), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return Math.min(Histogram.upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class MetricRegistry {
+    private Map<String, Counter> counters;
+    private Map<String, Gauge> gauges;
+    private Map<String, Histogram> histograms;
+    
+    public MetricRegistry() {
+        this.counters = new ConcurrentSkipListMap<>();
+        this.gauges = new ConcurrentSkipListMap<>();
+        this.histograms = new ConcurrentSkipListMap<>();
+    }
+    
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(checkName(name), key -> new Counter());
+    }
+    
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(checkName(name), key -> new Histogram());
+    }
+    
+    public void gauge(String name, Gauge gauge) {
+        if (gauge == null) {
+            throw new IllegalArgumentException("Gauge must not be null");
+        }
+        gauges.put(checkName(name), gauge);
+    }
+    
+    public void remove(String name) {
+        counters.remove(name);
+        gauges.remove(name);
+        histograms.remove(name);
+    }
+    
+    public Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+    
+    public Map<String, Gauge> getGauges() {
+        return Collections.unmodifiableMap(gauges);
+    }
+    
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+    
+    public StringBuilder appendSnapshot(StringBuilder out) {
+        for (Map.Entry<String, Counter> counter : counters.entrySet()) {
+            out.append("counter ").append(counter.getKey()).append(' ').append(counter.getValue().getCount()).append('\n');
+        }
+        for (Map.Entry<String, Gauge> gauge : gauges.entrySet()) {
+            out.append("gauge ").append(gauge.getKey()).append(' ').append(gauge.getValue().getValue()).append('\n');
+        }
+        for (Map.Entry<String, Histogram> histogram : histograms.entrySet()) {
+            HistogramSnapshot snapshot = histogram.getValue().snapshot();
+            out.append("histogram ").append(histogram.getKey())
+                .append(" count=").append(snapshot.getCount())
+                .append(" meanUs=").append(String.format("%.1f", snapshot.getMeanNanos() / 1000.0))
+                .append(" p50Us=").append(micros(snapshot.percentileNanos(50)))
+                .append(" p90Us=").append(micros(snapshot.percentileNanos(90)))
+                .append(" p99Us=").append(micros(snapshot.percentileNanos(99)))
+                .append(" p999Us=").append(micros(snapshot.percentileNanos(99.9)))
+                .append(" maxUs=").append(micros(snapshot.getMaxNanos()))
+                .append('\n');
+        }
+        return out;
+    }
+    
+    private static long micros(long nanos) {
+        return (nanos + 999) / 1000;
+    }
+    
+    private static String checkName(String name) {
+        if (name == null || name.isEmpty() || name.indexOf(' ') >= 0) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        return name;
+    }
+}
\ No newline at end of file
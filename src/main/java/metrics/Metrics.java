@@ -0,0 +1,83 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import config.AppConfig;
+
+public class Metrics {
+    public static final String OBJECT_NAME = "app:type=Metrics";
+    
+    private static volatile MetricRegistry registry;
+    private static ObjectName registeredName;
+    private static SnapshotWriter snapshots;
+    
+    public static MetricRegistry getRegistry() {
+        MetricRegistry current = registry;
+        if (current == null) {
+            synchronized (Metrics.class) {
+                current = registry;
+                if (current == null) {
+                    current = new MetricRegistry();
+                    export(current);
+                    registry = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    public static Counter counter(String name) {
+        return getRegistry().counter(name);
+    }
+    
+    public static Histogram histogram(String name) {
+        return getRegistry().histogram(name);
+    }
+    
+    public static void gauge(String name, Gauge gauge) {
+        getRegistry().gauge(name, gauge);
+    }
+    
+    public static synchronized SnapshotWriter getSnapshotWriter() {
+        return snapshots;
+    }
+    
+    public static synchronized void shutdown() {
+        if (snapshots != null) {
+            snapshots.stop();
+            snapshots = null;
+        }
+        if (registeredName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            } catch (JMException e) {
+                System.err.println("Could not unregister metrics MBean: " + e.getMessage());
+            }
+            registeredName = null;
+        }
+    }
+    
+    private static void export(MetricRegistry created) {
+        AppConfig config = AppConfig.getInstance();
+        if (config.isMetricsJmx()) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(new MetricsMBean(created), name);
+                    registeredName = name;
+                }
+            } catch (JMException e) {
+                System.err.println("Could not register metrics MBean: " + e.getMessage());
+            }
+        }
+        if (config.getMetricsSnapshotFile() != null) {
+            snapshots = new SnapshotWriter(created, Paths.get(config.getMetricsSnapshotFile()),
+                                           config.getMetricsSnapshotIntervalMillis());
+            snapshots.start();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+public class MetricsMBean implements DynamicMBean {
+    private static final String[] HISTOGRAM_FIELDS = {"count", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos",
+                                                      "p999Nanos", "maxNanos"};
+    
+    private MetricRegistry registry;
+    
+    public MetricsMBean(MetricRegistry registry) {
+        this.registry = registry;
+    }
+    
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Counter counter = registry.getCounters().get(attribute);
+        if (counter != null) {
+            return counter.getCount();
+        }
+        Gauge gauge = registry.getGauges().get(attribute);
+        if (gauge != null) {
+            return gauge.getValue();
+        }
+        int split = attribute.lastIndexOf('.');
+        Histogram histogram = split > 0 ? registry.getHistograms().get(attribute.substring(0, split)) : null;
+        if (histogram != null) {
+            HistogramSnapshot snapshot = histogram.snapshot();
+            switch (attribute.substring(split + 1)) {
+                case "count":
+                    return snapshot.getCount();
+                case "meanNanos":
+                    return (long) snapshot.getMeanNanos();
+                case "p50Nanos":
+                    return snapshot.percentileNanos(50);
+                case "p90Nanos":
+                    return snapshot.percentileNanos(90);
+                case "p99Nanos":
+                    return snapshot.percentileNanos(99);
+                case "p999Nanos":
+                    return snapshot.percentileNanos(99.9);
+                case "maxNanos":
+                    return snapshot.getMaxNanos();
+                default:
+                    break;
+            }
+        }
+        throw new AttributeNotFoundException(attribute);
+    }
+    
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList values = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                values.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                continue;
+            }
+        }
+        return values;
+    }
+    
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+    
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+    
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws MBeanException,
+                                                                                        ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+    
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (String name : registry.getCounters().keySet()) {
+            attributes.add(longAttribute(name, "Counter"));
+        }
+        for (String name : registry.getGauges().keySet()) {
+            attributes.add(longAttribute(name, "Gauge"));
+        }
+        for (Map.Entry<String, Histogram> histogram : registry.getHistograms().entrySet()) {
+            for (String field : HISTOGRAM_FIELDS) {
+                attributes.add(longAttribute(histogram.getKey() + "." + field, "Histogram"));
+            }
+        }
+        return new MBeanInfo(getClass().getName(), "Application metrics",
+                             attributes.toArray(new MBeanAttributeInfo[0]), null,
+                             new MBeanOperationInfo[0], null);
+    }
+    
+    private static MBeanAttributeInfo longAttribute(String name, String description) {
+        return new MBeanAttributeInfo(name, "long", description, true, false, false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+
+public class SnapshotWriter {
+    private MetricRegistry registry;
+    private Path file;
+    private Path tempFile;
+    private long intervalMillis;
+    private StringBuilder buffer;
+    private long snapshotsWritten;
+    private volatile boolean running;
+    private Thread worker;
+    
+    public SnapshotWriter(MetricRegistry registry, Path file, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.registry = registry;
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        this.intervalMillis = intervalMillis;
+        this.buffer = new StringBuilder(4096);
+    }
+    
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::snapshotLoop, "metrics-snapshot");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            current = worker;
+            worker = null;
+            running = false;
+            notifyAll();
+        }
+        if (current != null) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writeSnapshot();
+        }
+    }
+    
+    public synchronized void writeSnapshot() {
+        buffer.setLength(0);
+        buffer.append("# ").append(Instant.now()).append('\n');
+        registry.appendSnapshot(buffer);
+        try {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(tempFile, buffer.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshotsWritten++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metrics snapshot " + file, e);
+        }
+    }
+    
+    public synchronized long getSnapshotsWritten() {
+        return snapshotsWritten;
+    }
+    
+    public Path getFile() {
+        return file;
+    }
+    
+    private synchronized void snapshotLoop() {
+        while (running) {
+            try {
+                wait(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                writeSnapshot();
+            } catch (UncheckedIOException e) {
+                System.err.println(e.getMessage() + ": " + e.getCause().getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
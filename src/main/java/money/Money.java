@@ -0,0 +1,152 @@
+package money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import config.AppConfig;
+
+public class Money {
+    public static final Currency CURRENCY = AppConfig.getInstance().getCurrency();
+    public static final int FRACTION_DIGITS = Math.max(CURRENCY.getDefaultFractionDigits(), 0);
+    public static final long MINOR_PER_MAJOR = pow10(FRACTION_DIGITS);
+    
+    private static final long BASIS_POINTS = 10_000L;
+    
+    public static long of(double amount) {
+        return of(BigDecimal.valueOf(amount));
+    }
+    
+    public static long of(BigDecimal amount) {
+        return amount.setScale(FRACTION_DIGITS, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+    
+    public static long parse(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length && text.charAt(i) == ' ') {
+            i++;
+        }
+        while (length > i && text.charAt(length - 1) == ' ') {
+            length--;
+        }
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i < length && text.charAt(i) == '$') {
+            i++;
+        }
+        long major = 0;
+        int digits = 0;
+        while (i < length && text.charAt(i) != '.') {
+            char c = text.charAt(i++);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid amount: " + text);
+            }
+            major = Math.addExact(Math.multiplyExact(major, 10), c - '0');
+            digits++;
+        }
+        long minor = 0;
+        int fractionDigits = 0;
+        if (i < length) {
+            i++;
+            while (i < length) {
+                char c = text.charAt(i++);
+                if (c < '0' || c > '9') {
+                    throw new NumberFormatException("Invalid amount: " + text);
+                }
+                if (fractionDigits < FRACTION_DIGITS) {
+                    minor = minor * 10 + (c - '0');
+                    fractionDigits++;
+                } else if (c != '0') {
+                    throw new NumberFormatException("Too many fraction digits in amount: " + text);
+                }
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid amount: " + text);
+        }
+        for (; fractionDigits < FRACTION_DIGITS; fractionDigits++) {
+            minor *= 10;
+        }
+        long amount = Math.addExact(Math.multiplyExact(major, MINOR_PER_MAJOR), minor);
+        return negative ? -amount : amount;
+    }
+    
+    public static long add(long left, long right) {
+        return Math.addExact(left, right);
+    }
+    
+    public static long subtract(long left, long right) {
+        return Math.subtractExact(left, right);
+    }
+    
+    public static long multiply(long amount, int quantity) {
+        return Math.multiplyExact(amount, (long) quantity);
+    }
+    
+    public static long percentage(long amount, double percentage) {
+        long basisPoints = Math.round(percentage * 100.0);
+        return divideHalfEven(Math.multiplyExact(amount, basisPoints), BASIS_POINTS);
+    }
+    
+    public static long nonNegative(long amount) {
+        return amount < 0 ? 0 : amount;
+    }
+    
+    public static double toMajorUnits(long amount) {
+        return (double) amount / MINOR_PER_MAJOR;
+    }
+    
+    public static BigDecimal toBigDecimal(long amount) {
+        return BigDecimal.valueOf(amount, FRACTION_DIGITS);
+    }
+    
+    public static String format(long amount) {
+        return appendTo(new StringBuilder(16), amount).toString();
+    }
+    
+    public static StringBuilder appendTo(StringBuilder builder, long amount) {
+        if (amount < 0) {
+            builder.append('-');
+            if (amount == Long.MIN_VALUE) {
+                return builder.append(toBigDecimal(amount).negate().toPlainString());
+            }
+            amount = -amount;
+        }
+        builder.append(amount / MINOR_PER_MAJOR);
+        if (FRACTION_DIGITS > 0) {
+            builder.append('.');
+            long minor = amount % MINOR_PER_MAJOR;
+            for (long divisor = MINOR_PER_MAJOR / 10; divisor > 0; divisor /= 10) {
+                builder.append((char) ('0' + (minor / divisor) % 10));
+            }
+        }
+        return builder;
+    }
+    
+    static long divideHalfEven(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twiceRemainder = Math.abs(remainder) * 2;
+        int sign = (numerator < 0) == (denominator < 0) ? 1 : -1;
+        if (twiceRemainder > Math.abs(denominator) ||
+            (twiceRemainder == Math.abs(denominator) && (quotient & 1) != 0)) {
+            quotient += sign;
+        }
+        return quotient;
+    }
+    
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package notification;
+
+import util.ConsoleWriter;
+
+public class ConsoleNotificationSink implements NotificationSink {
+    private ConsoleWriter out;
+    private Runnable afterDelivery;
+    
+    public ConsoleNotificationSink(ConsoleWriter out) {
+        this(out, null);
+    }
+    
+    public ConsoleNotificationSink(ConsoleWriter out, Runnable afterDelivery) {
+        this.out = out;
+        this.afterDelivery = afterDelivery;
+    }
+    
+    @Override
+    public void deliver(NotificationBatch batch) {
+        if (batch.size() == 0) {
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            out.print("\n[NOTIFICATION] Order ").print(batch.getOrderId(i))
+               .print(" status updated to: ").println(batch.getStatus(i));
+        }
+        out.print("Enter your choice: ").flush();
+        if (afterDelivery != null) {
+            afterDelivery.run();
+        }
+    }
+}
\ No newline at end of file
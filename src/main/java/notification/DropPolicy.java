@@ -0,0 +1,7 @@
+package notification;
+
+public enum DropPolicy {
+    DROP_OLDEST,
+    DROP_NEWEST,
+    BLOCK
+}
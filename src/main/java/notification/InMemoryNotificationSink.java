@@ -0,0 +1,57 @@
+package notification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InMemoryNotificationSink implements NotificationSink {
+    private int historySize;
+    private ArrayDeque<String> history;
+    private Map<String, String> latestStatus;
+    private LongAdder received;
+    
+    public InMemoryNotificationSink(int historySize) {
+        if (historySize < 0) {
+            throw new IllegalArgumentException("History size must not be negative");
+        }
+        this.historySize = historySize;
+        this.history = new ArrayDeque<>(historySize);
+        this.latestStatus = new ConcurrentHashMap<>();
+        this.received = new LongAdder();
+    }
+    
+    @Override
+    public void deliver(NotificationBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            latestStatus.put(batch.getOrderId(i), batch.getStatus(i));
+        }
+        if (historySize > 0) {
+            synchronized (history) {
+                for (int i = 0; i < batch.size(); i++) {
+                    if (history.size() == historySize) {
+                        history.pollFirst();
+                    }
+                    history.addLast("Order " + batch.getOrderId(i) + " status updated to: " + batch.getStatus(i));
+                }
+            }
+        }
+        received.add(batch.size());
+    }
+    
+    public String getLatestStatus(String orderId) {
+        return latestStatus.get(orderId);
+    }
+    
+    public List<String> getHistory() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+    
+    public long getReceivedCount() {
+        return received.sum();
+    }
+}
@@ -1,6 +1,11 @@
 package notification;
 
+import java.nio.file.Paths;
+import config.AppConfig;
+import metrics.Metrics;
+
 public class Notification {
+    private static volatile NotificationDispatcher dispatcher;
     private String message;
     
     public Notification(String message) {
@@ -12,10 +17,45 @@ public class Notification {
         System.out.print("Enter your choice: ");
     }
     
-    public static Notification updateStatus(String orderId, String newStatus) {
-        String message = "Order " + orderId + " status updated to: " + newStatus;
-        Notification notification = new Notification(message);
-        notification.notifyUser();
-        return notification;
+    public static void updateStatus(String orderId, String newStatus) {
+        getDispatcher().publish(orderId, newStatus);
+    }
+    
+    public static void updateStatus(long recipient, String orderId, String newStatus) {
+        getDispatcher().publish(recipient, orderId, newStatus);
+    }
+    
+    public static NotificationDispatcher getDispatcher() {
+        NotificationDispatcher current = dispatcher;
+        if (current == null) {
+            synchronized (Notification.class) {
+                current = dispatcher;
+                if (current == null) {
+                    current = createDispatcher();
+                    dispatcher = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    public static synchronized void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+    
+    private static NotificationDispatcher createDispatcher() {
+        AppConfig config = AppConfig.getInstance();
+        NotificationDispatcher created = new NotificationDispatcher(config.getNotificationQueueCapacity(),
+                                                                    config.getNotificationBatchSize(),
+                                                                    config.getNotificationDropPolicy());
+        if (config.getNotificationLogDir() != null) {
+            created.addSink(new RollingFileNotificationSink(Paths.get(config.getNotificationLogDir()), "notifications",
+                                                            config.getNotificationLogMaxBytes(), 5));
+        }
+        created.start();
+        Metrics.gauge("notifications.queue", created::getPendingCount);
+        return created;
     }
-}
\ No newline at end of file
+}
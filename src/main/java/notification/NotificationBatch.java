@@ -0,0 +1,38 @@
+package notification;
+
+public class NotificationBatch {
+    private String[] orderIds;
+    private String[] statuses;
+    private int size;
+    
+    NotificationBatch(int capacity) {
+        this.orderIds = new String[capacity];
+        this.statuses = new String[capacity];
+    }
+    
+    void add(String orderId, String status) {
+        orderIds[size] = orderId;
+        statuses[size] = status;
+        size++;
+    }
+    
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            orderIds[i] = null;
+            statuses[i] = null;
+        }
+        size = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String getOrderId(int index) {
+        return orderIds[index];
+    }
+    
+    public String getStatus(int index) {
+        return statuses[index];
+    }
+}
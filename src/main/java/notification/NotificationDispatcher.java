@@ -0,0 +1,244 @@
+package notification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NotificationDispatcher {
+    public static final long NO_RECIPIENT = -1;
+    
+    private BlockingQueue<String> pendingOrders;
+    private ConcurrentMap<String, PendingNotification> latestStatus;
+    private List<NotificationSink> sinks;
+    private ConcurrentMap<Long, NotificationSink> recipients;
+    private Map<NotificationSink, NotificationBatch> routed;
+    private ArrayDeque<NotificationBatch> spareBatches;
+    private DropPolicy dropPolicy;
+    private int batchSize;
+    private LongAdder published;
+    private LongAdder coalesced;
+    private LongAdder dropped;
+    private LongAdder delivered;
+    private LongAdder sinkFailures;
+    private volatile boolean running;
+    private Thread worker;
+    
+    public NotificationDispatcher(int capacity, int batchSize, DropPolicy dropPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.pendingOrders = new ArrayBlockingQueue<>(capacity);
+        this.latestStatus = new ConcurrentHashMap<>();
+        this.sinks = new CopyOnWriteArrayList<>();
+        this.recipients = new ConcurrentHashMap<>();
+        this.routed = new IdentityHashMap<>();
+        this.spareBatches = new ArrayDeque<>();
+        this.dropPolicy = dropPolicy;
+        this.batchSize = batchSize;
+        this.published = new LongAdder();
+        this.coalesced = new LongAdder();
+        this.dropped = new LongAdder();
+        this.delivered = new LongAdder();
+        this.sinkFailures = new LongAdder();
+    }
+    
+    public void addSink(NotificationSink sink) {
+        sinks.add(sink);
+    }
+    
+    public void removeSink(NotificationSink sink) {
+        sinks.remove(sink);
+    }
+    
+    public void addRecipient(long recipient, NotificationSink sink) {
+        if (recipient == NO_RECIPIENT) {
+            throw new IllegalArgumentException("Recipient id is reserved: " + recipient);
+        }
+        recipients.put(recipient, sink);
+    }
+    
+    public void removeRecipient(long recipient, NotificationSink sink) {
+        recipients.remove(recipient, sink);
+    }
+    
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::dispatchLoop, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    public void publish(String orderId, String status) {
+        publish(NO_RECIPIENT, orderId, status);
+    }
+    
+    public void publish(long recipient, String orderId, String status) {
+        published.increment();
+        if (latestStatus.put(orderId, new PendingNotification(recipient, status)) != null) {
+            coalesced.increment();
+            return;
+        }
+        if (pendingOrders.offer(orderId)) {
+            return;
+        }
+        switch (dropPolicy) {
+            case DROP_NEWEST:
+                if (latestStatus.remove(orderId) != null) {
+                    dropped.increment();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!pendingOrders.offer(orderId)) {
+                    String evicted = pendingOrders.poll();
+                    if (evicted != null && latestStatus.remove(evicted) != null) {
+                        dropped.increment();
+                    }
+                }
+                break;
+            case BLOCK:
+                try {
+                    pendingOrders.put(orderId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (latestStatus.remove(orderId) != null) {
+                        dropped.increment();
+                    }
+                }
+                break;
+        }
+    }
+    
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            current = worker;
+            worker = null;
+            running = false;
+        }
+        if (current != null) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (NotificationSink sink : sinks) {
+            sink.close();
+        }
+        for (NotificationSink sink : recipients.values()) {
+            sink.close();
+        }
+    }
+    
+    public long getPublishedCount() {
+        return published.sum();
+    }
+    
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+    
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+    
+    public long getSinkFailureCount() {
+        return sinkFailures.sum();
+    }
+    
+    public int getPendingCount() {
+        return pendingOrders.size();
+    }
+    
+    private void dispatchLoop() {
+        List<String> drained = new ArrayList<>(batchSize);
+        NotificationBatch batch = new NotificationBatch(batchSize);
+        while (running) {
+            try {
+                String first = pendingOrders.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+            } catch (InterruptedException e) {
+                break;
+            }
+            pendingOrders.drainTo(drained, batchSize - 1);
+            deliver(drained, batch);
+        }
+        while (pendingOrders.drainTo(drained, batchSize) > 0) {
+            deliver(drained, batch);
+        }
+    }
+    
+    private void deliver(List<String> drained, NotificationBatch batch) {
+        for (String orderId : drained) {
+            PendingNotification pending = latestStatus.remove(orderId);
+            if (pending == null) {
+                continue;
+            }
+            batch.add(orderId, pending.status);
+            NotificationSink owner = pending.recipient != NO_RECIPIENT ? recipients.get(pending.recipient) : null;
+            if (owner != null) {
+                NotificationBatch ownerBatch = routed.get(owner);
+                if (ownerBatch == null) {
+                    ownerBatch = spareBatches.isEmpty() ? new NotificationBatch(batchSize) : spareBatches.pop();
+                    routed.put(owner, ownerBatch);
+                }
+                ownerBatch.add(orderId, pending.status);
+            }
+        }
+        drained.clear();
+        if (batch.size() == 0) {
+            return;
+        }
+        for (NotificationSink sink : sinks) {
+            deliverTo(sink, batch);
+        }
+        for (Map.Entry<NotificationSink, NotificationBatch> owner : routed.entrySet()) {
+            deliverTo(owner.getKey(), owner.getValue());
+            owner.getValue().clear();
+            spareBatches.push(owner.getValue());
+        }
+        routed.clear();
+        delivered.add(batch.size());
+        batch.clear();
+    }
+    
+    private void deliverTo(NotificationSink sink, NotificationBatch batch) {
+        try {
+            sink.deliver(batch);
+        } catch (RuntimeException e) {
+            sinkFailures.increment();
+        }
+    }
+    
+    private static class PendingNotification {
+        private final long recipient;
+        private final String status;
+        
+        PendingNotification(long recipient, String status) {
+            this.recipient = recipient;
+            this.status = status;
+        }
+    }
+}
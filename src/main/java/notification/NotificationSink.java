@@ -0,0 +1,8 @@
+package notification;
+
+public interface NotificationSink {
+    void deliver(NotificationBatch batch);
+    
+    default void close() {
+    }
+}
@@ -0,0 +1,91 @@
+package notification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class RollingFileNotificationSink implements NotificationSink {
+    private Path directory;
+    private String baseName;
+    private long maxFileBytes;
+    private int maxFiles;
+    private Writer writer;
+    private long fileBytes;
+    private StringBuilder line;
+    
+    public RollingFileNotificationSink(Path directory, String baseName, long maxFileBytes, int maxFiles) {
+        if (maxFileBytes <= 0) {
+            throw new IllegalArgumentException("Maximum file size must be positive");
+        }
+        if (maxFiles < 1) {
+            throw new IllegalArgumentException("At least one file must be kept");
+        }
+        this.directory = directory;
+        this.baseName = baseName;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.line = new StringBuilder(96);
+    }
+    
+    @Override
+    public void deliver(NotificationBatch batch) {
+        try {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < batch.size(); i++) {
+                if (writer == null || fileBytes >= maxFileBytes) {
+                    roll();
+                }
+                line.setLength(0);
+                line.append(now).append(' ').append(batch.getOrderId(i)).append(' ')
+                    .append(batch.getStatus(i)).append('\n');
+                writer.append(line);
+                fileBytes += line.length();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write notifications to " + directory, e);
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close notification log in " + directory, e);
+        } finally {
+            writer = null;
+        }
+    }
+    
+    private void roll() throws IOException {
+        Path current = fileFor(0);
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            Files.deleteIfExists(fileFor(maxFiles - 1));
+            for (int i = maxFiles - 2; i >= 0; i--) {
+                Path source = fileFor(i);
+                if (Files.exists(source)) {
+                    Files.move(source, fileFor(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        Files.createDirectories(directory);
+        fileBytes = Files.exists(current) ? Files.size(current) : 0;
+        writer = Files.newBufferedWriter(current, StandardCharsets.UTF_8,
+                                         StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+    
+    private Path fileFor(int index) {
+        return directory.resolve(index == 0 ? baseName + ".log" : baseName + "." + index + ".log");
+    }
+}
@@ -0,0 +1,33 @@
+package order;
+
+import dish.Dish;
+import restaurant.Restaurant;
+
+final class LineKey {
+    private Dish dish;
+    private Restaurant restaurant;
+    private int hash;
+    
+    LineKey(Dish dish, Restaurant restaurant) {
+        this.dish = dish;
+        this.restaurant = restaurant;
+        this.hash = 31 * System.identityHashCode(dish) + System.identityHashCode(restaurant);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof LineKey)) {
+            return false;
+        }
+        LineKey key = (LineKey) other;
+        return dish == key.dish && restaurant == key.restaurant;
+    }
+    
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
\ No newline at end of file
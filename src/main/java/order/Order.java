@@ -1,45 +1,98 @@
 package order;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import user.User;
 import dish.Dish;
+import dispatch.Location;
+import dish.VariantCompiler;
+import metrics.Counter;
+import metrics.Metrics;
+import money.Money;
+import pricing.PricingQuote;
 import restaurant.Restaurant;
 
 public class Order {
+    private static final AtomicReferenceFieldUpdater<Order, OrderState> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(Order.class, OrderState.class, "state");
+    private static final Counter OPEN_CARTS = Metrics.counter("carts.open");
+    private static volatile OrderStateListener[] stateListeners = new OrderStateListener[0];
+    
     private String orderId;
     private User user;
-    private List<Dish> dishes;
-    private Map<Dish, Restaurant> dishRestaurantMap;
-    private String status;
+    private Map<LineKey, OrderLine> lines;
+    private Collection<OrderLine> linesView;
+    private int itemCount;
+    private long total;
+    private long version;
+    private long[] stateEnteredNanos;
+    private Location deliveryLocation;
+    private volatile OrderState state;
+    private volatile PricingQuote pricingQuote;
     
     public Order(String orderId, User user) {
         this.orderId = orderId;
         this.user = user;
-        this.dishes = new ArrayList<>();
-        this.dishRestaurantMap = new HashMap<>();
-        this.status = "PENDING";
+        this.lines = new LinkedHashMap<>();
+        this.linesView = Collections.unmodifiableCollection(lines.values());
+        this.itemCount = 0;
+        this.total = 0;
+        this.stateEnteredNanos = new long[OrderState.values().length];
+        this.stateEnteredNanos[OrderState.PENDING.ordinal()] = System.nanoTime();
+        this.state = OrderState.PENDING;
     }
     
     public void addDish(Dish dish, Restaurant restaurant) {
-        dishes.add(dish);
-        dishRestaurantMap.put(dish, restaurant);
+        addDish(dish, restaurant, 1);
+    }
+    
+    public void addDish(Dish dish, Restaurant restaurant, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        Dish flattened = VariantCompiler.flatten(dish);
+        LineKey key = new LineKey(flattened, restaurant);
+        OrderLine line = lines.get(key);
+        if (line == null) {
+            line = new OrderLine(flattened, restaurant);
+            lines.put(key, line);
+        }
+        if (itemCount == 0 && state == OrderState.PENDING) {
+            OPEN_CARTS.increment();
+        }
+        long previousSubtotal = line.getSubtotal();
+        line.increase(quantity);
+        itemCount += quantity;
+        total = Money.add(total, line.getSubtotal() - previousSubtotal);
+        version++;
     }
     
     public void addDish() {
         System.out.println("Please use addDish(Dish dish, Restaurant restaurant) to add dishes with restaurant information.");
     }
     
-    public double calculateTotal() {
-        double total = 0.0;
-        for (Dish dish : dishes) {
-            total += dish.getPrice();
-        }
+    public long calculateTotal() {
         return total;
     }
     
+    public long getVersion() {
+        return version;
+    }
+    
+    public PricingQuote getPricingQuote() {
+        return pricingQuote;
+    }
+    
+    public void setPricingQuote(PricingQuote pricingQuote) {
+        this.pricingQuote = pricingQuote;
+    }
+    
     public String getOrderId() {
         return orderId;
     }
@@ -48,65 +101,148 @@ public class Order {
         return user;
     }
     
+    public Location getDeliveryLocation() {
+        return deliveryLocation;
+    }
+    
+    public void setDeliveryLocation(Location deliveryLocation) {
+        this.deliveryLocation = deliveryLocation;
+    }
+    
     public List<Dish> getDishes() {
-        return new ArrayList<>(dishes);
+        List<Dish> dishes = new ArrayList<>(itemCount);
+        for (OrderLine line : lines.values()) {
+            for (int i = 0; i < line.getQuantity(); i++) {
+                dishes.add(line.getDish());
+            }
+        }
+        return dishes;
     }
     
-    public String getStatus() {
-        return status;
+    public Collection<OrderLine> getLines() {
+        return linesView;
     }
     
-    public void setStatus(String status) {
-        this.status = status;
+    public OrderState getStatus() {
+        return state;
     }
     
-    public int getItemCount() {
-        return dishes.size();
+    public boolean transitionTo(OrderState expected, OrderState next) {
+        if (!expected.canTransitionTo(next)) {
+            throw new IllegalStateException("Illegal order transition: " + expected + " -> " + next);
+        }
+        if (!STATE.compareAndSet(this, expected, next)) {
+            return false;
+        }
+        stateEnteredNanos[next.ordinal()] = System.nanoTime();
+        if (expected == OrderState.PENDING && itemCount > 0) {
+            OPEN_CARTS.decrement();
+        }
+        OrderStateListener[] listeners = stateListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onTransition(this, expected, next);
+        }
+        return true;
     }
     
-    public Restaurant getRestaurantForDish(Dish dish) {
-        return dishRestaurantMap.get(dish);
+    public long getStateEnteredNanos(OrderState stage) {
+        return stateEnteredNanos[stage.ordinal()];
     }
     
-    public Map<String, List<Dish>> getGroupedDishes() {
-        Map<String, List<Dish>> grouped = new HashMap<>();
-        for (Dish dish : dishes) {
-            String name = dish.getName();
-            grouped.putIfAbsent(name, new ArrayList<>());
-            grouped.get(name).add(dish);
+    void restoreState(OrderState restored) {
+        if (state == OrderState.PENDING && restored != OrderState.PENDING && itemCount > 0) {
+            OPEN_CARTS.decrement();
         }
-        return grouped;
+        state = restored;
     }
     
-    public int getDishQuantity(String dishName) {
-        int count = 0;
-        for (Dish dish : dishes) {
-            if (dish.getName().equals(dishName)) {
-                count++;
+    public OrderState advance() {
+        while (true) {
+            OrderState current = state;
+            OrderState next = current.next();
+            if (next == null) {
+                return null;
+            }
+            if (transitionTo(current, next)) {
+                return next;
             }
         }
-        return count;
     }
     
-    public int removeDishQuantity(String dishName, int quantity) {
-        int removedCount = 0;
-        List<Dish> toRemove = new ArrayList<>();
-        for (Dish dish : dishes) {
-            if (dish.getName().equals(dishName) && removedCount < quantity) {
-                toRemove.add(dish);
-                removedCount++;
+    public static synchronized void addStateListener(OrderStateListener listener) {
+        OrderStateListener[] current = stateListeners;
+        OrderStateListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        stateListeners = updated;
+    }
+    
+    public static synchronized void removeStateListener(OrderStateListener listener) {
+        OrderStateListener[] current = stateListeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                OrderStateListener[] updated = new OrderStateListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                stateListeners = updated;
+                return;
+            }
+        }
+    }
+    
+    public int getItemCount() {
+        return itemCount;
+    }
+    
+    public Restaurant getRestaurantForDish(Dish dish) {
+        Dish flattened = VariantCompiler.flatten(dish);
+        for (OrderLine line : lines.values()) {
+            if (line.getDish() == flattened) {
+                return line.getRestaurant();
             }
         }
-        for (Dish dish : toRemove) {
-            dishes.remove(dish);
-            dishRestaurantMap.remove(dish);
+        return null;
+    }
+    
+    public int getDishQuantity(Dish dish, Restaurant restaurant) {
+        OrderLine line = lines.get(new LineKey(VariantCompiler.flatten(dish), restaurant));
+        return line != null ? line.getQuantity() : 0;
+    }
+    
+    public int removeDishQuantity(Dish dish, Restaurant restaurant, int quantity) {
+        LineKey key = new LineKey(VariantCompiler.flatten(dish), restaurant);
+        OrderLine line = lines.get(key);
+        if (line == null || quantity <= 0) {
+            return 0;
+        }
+        int removedCount = Math.min(quantity, line.getQuantity());
+        long previousSubtotal = line.getSubtotal();
+        line.decrease(removedCount);
+        itemCount -= removedCount;
+        if (itemCount == 0 && removedCount > 0 && state == OrderState.PENDING) {
+            OPEN_CARTS.decrement();
+        }
+        if (line.getQuantity() == 0) {
+            lines.remove(key);
         }
+        total -= previousSubtotal - line.getSubtotal();
+        version++;
         return removedCount;
     }
     
     public void clearOrder() {
-        dishes.clear();
-        dishRestaurantMap.clear();
-        setStatus("PENDING");
+        if (itemCount > 0 && state == OrderState.PENDING) {
+            OPEN_CARTS.decrement();
+        }
+        lines.clear();
+        itemCount = 0;
+        total = 0;
+        version++;
+        Arrays.fill(stateEnteredNanos, 0);
+        stateEnteredNanos[OrderState.PENDING.ordinal()] = System.nanoTime();
+        state = OrderState.PENDING;
+        OrderStateListener[] listeners = stateListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onCleared(this);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package order;
+
+import dish.Dish;
+import money.Money;
+import restaurant.Restaurant;
+
+public class OrderLine {
+    private Dish dish;
+    private Restaurant restaurant;
+    private long unitPrice;
+    private int quantity;
+    private long subtotal;
+    
+    OrderLine(Dish dish, Restaurant restaurant) {
+        this.dish = dish;
+        this.restaurant = restaurant;
+        this.unitPrice = dish.getPrice();
+        this.quantity = 0;
+        this.subtotal = 0;
+    }
+    
+    void increase(int count) {
+        quantity += count;
+        subtotal = Money.multiply(unitPrice, quantity);
+    }
+    
+    void decrease(int count) {
+        quantity -= count;
+        subtotal = Money.multiply(unitPrice, quantity);
+    }
+    
+    public Dish getDish() {
+        return dish;
+    }
+    
+    public String getName() {
+        return dish.getName();
+    }
+    
+    public Restaurant getRestaurant() {
+        return restaurant;
+    }
+    
+    public long getUnitPrice() {
+        return unitPrice;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public long getSubtotal() {
+        return subtotal;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package order;
+
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.MetricRegistry;
+
+class OrderMetrics implements OrderStateListener {
+    private Counter placed;
+    private Histogram[] stageTimes;
+    
+    OrderMetrics(MetricRegistry metrics, OrderRegistry registry) {
+        this.placed = metrics.counter("orders.placed");
+        OrderState[] states = OrderState.values();
+        this.stageTimes = new Histogram[states.length];
+        for (OrderState state : states) {
+            if (state == OrderState.PENDING) {
+                continue;
+            }
+            metrics.gauge("orders.stage." + state.name(), () -> registry.countByStatus(state));
+            if (!state.isTerminal()) {
+                stageTimes[state.ordinal()] = metrics.histogram("orders.stage." + state.name() + ".time");
+            }
+        }
+    }
+    
+    @Override
+    public void onTransition(Order order, OrderState from, OrderState to) {
+        if (to == OrderState.PLACED) {
+            placed.increment();
+        }
+        Histogram stageTime = stageTimes[from.ordinal()];
+        if (stageTime == null) {
+            return;
+        }
+        long entered = order.getStateEnteredNanos(from);
+        long left = order.getStateEnteredNanos(to);
+        if (entered != 0 && left >= entered) {
+            stageTime.record(left - entered);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package order;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import dish.AddOn;
+import dish.Dish;
+import dish.DishFactory;
+import dish.DishType;
+import dish.VariantCompiler;
+import journal.JournalLine;
+import journal.JournalRecord;
+import restaurant.Restaurant;
+import user.User;
+
+class OrderRecovery {
+    private Map<String, Restaurant> restaurantsByName;
+    private Map<String, Map<String, Dish>> menusByRestaurant;
+    private Map<String, User> customersByName;
+    private Map<String, Order> orders;
+    private Map<String, Long> dueTimes;
+    
+    OrderRecovery(List<Restaurant> restaurants) {
+        this.restaurantsByName = new HashMap<>();
+        this.menusByRestaurant = new HashMap<>();
+        for (Restaurant restaurant : restaurants) {
+            restaurantsByName.put(restaurant.getName(), restaurant);
+            Map<String, Dish> menu = new HashMap<>();
+            for (Dish dish : restaurant.getMenu()) {
+                menu.put(dish.getName(), dish);
+            }
+            menusByRestaurant.put(restaurant.getName(), menu);
+        }
+        this.customersByName = new HashMap<>();
+        this.orders = new LinkedHashMap<>();
+        this.dueTimes = new HashMap<>();
+    }
+    
+    void apply(JournalRecord record) {
+        Order order = orders.get(record.getOrderId());
+        switch (record.getType()) {
+            case PLACED:
+                if (order == null) {
+                    orders.put(record.getOrderId(), rebuild(record));
+                }
+                break;
+            case TRANSITION:
+                if (order != null && record.getTo().ordinal() > order.getStatus().ordinal()) {
+                    order.restoreState(record.getTo());
+                    dueTimes.remove(record.getOrderId());
+                }
+                break;
+            case SCHEDULED:
+                if (order != null && !order.getStatus().isTerminal()) {
+                    dueTimes.put(record.getOrderId(), record.getDueMillis());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    int register(OrderRegistry registry) {
+        int registered = 0;
+        for (Order order : orders.values()) {
+            if (registry.register(order)) {
+                registered++;
+            }
+        }
+        return registered;
+    }
+    
+    Map<Order, Long> getPendingTransitions() {
+        Map<Order, Long> pending = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        for (Order order : orders.values()) {
+            if (!order.getStatus().isTerminal()) {
+                pending.put(order, dueTimes.getOrDefault(order.getOrderId(), now));
+            }
+        }
+        return pending;
+    }
+    
+    private Order rebuild(JournalRecord record) {
+        Order order = new Order(record.getOrderId(),
+                                customersByName.computeIfAbsent(record.getCustomerName(), User::new));
+        for (JournalLine line : record.getLines()) {
+            Restaurant restaurant = restaurantsByName.get(line.getRestaurantName());
+            order.addDish(resolve(line), restaurant, line.getQuantity());
+        }
+        order.restoreState(OrderState.PLACED);
+        return order;
+    }
+    
+    private Dish resolve(JournalLine line) {
+        AddOn[] addOns = line.getAddOns().toArray(new AddOn[0]);
+        Map<String, Dish> menu = menusByRestaurant.get(line.getRestaurantName());
+        Dish base = menu != null ? menu.get(line.getDishName()) : null;
+        if (base != null && base.getType().equals(line.getDishType())) {
+            Dish dish = VariantCompiler.compile(base, addOns);
+            if (dish.getPrice() == line.getUnitPrice()) {
+                return dish;
+            }
+        }
+        long basePrice = line.getUnitPrice();
+        for (AddOn addOn : addOns) {
+            basePrice -= addOn.getPrice();
+        }
+        Dish standIn = DishFactory.createDish(factoryTypeOf(line.getDishType()), line.getDishName(), basePrice, "");
+        Dish dish = VariantCompiler.compile(standIn, addOns);
+        VariantCompiler.evict(standIn);
+        return dish;
+    }
+    
+    private static DishType factoryTypeOf(String dishType) {
+        try {
+            return DishType.fromLabel(dishType);
+        } catch (IllegalArgumentException e) {
+            return DishType.VEG;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,240 @@
+package order;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import restaurant.Restaurant;
+import user.User;
+
+public class OrderRegistry implements OrderStateListener {
+    private final ConcurrentMap<String, Registration>[] shards;
+    private final Object[] statusLocks;
+    private final int shardMask;
+    private final ConcurrentMap<User, Set<Order>> ordersByCustomer;
+    private final ConcurrentMap<Restaurant, Set<Order>> ordersByRestaurant;
+    private final Set<Order>[] ordersByStatus;
+    private final ConcurrentLinkedQueue<Registration> placementOrder;
+    private final LongAdder size;
+    private final LongAdder tombstones;
+    private final AtomicBoolean purging;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public OrderRegistry(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        int shardTotal = Integer.highestOneBit(shardCount - 1) << 1;
+        shardTotal = Math.max(shardTotal, 1);
+        this.shards = new ConcurrentMap[shardTotal];
+        this.statusLocks = new Object[shardTotal];
+        for (int i = 0; i < shardTotal; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+            statusLocks[i] = new Object();
+        }
+        this.shardMask = shardTotal - 1;
+        this.ordersByCustomer = new ConcurrentHashMap<>();
+        this.ordersByRestaurant = new ConcurrentHashMap<>();
+        OrderState[] states = OrderState.values();
+        this.ordersByStatus = new Set[states.length];
+        for (OrderState state : states) {
+            ordersByStatus[state.ordinal()] = ConcurrentHashMap.newKeySet();
+        }
+        this.placementOrder = new ConcurrentLinkedQueue<>();
+        this.size = new LongAdder();
+        this.tombstones = new LongAdder();
+        this.purging = new AtomicBoolean();
+    }
+    
+    public boolean register(Order order) {
+        Registration registration = new Registration(order);
+        if (shardFor(order.getOrderId()).putIfAbsent(order.getOrderId(), registration) != null) {
+            return false;
+        }
+        addToIndex(ordersByCustomer, order.getUser(), order);
+        for (OrderLine line : order.getLines()) {
+            if (line.getRestaurant() != null) {
+                addToIndex(ordersByRestaurant, line.getRestaurant(), order);
+            }
+        }
+        synchronized (statusLockFor(order.getOrderId())) {
+            ordersByStatus[order.getStatus().ordinal()].add(order);
+        }
+        placementOrder.add(registration);
+        size.increment();
+        return true;
+    }
+    
+    public boolean unregister(Order order) {
+        ConcurrentMap<String, Registration> shard = shardFor(order.getOrderId());
+        Registration registration = shard.get(order.getOrderId());
+        if (registration == null || registration.order != order ||
+            !shard.remove(order.getOrderId(), registration)) {
+            return false;
+        }
+        removeFromIndex(ordersByCustomer, order.getUser(), order);
+        for (OrderLine line : order.getLines()) {
+            if (line.getRestaurant() != null) {
+                removeFromIndex(ordersByRestaurant, line.getRestaurant(), order);
+            }
+        }
+        synchronized (statusLockFor(order.getOrderId())) {
+            for (Set<Order> statusOrders : ordersByStatus) {
+                statusOrders.remove(order);
+            }
+        }
+        registration.removed = true;
+        size.decrement();
+        tombstones.increment();
+        if (tombstones.sum() > Math.max(size.sum(), 64) && purging.compareAndSet(false, true)) {
+            try {
+                purgeTombstones();
+            } finally {
+                purging.set(false);
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onTransition(Order order, OrderState from, OrderState to) {
+        if (findById(order.getOrderId()) != order) {
+            return;
+        }
+        synchronized (statusLockFor(order.getOrderId())) {
+            OrderState current = order.getStatus();
+            ordersByStatus[from.ordinal()].remove(order);
+            if (current != to) {
+                ordersByStatus[to.ordinal()].remove(order);
+            }
+            ordersByStatus[current.ordinal()].add(order);
+        }
+    }
+    
+    public Order findById(String orderId) {
+        Registration registration = shardFor(orderId).get(orderId);
+        return registration != null ? registration.order : null;
+    }
+    
+    public Set<Order> findByCustomer(User user) {
+        Set<Order> orders = ordersByCustomer.get(user);
+        return orders != null ? Collections.unmodifiableSet(orders) : Collections.emptySet();
+    }
+    
+    public Set<Order> findByRestaurant(Restaurant restaurant) {
+        Set<Order> orders = ordersByRestaurant.get(restaurant);
+        return orders != null ? Collections.unmodifiableSet(orders) : Collections.emptySet();
+    }
+    
+    public Set<Order> findByStatus(OrderState state) {
+        return Collections.unmodifiableSet(ordersByStatus[state.ordinal()]);
+    }
+    
+    public int countByStatus(OrderState state) {
+        return ordersByStatus[state.ordinal()].size();
+    }
+    
+    public Collection<Order> getOrders() {
+        return new AbstractCollection<Order>() {
+            @Override
+            public Iterator<Order> iterator() {
+                return new LiveOrderIterator(placementOrder.iterator());
+            }
+            
+            @Override
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, size.sum());
+            }
+        };
+    }
+    
+    public long size() {
+        return size.sum();
+    }
+    
+    public boolean isEmpty() {
+        return size.sum() == 0;
+    }
+    
+    private void purgeTombstones() {
+        int purged = 0;
+        for (Iterator<Registration> entries = placementOrder.iterator(); entries.hasNext(); ) {
+            if (entries.next().removed) {
+                entries.remove();
+                purged++;
+            }
+        }
+        tombstones.add(-purged);
+    }
+    
+    private static <K> void addToIndex(ConcurrentMap<K, Set<Order>> index, K key, Order order) {
+        index.compute(key, (indexKey, orders) -> {
+            Set<Order> indexed = orders != null ? orders : ConcurrentHashMap.newKeySet();
+            indexed.add(order);
+            return indexed;
+        });
+    }
+    
+    private static <K> void removeFromIndex(ConcurrentMap<K, Set<Order>> index, K key, Order order) {
+        index.computeIfPresent(key, (indexKey, orders) -> orders.remove(order) && orders.isEmpty() ? null : orders);
+    }
+    
+    private ConcurrentMap<String, Registration> shardFor(String orderId) {
+        return shards[shardIndex(orderId)];
+    }
+    
+    private Object statusLockFor(String orderId) {
+        return statusLocks[shardIndex(orderId)];
+    }
+    
+    private int shardIndex(String orderId) {
+        int hash = orderId.hashCode();
+        return (hash ^ (hash >>> 16)) & shardMask;
+    }
+    
+    private static class Registration {
+        private final Order order;
+        private volatile boolean removed;
+        
+        Registration(Order order) {
+            this.order = order;
+        }
+    }
+    
+    private static class LiveOrderIterator implements Iterator<Order> {
+        private final Iterator<Registration> entries;
+        private Order next;
+        
+        LiveOrderIterator(Iterator<Registration> entries) {
+            this.entries = entries;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (next == null && entries.hasNext()) {
+                Registration registration = entries.next();
+                if (!registration.removed) {
+                    next = registration.order;
+                }
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Order next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Order current = next;
+            next = null;
+            return current;
+        }
+    }
+}
\ No newline at end of file
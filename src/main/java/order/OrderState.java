@@ -0,0 +1,39 @@
+package order;
+
+public enum OrderState {
+    PENDING("PENDING"),
+    PLACED("PLACED"),
+    PREPARING("PREPARING"),
+    OUT_FOR_DELIVERY("OUT FOR DELIVERY"),
+    DELIVERED("DELIVERED");
+    
+    private static final OrderState[] VALUES = values();
+    
+    private final String label;
+    
+    OrderState(String label) {
+        this.label = label;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public OrderState next() {
+        int nextOrdinal = ordinal() + 1;
+        return nextOrdinal < VALUES.length ? VALUES[nextOrdinal] : null;
+    }
+    
+    public boolean canTransitionTo(OrderState target) {
+        return target != null && target.ordinal() == ordinal() + 1;
+    }
+    
+    public boolean isTerminal() {
+        return next() == null;
+    }
+    
+    @Override
+    public String toString() {
+        return label;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package order;
+
+public interface OrderStateListener {
+    void onTransition(Order order, OrderState from, OrderState to);
+    
+    default void onCleared(Order order) {
+    }
+}
\ No newline at end of file
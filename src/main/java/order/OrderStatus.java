@@ -1,84 +1,251 @@
 package order;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import dish.Dish;
+import config.AppConfig;
 import util.DisplayFormatter;
-import notification.Notification;
+import view.Screen;
+import view.ScreenBuilder;
+import view.ScreenRenderer;
+import event.OrderEvents;
+import scheduler.TimingWheel;
+import journal.OrderJournal;
+import dispatch.Assignment;
+import dispatch.Dispatch;
+import dispatch.DispatchEngine;
+import dispatch.DispatchListener;
+import dispatch.DispatchRequest;
+import dispatch.Location;
+import metrics.Histogram;
+import metrics.Metrics;
+import restaurant.Restaurant;
+import user.User;
 
 public class OrderStatus {
-    private static List<Order> placedOrders = new ArrayList<>();
-    private static ScheduledExecutorService statusUpdateExecutor = Executors.newScheduledThreadPool(5);
-    private static Random random = new Random();
+    private static final Histogram DISPATCH_WAIT = Metrics.histogram("dispatch.wait");
+    private static OrderRegistry registry = createRegistry();
+    private static TimingWheel statusUpdateWheel = createStatusUpdateWheel();
+    private static Map<Order, Screen> orderSummaries = createSummaryCache();
+    private static String[] statusRows = createStatusRows();
+    private static volatile OrderJournal journal;
     
     public static void addOrder(Order order) {
         if (order != null) {
-            order.setStatus("PLACED");
-            placedOrders.add(order);
+            if (!registry.register(order)) {
+                return;
+            }
+            if (!order.transitionTo(OrderState.PENDING, OrderState.PLACED)) {
+                registry.unregister(order);
+                return;
+            }
             scheduleStatusUpdates(order);
         }
     }
     
     private static void scheduleStatusUpdates(Order order) {
-        String orderId = order.getOrderId();
-        int placedToPreparingDelay = 10 + random.nextInt(11);
-        statusUpdateExecutor.schedule(() -> {
-            if (order.getStatus().equals("PLACED")) {
-                order.setStatus("PREPARING");
-                Notification.updateStatus(orderId, "PREPARING");
-                int preparingToOutForDeliveryDelay = 30 + random.nextInt(31);
-                statusUpdateExecutor.schedule(() -> {
-                    if (order.getStatus().equals("PREPARING")) {
-                        order.setStatus("OUT FOR DELIVERY");
-                        Notification.updateStatus(orderId, "OUT FOR DELIVERY");
-                        int outForDeliveryToDeliveredDelay = 30 + random.nextInt(11);
-                        statusUpdateExecutor.schedule(() -> {
-                            if (order.getStatus().equals("OUT FOR DELIVERY")) {
-                                order.setStatus("DELIVERED");
-                                Notification.updateStatus(orderId, "DELIVERED");
-                            }
-                        }, outForDeliveryToDeliveredDelay, TimeUnit.SECONDS);
-                    }
-                }, preparingToOutForDeliveryDelay, TimeUnit.SECONDS);
+        StatusUpdateTask task = new StatusUpdateTask(order);
+        task.scheduleNext(10 + ThreadLocalRandom.current().nextInt(11));
+    }
+    
+    public static void recordPayment(Order order, long amount) {
+        OrderEvents.getBus().publishPaid(order, amount);
+        OrderJournal current = journal;
+        if (current != null) {
+            current.recordPaid(order.getOrderId(), amount);
+        }
+    }
+    
+    public static synchronized int recover(List<Restaurant> restaurants) {
+        AppConfig config = AppConfig.getInstance();
+        if (journal != null || config.getJournalDir() == null) {
+            return 0;
+        }
+        OrderJournal opened = new OrderJournal(Paths.get(config.getJournalDir()), config.getJournalFsyncPolicy(),
+                                               config.getJournalFsyncIntervalMillis(),
+                                               config.getJournalSegmentBytes(),
+                                               config.getJournalCompactAfterSegments());
+        OrderRecovery recovery = new OrderRecovery(restaurants);
+        opened.replay(recovery::apply);
+        int recovered = recovery.register(registry);
+        Order.addStateListener(opened);
+        journal = opened;
+        for (Map.Entry<Order, Long> pending : recovery.getPendingTransitions().entrySet()) {
+            new StatusUpdateTask(pending.getKey()).rearm(pending.getValue());
+        }
+        return recovered;
+    }
+    
+    public static OrderJournal getJournal() {
+        return journal;
+    }
+    
+    public static OrderRegistry getRegistry() {
+        return registry;
+    }
+    
+    private static OrderRegistry createRegistry() {
+        OrderRegistry orderRegistry = new OrderRegistry(Runtime.getRuntime().availableProcessors() * 4);
+        Order.addStateListener(orderRegistry);
+        Order.addStateListener(new OrderMetrics(Metrics.getRegistry(), orderRegistry));
+        OrderEvents.getBus();
+        return orderRegistry;
+    }
+    
+    private static TimingWheel createStatusUpdateWheel() {
+        AppConfig config = AppConfig.getInstance();
+        TimingWheel wheel = new TimingWheel(config.getStatusTickMillis(), TimeUnit.MILLISECONDS,
+                                            config.getStatusWheelSize(), config.getStatusWorkerThreads());
+        Metrics.gauge("status.timers.pending", wheel::getPendingCount);
+        return wheel;
+    }
+    
+    private static Map<Order, Screen> createSummaryCache() {
+        Map<Order, Screen> summaries = new ConcurrentHashMap<>();
+        Order.addStateListener((order, from, to) -> {
+            if (to.isTerminal()) {
+                summaries.remove(order);
             }
-        }, placedToPreparingDelay, TimeUnit.SECONDS);
+        });
+        return summaries;
+    }
+    
+    private static String[] createStatusRows() {
+        OrderState[] states = OrderState.values();
+        String[] rows = new String[states.length];
+        for (OrderState state : states) {
+            rows[state.ordinal()] = "Status: " + state.getLabel();
+        }
+        return rows;
     }
     
-    public static void displayOrderStatus() {
-        if (placedOrders.isEmpty()) {
-            System.out.println("\n\n=== Check Order Status ===");
-            System.out.println("\nNo orders have been placed yet.");
-            System.out.println("\n1. Return to Main Menu");
-            System.out.print("\nEnter your choice: ");
+    public static void displayOrderStatus(ScreenRenderer renderer, User user) {
+        ScreenBuilder screen = renderer.begin();
+        List<Order> orders = new ArrayList<>(registry.findByCustomer(user));
+        if (orders.isEmpty()) {
+            screen.println("\n\n=== Check Order Status ===");
+            screen.println("\nNo orders have been placed yet.");
+            screen.println("\n1. Return to Main Menu");
+            screen.print("\nEnter your choice: ");
+            renderer.render(screen.build());
             return;
         }
-        System.out.println("\n\n=== Check Order Status ===");
-        for (int i = 0; i < placedOrders.size(); i++) {
-            Order order = placedOrders.get(i);
-            System.out.println("\n--- Order #" + (i + 1) + " ---");
-            System.out.println("Order ID: " + order.getOrderId());
-            System.out.println("Customer: " + order.getUser().getName());
-            System.out.println("\nDishes:");
-            Map<String, List<Dish>> groupedDishes = order.getGroupedDishes();
-            DisplayFormatter.displayGroupedDishes(groupedDishes);
-            System.out.println("\nFinal Price: $" + DisplayFormatter.formatPrice(order.calculateTotal()));
-            System.out.println("\nStatus: " + order.getStatus());
-            if (i < placedOrders.size() - 1) {
-                System.out.println();
+        screen.println("\n\n=== Check Order Status ===");
+        orders.sort(Comparator.comparing(Order::getOrderId));
+        int index = 0;
+        for (Order order : orders) {
+            if (index > 0) {
+                screen.println();
             }
+            index++;
+            screen.print("\n--- Order #").print(index).println(" ---");
+            OrderState status = order.getStatus();
+            if (status.isTerminal()) {
+                screen.append(summarize(order));
+            } else {
+                screen.append(orderSummaries.computeIfAbsent(order, OrderStatus::summarize));
+                if (order.getStatus().isTerminal()) {
+                    orderSummaries.remove(order);
+                }
+            }
+            screen.println(statusRows[status.ordinal()]);
+        }
+        screen.println("\n1. Return to Main Menu");
+        screen.print("\nEnter your choice: ");
+        renderer.render(screen.build());
+    }
+    
+    private static Screen summarize(Order order) {
+        ScreenBuilder summary = new ScreenBuilder();
+        summary.print("Order ID: ").println(order.getOrderId());
+        summary.print("Customer: ").println(order.getUser().getName());
+        summary.println("\nDishes:");
+        DisplayFormatter.displayGroupedDishes(summary, order.getLines());
+        summary.print("\nFinal Price: $").price(order.calculateTotal()).println();
+        summary.println();
+        return summary.build();
+    }
+    
+    public static synchronized void shutdown() {
+        statusUpdateWheel.stop();
+        if (journal != null) {
+            Order.removeStateListener(journal);
+            journal.close();
         }
-        System.out.println("\n1. Return to Main Menu");
-        System.out.print("\nEnter your choice: ");
     }
     
-    public static void shutdown() {
-        if (statusUpdateExecutor != null && !statusUpdateExecutor.isShutdown()) {
-            statusUpdateExecutor.shutdown();
+    private static Location pickupOf(Order order) {
+        for (OrderLine line : order.getLines()) {
+            if (line.getRestaurant() != null) {
+                return Dispatch.getGeocoder().locate(line.getRestaurant().getName());
+            }
+        }
+        return dropoffOf(order);
+    }
+    
+    private static Location dropoffOf(Order order) {
+        Location deliveryLocation = order.getDeliveryLocation();
+        return deliveryLocation != null ? deliveryLocation : Dispatch.getGeocoder().locate(order.getUser().getName());
+    }
+    
+    private static class StatusUpdateTask implements Runnable, DispatchListener {
+        private Order order;
+        private volatile Assignment courier;
+        
+        StatusUpdateTask(Order order) {
+            this.order = order;
+        }
+        
+        void scheduleNext(int delaySeconds) {
+            OrderJournal current = journal;
+            if (current != null) {
+                current.recordScheduled(order.getOrderId(), System.currentTimeMillis() + delaySeconds * 1000L);
+            }
+            statusUpdateWheel.schedule(this, delaySeconds, TimeUnit.SECONDS);
+        }
+        
+        void rearm(long dueMillis) {
+            statusUpdateWheel.schedule(this, dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+        
+        @Override
+        public void run() {
+            OrderState current = order.getStatus();
+            OrderState next = current.next();
+            if (next == null) {
+                return;
+            }
+            DispatchEngine dispatch = Dispatch.getEngine();
+            if (next == OrderState.OUT_FOR_DELIVERY && dispatch != null) {
+                dispatch.request(new DispatchRequest(order.getOrderId(), pickupOf(order), dropoffOf(order), this));
+                return;
+            }
+            if (!order.transitionTo(current, next)) {
+                return;
+            }
+            if (next == OrderState.PREPARING) {
+                scheduleNext(30 + ThreadLocalRandom.current().nextInt(31));
+            } else if (next == OrderState.OUT_FOR_DELIVERY) {
+                scheduleNext(30 + ThreadLocalRandom.current().nextInt(11));
+            } else if (next == OrderState.DELIVERED && courier != null) {
+                dispatch.complete(courier);
+            }
+        }
+        
+        @Override
+        public void onAssigned(Assignment assignment) {
+            DISPATCH_WAIT.recordSince(assignment.getRequest().getRequestedNanos());
+            if (!order.transitionTo(OrderState.PREPARING, OrderState.OUT_FOR_DELIVERY)) {
+                Dispatch.getEngine().cancel(assignment);
+                return;
+            }
+            courier = assignment;
+            scheduleNext(30 + ThreadLocalRandom.current().nextInt(11));
         }
     }
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package payment;
 
+import util.TextOutput;
+
 public class CashOnDelivery implements PaymentStrategy {
     public CashOnDelivery() {
     }
     
     @Override
-    public boolean processPayment(double amount) {
+    public boolean processPayment(long amount, TextOutput out) {
         if (amount <= 0) {
-            System.out.println("Invalid payment amount: $" + amount);
+            out.print("Invalid payment amount: $").price(amount).println();
             return false;
         }
-        System.out.println("Cash on Delivery: $" + String.format("%.2f", amount) + 
-                         " will be collected upon delivery");
+        out.print("Cash on Delivery: $").price(amount).println(" will be collected upon delivery");
         return true;
     }
+    
+    @Override
+    public PaymentMethod getMethod() {
+        return PaymentMethod.CASH_ON_DELIVERY;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package payment;
 
+import util.TextOutput;
+
 public class CreditCardPayment implements PaymentStrategy {
     private String cardNumber;
     private String cardHolderName;
@@ -10,16 +12,21 @@ public class CreditCardPayment implements PaymentStrategy {
     }
     
     @Override
-    public boolean processPayment(double amount) {
+    public boolean processPayment(long amount, TextOutput out) {
         if (amount <= 0) {
-            System.out.println("Invalid payment amount: $" + amount);
+            out.print("Invalid payment amount: $").price(amount).println();
             return false;
         }
-        System.out.println("Processing credit card payment of $" + String.format("%.2f", amount) + 
-                         " for " + cardHolderName + " (Card: " + maskCardNumber(cardNumber) + ")");
+        out.print("Processing credit card payment of $").price(amount)
+           .print(" for ").print(cardHolderName).print(" (Card: ").print(maskCardNumber(cardNumber)).println(")");
         return true;
     }
     
+    @Override
+    public PaymentMethod getMethod() {
+        return PaymentMethod.CREDIT_CARD;
+    }
+    
     private String maskCardNumber(String cardNumber) {
         if (cardNumber == null || cardNumber.length() < 4) {
             return "****";
@@ -1,5 +1,7 @@
 package payment;
 
+import util.TextOutput;
+
 public class PayPalPayment implements PaymentStrategy {
     private String email;
     
@@ -8,13 +10,17 @@ public class PayPalPayment implements PaymentStrategy {
     }
     
     @Override
-    public boolean processPayment(double amount) {
+    public boolean processPayment(long amount, TextOutput out) {
         if (amount <= 0) {
-            System.out.println("Invalid payment amount: $" + amount);
+            out.print("Invalid payment amount: $").price(amount).println();
             return false;
         }
-        System.out.println("Processing PayPal payment of $" + String.format("%.2f", amount) + 
-                         " for " + email);
+        out.print("Processing PayPal payment of $").price(amount).print(" for ").println(email);
         return true;
     }
+    
+    @Override
+    public PaymentMethod getMethod() {
+        return PaymentMethod.PAYPAL;
+    }
 }
\ No newline at end of file
@@ -1,24 +1,40 @@
 package payment;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 import order.Order;
 import order.OrderStatus;
-import dish.Dish;
+import order.OrderLine;
+import util.ConsoleWriter;
 import util.InputHandler;
 import util.DisplayFormatter;
 import user.User;
 import discount.DiscountStrategy;
-import discount.PercentageDiscount;
-import discount.FlatDiscount;
+import dispatch.Dispatch;
+import dispatch.Location;
+import gateway.PaymentOutcome;
+import gateway.PaymentRequest;
+import gateway.Payments;
+import id.Ids;
+import ledger.Ledgers;
+import ledger.PaymentLedger;
+import metrics.Histogram;
+import metrics.Metrics;
+import pricing.Pricing;
+import pricing.PricingQuote;
+import pricing.QuotedPrice;
+import promotion.Promotion;
+import promotion.PromotionDiscount;
 
 public class Payment {
+    private static final Histogram WINDOW_RENDER_TIME = Metrics.histogram("payment.window.render");
+    private static final Histogram WINDOW_PROCESSING_TIME = Metrics.histogram("payment.window.processing");
+    
     private String paymentId;
-    private double amount;
+    private long amount;
     private String method;
     
-    public Payment(String paymentId, double amount, String method) {
+    public Payment(String paymentId, long amount, String method) {
         this.paymentId = paymentId;
         this.amount = amount;
         this.method = method;
@@ -28,7 +44,7 @@ public class Payment {
         return paymentId;
     }
     
-    public double getAmount() {
+    public long getAmount() {
         return amount;
     }
     
@@ -36,67 +52,63 @@ public class Payment {
         return method;
     }
     
-    public static boolean displayPaymentWindow(Order order, Scanner scanner) {
+    public static boolean displayPaymentWindow(Order order, Scanner scanner, ConsoleWriter out) {
         if (order.getItemCount() == 0) {
-            System.out.println("\nCart is empty.");
+            out.println("\nCart is empty.");
             return false;
         }
         
-        System.out.println("\n\n=== Payment ===");
-        Map<String, List<Dish>> groupedDishes = order.getGroupedDishes();
-        System.out.println("\nOrder Items:");
-        DisplayFormatter.displayGroupedDishes(groupedDishes);
-        double originalTotal = order.calculateTotal();
-        System.out.println("\nOriginal Total: $" + DisplayFormatter.formatPrice(originalTotal));
-        System.out.println("\n--- Select Discount ---");
-        System.out.println("1. No Discount - $" + DisplayFormatter.formatPrice(originalTotal));
-        
-        double priceWithPercent = calculateDiscountSilently(originalTotal, new PercentageDiscount(10));
-        System.out.println("2. 10% Discount - $" + DisplayFormatter.formatPrice(priceWithPercent));
-        
-        double priceWithFlat = calculateDiscountSilently(originalTotal, new FlatDiscount(2.0));
-        System.out.println("3. $2.00 Flat Discount - $" + DisplayFormatter.formatPrice(priceWithFlat));
-        
-        int discountChoice = InputHandler.readInt(scanner, "\nSelect discount option: ");
+        long renderStart = System.nanoTime();
+        out.println("\n\n=== Payment ===");
+        out.println("\nOrder Items:");
+        DisplayFormatter.displayGroupedDishes(out, order.getLines());
+        long originalTotal = order.calculateTotal();
+        out.print("\nOriginal Total: $").price(originalTotal).println();
+        out.println("\n--- Select Discount ---");
+        PricingQuote quote = Pricing.getService().quote(order);
+        List<QuotedPrice> options = quote.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            QuotedPrice option = options.get(i);
+            out.print(i + 1).print(". ").print(option.getLabel());
+            if (option.getStrategy() instanceof PromotionDiscount) {
+                out.print(" (").print(quote.getPromotions().getAppliedPromotions().size()).print(" applied)");
+            }
+            out.print(" - $").price(option.getFinalPrice()).println();
+        }
+        WINDOW_RENDER_TIME.recordSince(renderStart);
         
-        DiscountStrategy selectedDiscount = null;
-        double finalPrice = originalTotal;
+        int discountChoice = InputHandler.readInt(scanner, out, "\nSelect discount option: ");
         
         if (discountChoice == -1) {
             return false;
         }
         
-        switch (discountChoice) {
-            case 1:
-                finalPrice = originalTotal;
-                System.out.println("\nSelected: No Discount");
-                break;
-            case 2:
-                selectedDiscount = new PercentageDiscount(10);
-                finalPrice = calculateDiscountSilently(originalTotal, selectedDiscount);
-                System.out.println("\nSelected: 10% Discount");
-                System.out.println("Discount Amount: $" + DisplayFormatter.formatPrice(originalTotal - finalPrice));
-                break;
-            case 3:
-                selectedDiscount = new FlatDiscount(2.0);
-                finalPrice = calculateDiscountSilently(originalTotal, selectedDiscount);
-                System.out.println("\nSelected: $2.00 Flat Discount");
-                System.out.println("Discount Amount: $" + DisplayFormatter.formatPrice(originalTotal - finalPrice));
-                break;
-            default:
-                System.out.println("Invalid discount selection. Using no discount.");
-                finalPrice = originalTotal;
-                break;
+        long finalPrice = originalTotal;
+        if (discountChoice >= 1 && discountChoice <= options.size()) {
+            QuotedPrice selected = options.get(discountChoice - 1);
+            finalPrice = selected.getFinalPrice();
+            out.print("\nSelected: ").print(selected.getLabel());
+            if (selected.getStrategy() instanceof PromotionDiscount) {
+                List<Promotion> applied = quote.getPromotions().getAppliedPromotions();
+                for (int i = 0; i < applied.size(); i++) {
+                    out.print(i > 0 ? ", " : " - ").print(applied.get(i).getName());
+                }
+            }
+            out.println();
+            if (selected.getDiscount() > 0) {
+                out.print("Discount Amount: $").price(selected.getDiscount()).println();
+            }
+        } else {
+            out.println("Invalid discount selection. Using no discount.");
         }
         
-        System.out.println("Final Price: $" + DisplayFormatter.formatPrice(finalPrice));
-        System.out.println("\nSelect Payment Method:");
-        System.out.println("1. Credit Card");
-        System.out.println("2. PayPal");
-        System.out.println("3. Cash on Delivery");
+        out.print("Final Price: $").price(finalPrice).println();
+        out.println("\nSelect Payment Method:");
+        out.println("1. Credit Card");
+        out.println("2. PayPal");
+        out.println("3. Cash on Delivery");
         
-        int paymentChoice = InputHandler.readInt(scanner, "\nEnter your choice: ");
-        String paymentMethod = "";
+        int paymentChoice = InputHandler.readInt(scanner, out, "\nEnter your choice: ");
         PaymentStrategy paymentStrategy = null;
         
         if (paymentChoice == -1) {
@@ -105,93 +117,106 @@ public class Payment {
         
         switch (paymentChoice) {
             case 1:
-                paymentMethod = "Credit Card";
-                String cardNumber = InputHandler.readCreditCardNumber(scanner, "Enter card number *: ");
-                String cardHolderName = InputHandler.readMandatoryString(scanner, "Enter cardholder name *: ", 
+                String cardNumber = InputHandler.readCreditCardNumber(scanner, out, "Enter card number *: ");
+                String cardHolderName = InputHandler.readMandatoryString(scanner, out, "Enter cardholder name *: ",
                     "Cardholder name is required. Please enter the cardholder name.");
                 paymentStrategy = new CreditCardPayment(cardNumber, cardHolderName);
                 break;
             case 2:
-                paymentMethod = "PayPal";
-                String paypalEmail = InputHandler.readEmail(scanner, "Enter PayPal email *: ");
+                String paypalEmail = InputHandler.readEmail(scanner, out, "Enter PayPal email *: ");
                 paymentStrategy = new PayPalPayment(paypalEmail);
                 break;
             case 3:
-                paymentMethod = "Cash on Delivery";
                 paymentStrategy = new CashOnDelivery();
                 break;
             default:
-                System.out.println("Invalid payment method selection.");
+                out.println("Invalid payment method selection.");
                 return false;
         }
-        System.out.println("\n--- Customer Information ---");
-        String name = InputHandler.readMandatoryString(scanner, "Name *: ", 
+        out.println("\n--- Customer Information ---");
+        String name = InputHandler.readMandatoryString(scanner, out, "Name *: ",
             "Name is required. Please enter your name.");
-        String address = InputHandler.readMandatoryString(scanner, "Address *: ", 
+        String address = InputHandler.readMandatoryString(scanner, out, "Address *: ",
             "Address is required. Please enter your address.");
-        String phone = InputHandler.readMandatoryPhoneNumber(scanner, "Phone Number *: ", 
+        String phone = InputHandler.readMandatoryPhoneNumber(scanner, out, "Phone Number *: ",
             "Phone number is required. Please enter your phone number.");
-        System.out.print("Email: ");
+        out.print("Email: ").flush();
         String email = scanner.nextLine().trim();
-        System.out.print("\nPlace order? (yes/no): ");
+        out.print("\nPlace order? (yes/no): ").flush();
         String confirm = scanner.nextLine().trim().toLowerCase();
         if (!confirm.equals("yes") && !confirm.equals("y")) {
-            System.out.println("\nOrder cancelled.\n");
+            out.println("\nOrder cancelled.\n");
             return false;
         }
-        System.out.println("\n--- Processing Payment ---");
-        boolean paymentSuccessful = paymentStrategy.processPayment(finalPrice);
-        if (paymentSuccessful) {
-            String paymentId = "PAY" + System.currentTimeMillis();
-            Payment payment = new Payment(paymentId, finalPrice, paymentMethod);
-            System.out.println("\n✓ Payment processed successfully!");
-            System.out.println("Payment ID: " + payment.getPaymentId());
-            System.out.println("Payment Method: " + payment.getMethod());
-            System.out.println("Original Amount: $" + DisplayFormatter.formatPrice(originalTotal));
+        out.println("\n--- Processing Payment ---").flush();
+        long processingStart = System.nanoTime();
+        long paymentNumber = Ids.nextId();
+        String paymentId = Ids.format("PAY", paymentNumber);
+        PaymentRequest request = new PaymentRequest(paymentId, finalPrice, paymentStrategy, out);
+        PaymentOutcome outcome = Payments.getGateway().submit(request).join();
+        if (outcome.isApproved()) {
+            Payment payment = new Payment(paymentId, finalPrice, paymentStrategy.getMethod().getLabel());
+            out.println("\n✓ Payment processed successfully!");
+            out.print("Payment ID: ").println(payment.getPaymentId());
+            out.print("Payment Method: ").println(payment.getMethod());
+            out.print("Original Amount: $").price(originalTotal).println();
             if (finalPrice < originalTotal) {
-                System.out.println("Discount Applied: $" + DisplayFormatter.formatPrice(originalTotal - finalPrice));
+                out.print("Discount Applied: $").price(originalTotal - finalPrice).println();
             }
-            System.out.println("Final Amount: $" + DisplayFormatter.formatPrice(payment.getAmount()));
-            System.out.println("\nOrder will be delivered to:");
-            System.out.println("  Name: " + name);
-            System.out.println("  Address: " + address);
-            System.out.println("  Phone: " + phone);
+            out.print("Final Amount: $").price(payment.getAmount()).println();
+            out.println("\nOrder will be delivered to:");
+            out.print("  Name: ").println(name);
+            out.print("  Address: ").println(address);
+            out.print("  Phone: ").println(phone);
             if (!email.isEmpty()) {
-                System.out.println("  Email: " + email);
-            }
-            User orderUser = new User(name);
-            String newOrderId = "ORD" + System.currentTimeMillis();
-            Order placedOrder = new Order(newOrderId, orderUser);
-            for (Dish dish : order.getDishes()) {
-                placedOrder.addDish(dish, order.getRestaurantForDish(dish));
+                out.print("  Email: ").println(email);
             }
-            OrderStatus.addOrder(placedOrder);
-            order.clearOrder();
+            String newOrderId = Ids.next("ORD");
+            Location deliveryLocation = Dispatch.getGeocoder().locate(address);
+            Order placedOrder = placeOrder(order, order.getUser(), newOrderId, deliveryLocation);
+            OrderStatus.recordPayment(placedOrder, finalPrice);
+            recordAuthorization(paymentNumber, placedOrder, paymentStrategy.getMethod(), finalPrice);
             
-            System.out.println("\n✓ Order placed successfully!");
-            System.out.println("Order ID: " + placedOrder.getOrderId());
-            System.out.println("Order Status: " + placedOrder.getStatus());
-            System.out.println();
+            WINDOW_PROCESSING_TIME.recordSince(processingStart);
+            out.println("\n✓ Order placed successfully!");
+            out.print("Order ID: ").println(placedOrder.getOrderId());
+            out.print("Order Status: ").println(placedOrder.getStatus().getLabel());
+            out.println();
             return true;
         } else {
-            System.out.println("\nPayment processing failed. Please try again.\n");
+            WINDOW_PROCESSING_TIME.recordSince(processingStart);
+            out.print("\nPayment processing failed: ").println(outcome.getMessage());
+            out.println("Please try again.\n");
             return false;
         }
     }
     
-    private static double calculateDiscountSilently(double originalPrice, DiscountStrategy discountStrategy) {
-        if (discountStrategy instanceof PercentageDiscount) {
-            PercentageDiscount pd = (PercentageDiscount) discountStrategy;
-            double percentage = pd.getPercentage();
-            double discountAmount = originalPrice * percentage / 100;
-            return originalPrice - discountAmount;
-        } else if (discountStrategy instanceof FlatDiscount) {
-            FlatDiscount fd = (FlatDiscount) discountStrategy;
-            double discountAmount = fd.getDiscountAmount();
-            double discountedPrice = originalPrice - discountAmount;
-            return discountedPrice < 0 ? 0 : discountedPrice;
-        } else {
+    public static Order placeOrder(Order cart, User customer, String orderId) {
+        return placeOrder(cart, customer, orderId, null);
+    }
+    
+    public static Order placeOrder(Order cart, User customer, String orderId, Location deliveryLocation) {
+        Order placedOrder = new Order(orderId, customer);
+        placedOrder.setDeliveryLocation(deliveryLocation);
+        for (OrderLine line : cart.getLines()) {
+            placedOrder.addDish(line.getDish(), line.getRestaurant(), line.getQuantity());
+        }
+        OrderStatus.addOrder(placedOrder);
+        cart.clearOrder();
+        return placedOrder;
+    }
+    
+    public static void recordAuthorization(long paymentNumber, Order placedOrder, PaymentMethod method, long amount) {
+        PaymentLedger ledger = Ledgers.getLedger();
+        if (ledger != null) {
+            ledger.recordAuthorization(paymentNumber, method, placedOrder, amount);
+        }
+    }
+    
+    public static long calculateDiscountSilently(long originalPrice, DiscountStrategy discountStrategy) {
+        if (discountStrategy == null) {
             return originalPrice;
         }
+        return discountStrategy.discountedPrice(originalPrice);
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package payment;
+
+public enum PaymentMethod {
+    CREDIT_CARD("Credit Card"),
+    PAYPAL("PayPal"),
+    CASH_ON_DELIVERY("Cash on Delivery");
+    
+    private final String label;
+    
+    PaymentMethod(String label) {
+        this.label = label;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+}
\ No newline at end of file
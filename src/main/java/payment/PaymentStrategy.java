@@ -1,5 +1,17 @@
 package payment;
 
+import util.ConsoleWriter;
+import util.TextOutput;
+
 public interface PaymentStrategy {
-    boolean processPayment(double amount);
+    boolean processPayment(long amount, TextOutput out);
+    
+    PaymentMethod getMethod();
+    
+    default boolean processPayment(long amount) {
+        ConsoleWriter out = new ConsoleWriter(System.out);
+        boolean processed = processPayment(amount, out);
+        out.flush();
+        return processed;
+    }
 }
\ No newline at end of file
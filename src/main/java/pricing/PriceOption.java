@@ -0,0 +1,24 @@
+package pricing;
+
+import discount.DiscountStrategy;
+
+public class PriceOption {
+    private String label;
+    private DiscountStrategy strategy;
+    
+    public PriceOption(String label, DiscountStrategy strategy) {
+        if (label == null || strategy == null) {
+            throw new IllegalArgumentException("Price option needs a label and a discount strategy");
+        }
+        this.label = label;
+        this.strategy = strategy;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public DiscountStrategy getStrategy() {
+        return strategy;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package pricing;
+
+public class Pricing {
+    private static volatile PricingService service;
+    
+    public static PricingService getService() {
+        PricingService current = service;
+        if (current == null) {
+            synchronized (Pricing.class) {
+                current = service;
+                if (current == null) {
+                    current = new PricingService(PricingService.standardOptions());
+                    service = current;
+                }
+            }
+        }
+        return current;
+    }
+}
\ No newline at end of file
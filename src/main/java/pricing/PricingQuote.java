@@ -0,0 +1,60 @@
+package pricing;
+
+import java.util.List;
+import promotion.PromotionEngine;
+import promotion.PromotionResult;
+
+public class PricingQuote {
+    private long cartVersion;
+    private PromotionEngine engine;
+    private long subtotal;
+    private List<QuotedPrice> options;
+    private PromotionResult promotions;
+    
+    PricingQuote(long cartVersion, PromotionEngine engine, long subtotal, List<QuotedPrice> options,
+                 PromotionResult promotions) {
+        this.cartVersion = cartVersion;
+        this.engine = engine;
+        this.subtotal = subtotal;
+        this.options = options;
+        this.promotions = promotions;
+    }
+    
+    public long getCartVersion() {
+        return cartVersion;
+    }
+    
+    public long getSubtotal() {
+        return subtotal;
+    }
+    
+    public List<QuotedPrice> getOptions() {
+        return options;
+    }
+    
+    public QuotedPrice getOption(int index) {
+        return options.get(index);
+    }
+    
+    public PromotionResult getPromotions() {
+        return promotions;
+    }
+    
+    public QuotedPrice getBest() {
+        QuotedPrice best = options.get(0);
+        for (int i = 1; i < options.size(); i++) {
+            if (options.get(i).getFinalPrice() < best.getFinalPrice()) {
+                best = options.get(i);
+            }
+        }
+        return best;
+    }
+    
+    public long getFinalPrice() {
+        return getBest().getFinalPrice();
+    }
+    
+    boolean isCurrent(long version, PromotionEngine current) {
+        return cartVersion == version && engine == current;
+    }
+}
\ No newline at end of file
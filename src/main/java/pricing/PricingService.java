@@ -0,0 +1,97 @@
+package pricing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import discount.FlatDiscount;
+import discount.NoDiscount;
+import discount.PercentageDiscount;
+import order.Order;
+import promotion.PromotionDiscount;
+import promotion.PromotionEngine;
+import promotion.PromotionResult;
+import promotion.Promotions;
+
+public class PricingService {
+    public static final String PROMOTIONS_LABEL = "Promotions";
+    
+    private static final int PARALLEL_BATCH_SIZE = 1024;
+    
+    private PriceOption[] options;
+    private LongAdder hits;
+    private LongAdder misses;
+    
+    public PricingService(List<PriceOption> options) {
+        if (options.isEmpty()) {
+            throw new IllegalArgumentException("At least one price option is required");
+        }
+        this.options = options.toArray(new PriceOption[0]);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+    
+    public static List<PriceOption> standardOptions() {
+        List<PriceOption> options = new ArrayList<>(3);
+        options.add(new PriceOption("No Discount", new NoDiscount()));
+        options.add(new PriceOption("10% Discount", new PercentageDiscount(10)));
+        options.add(new PriceOption("$2.00 Flat Discount", new FlatDiscount(2.0)));
+        return options;
+    }
+    
+    public PricingQuote quote(Order order) {
+        long version = order.getVersion();
+        PromotionEngine engine = Promotions.getEngine();
+        PricingQuote quote = order.getPricingQuote();
+        if (quote != null && quote.isCurrent(version, engine)) {
+            hits.increment();
+            return quote;
+        }
+        misses.increment();
+        quote = price(order, version, engine);
+        order.setPricingQuote(quote);
+        return quote;
+    }
+    
+    public List<PricingQuote> quoteAll(List<Order> carts) {
+        PromotionEngine engine = Promotions.getEngine();
+        PricingQuote[] quotes = new PricingQuote[carts.size()];
+        IntStream indexes = IntStream.range(0, quotes.length);
+        if (quotes.length >= PARALLEL_BATCH_SIZE) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            Order cart = carts.get(i);
+            quotes[i] = price(cart, cart.getVersion(), engine);
+        });
+        return List.of(quotes);
+    }
+    
+    public void invalidate(Order order) {
+        order.setPricingQuote(null);
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    private PricingQuote price(Order order, long version, PromotionEngine engine) {
+        long subtotal = order.calculateTotal();
+        List<QuotedPrice> quoted = new ArrayList<>(options.length + 1);
+        for (PriceOption option : options) {
+            quoted.add(new QuotedPrice(option.getLabel(), option.getStrategy(), subtotal,
+                                       option.getStrategy().discountedPrice(subtotal)));
+        }
+        PromotionResult promotions = engine.evaluate(order);
+        if (promotions.getDiscount() > 0) {
+            quoted.add(new QuotedPrice(PROMOTIONS_LABEL, new PromotionDiscount(promotions), subtotal,
+                                       promotions.getFinalPrice()));
+        }
+        return new PricingQuote(version, engine, subtotal, Collections.unmodifiableList(quoted), promotions);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package pricing;
+
+import discount.DiscountStrategy;
+
+public class QuotedPrice {
+    private String label;
+    private DiscountStrategy strategy;
+    private long finalPrice;
+    private long discount;
+    
+    QuotedPrice(String label, DiscountStrategy strategy, long subtotal, long finalPrice) {
+        this.label = label;
+        this.strategy = strategy;
+        this.finalPrice = finalPrice;
+        this.discount = subtotal - finalPrice;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public DiscountStrategy getStrategy() {
+        return strategy;
+    }
+    
+    public long getFinalPrice() {
+        return finalPrice;
+    }
+    
+    public long getDiscount() {
+        return discount;
+    }
+}
\ No newline at end of file
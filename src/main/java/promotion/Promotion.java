@@ -0,0 +1,106 @@
+package promotion;
+
+import dish.DishType;
+import money.Money;
+
+public class Promotion {
+    private final String id;
+    private final String name;
+    private final PromotionScope scope;
+    private final String restaurant;
+    private final DishType dishType;
+    private final PromotionKind kind;
+    private final double percentage;
+    private final long flatAmount;
+    private final long minimumSubtotal;
+    private final boolean exclusive;
+    
+    private Promotion(String id, String name, PromotionScope scope, String target, PromotionKind kind,
+                      double percentage, long flatAmount, long minimumSubtotal, boolean exclusive) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Promotion id is required");
+        }
+        if (minimumSubtotal < 0) {
+            throw new IllegalArgumentException("Minimum subtotal cannot be negative");
+        }
+        if (scope != PromotionScope.CART && (target == null || target.isEmpty())) {
+            throw new IllegalArgumentException("Promotion " + id + " needs a " + scope + " target");
+        }
+        this.id = id;
+        this.name = name;
+        this.scope = scope;
+        this.restaurant = scope == PromotionScope.RESTAURANT ? target : null;
+        this.dishType = scope == PromotionScope.DISH_TYPE ? DishType.parse(target) : null;
+        this.kind = kind;
+        this.percentage = percentage;
+        this.flatAmount = flatAmount;
+        this.minimumSubtotal = minimumSubtotal;
+        this.exclusive = exclusive;
+    }
+    
+    public static Promotion percentage(String id, String name, PromotionScope scope, String target,
+                                       double percentage, long minimumSubtotal, boolean exclusive) {
+        if (percentage < 0 || percentage > 100) {
+            throw new IllegalArgumentException("Percentage must be between 0 and 100");
+        }
+        return new Promotion(id, name, scope, target, PromotionKind.PERCENTAGE, percentage, 0, minimumSubtotal, exclusive);
+    }
+    
+    public static Promotion flat(String id, String name, PromotionScope scope, String target,
+                                 long amount, long minimumSubtotal, boolean exclusive) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Discount amount cannot be negative");
+        }
+        return new Promotion(id, name, scope, target, PromotionKind.FLAT, 0, amount, minimumSubtotal, exclusive);
+    }
+    
+    public long discountOn(long subtotal) {
+        if (subtotal < minimumSubtotal) {
+            return 0;
+        }
+        if (kind == PromotionKind.PERCENTAGE) {
+            return Money.percentage(subtotal, percentage);
+        }
+        return Math.min(flatAmount, subtotal);
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public PromotionScope getScope() {
+        return scope;
+    }
+    
+    public String getRestaurant() {
+        return restaurant;
+    }
+    
+    public DishType getDishType() {
+        return dishType;
+    }
+    
+    public PromotionKind getKind() {
+        return kind;
+    }
+    
+    public double getPercentage() {
+        return percentage;
+    }
+    
+    public long getFlatAmount() {
+        return flatAmount;
+    }
+    
+    public long getMinimumSubtotal() {
+        return minimumSubtotal;
+    }
+    
+    public boolean isExclusive() {
+        return exclusive;
+    }
+}
\ No newline at end of file
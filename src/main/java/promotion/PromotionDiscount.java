@@ -0,0 +1,33 @@
+package promotion;
+
+import discount.DiscountStrategy;
+import money.Money;
+import util.TextOutput;
+
+public class PromotionDiscount implements DiscountStrategy {
+    private PromotionResult result;
+    
+    public PromotionDiscount(PromotionResult result) {
+        this.result = result;
+    }
+    
+    @Override
+    public long applyDiscount(long originalPrice, TextOutput out) {
+        if (originalPrice < 0) {
+            out.print("Invalid price: $").price(originalPrice).println();
+            return originalPrice;
+        }
+        long discountedPrice = Money.nonNegative(originalPrice - result.getDiscount());
+        out.print("Applied ").print(result.getAppliedPromotions().size()).print(" promotion(s): $")
+           .price(originalPrice - discountedPrice).println(" off");
+        return discountedPrice;
+    }
+    
+    @Override
+    public long discountedPrice(long originalPrice) {
+        if (originalPrice < 0) {
+            return originalPrice;
+        }
+        return Money.nonNegative(originalPrice - result.getDiscount());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package promotion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import dish.DishType;
+import order.Order;
+import order.OrderLine;
+
+public class PromotionEngine {
+    private static final DishType[] TYPES = DishType.values();
+    private static final PromotionEngine EMPTY = compile(new ArrayList<>());
+    
+    private final RuleSet cartRules;
+    private final Map<String, RuleSet> restaurantRules;
+    private final RuleSet[] typeRules;
+    private final boolean hasTypeRules;
+    private final int promotionCount;
+    
+    private PromotionEngine(RuleSet cartRules, Map<String, RuleSet> restaurantRules, RuleSet[] typeRules, int promotionCount) {
+        this.cartRules = cartRules;
+        this.restaurantRules = restaurantRules;
+        this.typeRules = typeRules;
+        this.hasTypeRules = Arrays.stream(typeRules).anyMatch(rules -> rules != null);
+        this.promotionCount = promotionCount;
+    }
+    
+    public static PromotionEngine empty() {
+        return EMPTY;
+    }
+    
+    public static PromotionEngine compile(Collection<Promotion> promotions) {
+        List<Promotion> cart = new ArrayList<>();
+        Map<String, List<Promotion>> byRestaurant = new HashMap<>();
+        List<List<Promotion>> byType = new ArrayList<>();
+        for (int t = 0; t < TYPES.length; t++) {
+            byType.add(new ArrayList<>());
+        }
+        Set<String> ids = new HashSet<>();
+        for (Promotion promotion : promotions) {
+            if (!ids.add(promotion.getId())) {
+                throw new IllegalArgumentException("Duplicate promotion id: " + promotion.getId());
+            }
+            switch (promotion.getScope()) {
+                case CART:
+                    cart.add(promotion);
+                    break;
+                case RESTAURANT:
+                    byRestaurant.computeIfAbsent(promotion.getRestaurant(), name -> new ArrayList<>()).add(promotion);
+                    break;
+                case DISH_TYPE:
+                    byType.get(promotion.getDishType().ordinal()).add(promotion);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown promotion scope: " + promotion.getScope());
+            }
+        }
+        Map<String, RuleSet> restaurantRules = new HashMap<>();
+        for (Map.Entry<String, List<Promotion>> entry : byRestaurant.entrySet()) {
+            restaurantRules.put(entry.getKey(), new RuleSet(entry.getValue()));
+        }
+        RuleSet[] typeRules = new RuleSet[TYPES.length];
+        for (int t = 0; t < TYPES.length; t++) {
+            typeRules[t] = byType.get(t).isEmpty() ? null : new RuleSet(byType.get(t));
+        }
+        return new PromotionEngine(new RuleSet(cart), restaurantRules, typeRules, ids.size());
+    }
+    
+    public int getPromotionCount() {
+        return promotionCount;
+    }
+    
+    public PromotionResult evaluate(Order order) {
+        return evaluate(order.getLines());
+    }
+    
+    public PromotionResult evaluate(Collection<OrderLine> lines) {
+        long total = 0;
+        long[] typeSubtotals = new long[TYPES.length];
+        RuleSet[] sets = new RuleSet[lines.size() + TYPES.length + 1];
+        long[] subtotals = new long[sets.length];
+        int setCount = 0;
+        for (OrderLine line : lines) {
+            long subtotal = line.getSubtotal();
+            total = Math.addExact(total, subtotal);
+            if (hasTypeRules) {
+                int type = DishType.of(line.getDish()).ordinal();
+                typeSubtotals[type] = Math.addExact(typeSubtotals[type], subtotal);
+            }
+            RuleSet restaurantSet = line.getRestaurant() == null ? null : restaurantRules.get(line.getRestaurant().getName());
+            if (restaurantSet != null) {
+                int slot = 0;
+                while (slot < setCount && sets[slot] != restaurantSet) {
+                    slot++;
+                }
+                if (slot == setCount) {
+                    sets[setCount++] = restaurantSet;
+                }
+                subtotals[slot] = Math.addExact(subtotals[slot], subtotal);
+            }
+        }
+        for (int t = 0; t < TYPES.length; t++) {
+            if (typeRules[t] != null && typeSubtotals[t] > 0) {
+                sets[setCount] = typeRules[t];
+                subtotals[setCount++] = typeSubtotals[t];
+            }
+        }
+        if (cartRules.size() > 0) {
+            sets[setCount] = cartRules;
+            subtotals[setCount++] = total;
+        }
+        long stacked = 0;
+        int[] counts = new int[setCount];
+        Promotion bestExclusive = null;
+        long bestExclusiveDiscount = 0;
+        for (int i = 0; i < setCount; i++) {
+            counts[i] = sets[i].eligibleStackable(subtotals[i]);
+            stacked += sets[i].stackedDiscount(subtotals[i], counts[i]);
+            Promotion exclusive = sets[i].bestExclusive(subtotals[i]);
+            if (exclusive != null) {
+                long discount = exclusive.discountOn(subtotals[i]);
+                if (discount > bestExclusiveDiscount) {
+                    bestExclusive = exclusive;
+                    bestExclusiveDiscount = discount;
+                }
+            }
+        }
+        stacked = Math.min(stacked, total);
+        if (bestExclusiveDiscount > stacked) {
+            return new PromotionResult(total, bestExclusiveDiscount, bestExclusive, null, null);
+        }
+        return new PromotionResult(total, stacked, null, Arrays.copyOf(sets, setCount), counts);
+    }
+}
\ No newline at end of file
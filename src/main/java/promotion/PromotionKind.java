@@ -0,0 +1,6 @@
+package promotion;
+
+public enum PromotionKind {
+    PERCENTAGE,
+    FLAT
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package promotion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PromotionResult {
+    private final long subtotal;
+    private final long discount;
+    private final Promotion exclusive;
+    private final RuleSet[] stackedSets;
+    private final int[] stackedCounts;
+    private List<Promotion> applied;
+    
+    PromotionResult(long subtotal, long discount, Promotion exclusive, RuleSet[] stackedSets, int[] stackedCounts) {
+        this.subtotal = subtotal;
+        this.discount = discount;
+        this.exclusive = exclusive;
+        this.stackedSets = stackedSets;
+        this.stackedCounts = stackedCounts;
+    }
+    
+    public long getSubtotal() {
+        return subtotal;
+    }
+    
+    public long getDiscount() {
+        return discount;
+    }
+    
+    public long getFinalPrice() {
+        return subtotal - discount;
+    }
+    
+    public boolean isExclusive() {
+        return exclusive != null;
+    }
+    
+    public List<Promotion> getAppliedPromotions() {
+        if (applied == null) {
+            List<Promotion> promotions = new ArrayList<>();
+            if (exclusive != null) {
+                promotions.add(exclusive);
+            } else if (discount > 0) {
+                for (int i = 0; i < stackedSets.length; i++) {
+                    stackedSets[i].addStackable(stackedCounts[i], promotions);
+                }
+            }
+            applied = Collections.unmodifiableList(promotions);
+        }
+        return applied;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package promotion;
+
+public enum PromotionScope {
+    CART,
+    RESTAURANT,
+    DISH_TYPE
+}
\ No newline at end of file
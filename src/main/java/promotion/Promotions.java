@@ -0,0 +1,79 @@
+package promotion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import config.AppConfig;
+import money.Money;
+
+public class Promotions {
+    private static volatile PromotionEngine engine;
+    
+    public static PromotionEngine getEngine() {
+        PromotionEngine current = engine;
+        if (current == null) {
+            synchronized (Promotions.class) {
+                current = engine;
+                if (current == null) {
+                    String file = AppConfig.getInstance().getPromotionsFile();
+                    current = file == null ? PromotionEngine.empty() : PromotionEngine.compile(load(Paths.get(file)));
+                    engine = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    public static synchronized void setPromotions(Collection<Promotion> promotions) {
+        engine = PromotionEngine.compile(promotions);
+    }
+    
+    public static List<Promotion> load(Path file) {
+        List<Promotion> promotions = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#") || (lineNumber == 1 && line.startsWith("id,"))) {
+                    continue;
+                }
+                try {
+                    promotions.add(parse(line));
+                } catch (IllegalArgumentException | ArithmeticException e) {
+                    throw new IllegalArgumentException("Invalid promotion on line " + lineNumber + " of " + file + ": " +
+                                                       e.getMessage(), e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read promotions from " + file, e);
+        }
+        return promotions;
+    }
+    
+    static Promotion parse(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 8) {
+            throw new IllegalArgumentException("expected 8 fields: id,name,scope,target,kind,value,minimumSubtotal,exclusive");
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        PromotionScope scope = PromotionScope.valueOf(fields[2].toUpperCase());
+        PromotionKind kind = PromotionKind.valueOf(fields[4].toUpperCase());
+        long minimumSubtotal = fields[6].isEmpty() ? 0 : Money.parse(fields[6]);
+        boolean exclusive = Boolean.parseBoolean(fields[7]);
+        if (kind == PromotionKind.PERCENTAGE) {
+            return Promotion.percentage(fields[0], fields[1], scope, fields[3], Double.parseDouble(fields[5]),
+                                        minimumSubtotal, exclusive);
+        }
+        return Promotion.flat(fields[0], fields[1], scope, fields[3], Money.parse(fields[5]), minimumSubtotal, exclusive);
+    }
+}
\ No newline at end of file
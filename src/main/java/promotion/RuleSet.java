@@ -0,0 +1,120 @@
+package promotion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import money.Money;
+
+class RuleSet {
+    private final Promotion[] stackable;
+    private final long[] stackableThresholds;
+    private final double[] percentagePrefix;
+    private final long[] flatPrefix;
+    private final Promotion[] exclusive;
+    private final long[] exclusiveThresholds;
+    private final int[] bestPercentage;
+    private final int[] bestFlat;
+    
+    RuleSet(List<Promotion> promotions) {
+        List<Promotion> stacked = new ArrayList<>();
+        List<Promotion> alone = new ArrayList<>();
+        for (Promotion promotion : promotions) {
+            (promotion.isExclusive() ? alone : stacked).add(promotion);
+        }
+        Comparator<Promotion> byThreshold = Comparator.comparingLong(Promotion::getMinimumSubtotal);
+        stacked.sort(byThreshold);
+        alone.sort(byThreshold);
+        this.stackable = stacked.toArray(new Promotion[0]);
+        this.stackableThresholds = new long[stackable.length];
+        this.percentagePrefix = new double[stackable.length];
+        this.flatPrefix = new long[stackable.length];
+        double percentage = 0;
+        long flat = 0;
+        for (int i = 0; i < stackable.length; i++) {
+            Promotion promotion = stackable[i];
+            stackableThresholds[i] = promotion.getMinimumSubtotal();
+            percentage += promotion.getPercentage();
+            flat = saturatedAdd(flat, promotion.getFlatAmount());
+            percentagePrefix[i] = percentage;
+            flatPrefix[i] = flat;
+        }
+        this.exclusive = alone.toArray(new Promotion[0]);
+        this.exclusiveThresholds = new long[exclusive.length];
+        this.bestPercentage = new int[exclusive.length];
+        this.bestFlat = new int[exclusive.length];
+        int bestPercentageIndex = -1;
+        int bestFlatIndex = -1;
+        for (int i = 0; i < exclusive.length; i++) {
+            Promotion promotion = exclusive[i];
+            exclusiveThresholds[i] = promotion.getMinimumSubtotal();
+            if (promotion.getKind() == PromotionKind.PERCENTAGE) {
+                if (bestPercentageIndex < 0 || promotion.getPercentage() > exclusive[bestPercentageIndex].getPercentage()) {
+                    bestPercentageIndex = i;
+                }
+            } else if (bestFlatIndex < 0 || promotion.getFlatAmount() > exclusive[bestFlatIndex].getFlatAmount()) {
+                bestFlatIndex = i;
+            }
+            bestPercentage[i] = bestPercentageIndex;
+            bestFlat[i] = bestFlatIndex;
+        }
+    }
+    
+    int size() {
+        return stackable.length + exclusive.length;
+    }
+    
+    int eligibleStackable(long subtotal) {
+        return countUpTo(stackableThresholds, subtotal);
+    }
+    
+    long stackedDiscount(long subtotal, int eligible) {
+        if (eligible == 0 || subtotal <= 0) {
+            return 0;
+        }
+        long percentageOff = Money.percentage(subtotal, Math.min(100.0, percentagePrefix[eligible - 1]));
+        return Math.min(subtotal, saturatedAdd(percentageOff, flatPrefix[eligible - 1]));
+    }
+    
+    void addStackable(int eligible, List<Promotion> applied) {
+        for (int i = 0; i < eligible; i++) {
+            applied.add(stackable[i]);
+        }
+    }
+    
+    Promotion bestExclusive(long subtotal) {
+        int eligible = countUpTo(exclusiveThresholds, subtotal);
+        if (eligible == 0 || subtotal <= 0) {
+            return null;
+        }
+        int percentageIndex = bestPercentage[eligible - 1];
+        int flatIndex = bestFlat[eligible - 1];
+        if (percentageIndex < 0) {
+            return exclusive[flatIndex];
+        }
+        if (flatIndex < 0) {
+            return exclusive[percentageIndex];
+        }
+        Promotion byPercentage = exclusive[percentageIndex];
+        Promotion byFlat = exclusive[flatIndex];
+        return byFlat.discountOn(subtotal) > byPercentage.discountOn(subtotal) ? byFlat : byPercentage;
+    }
+    
+    private static int countUpTo(long[] thresholds, long subtotal) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= subtotal) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static long saturatedAdd(long left, long right) {
+        long sum = left + right;
+        return ((left ^ sum) & (right ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package restaurant;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import dish.Dish;
+import dish.DishType;
+
+public class Catalog implements MenuListener {
+    private static final DishType[] TYPES = DishType.values();
+    
+    private List<Restaurant> restaurants;
+    private AtomicLong version;
+    private volatile Index index;
+    
+    public Catalog(List<Restaurant> restaurants) {
+        this.restaurants = new CopyOnWriteArrayList<>();
+        this.version = new AtomicLong();
+        for (Restaurant restaurant : restaurants) {
+            addRestaurant(restaurant);
+        }
+    }
+    
+    public void addRestaurant(Restaurant restaurant) {
+        restaurant.addMenuListener(this);
+        restaurants.add(restaurant);
+        version.incrementAndGet();
+    }
+    
+    public void close() {
+        for (Restaurant restaurant : restaurants) {
+            restaurant.removeMenuListener(this);
+        }
+    }
+    
+    @Override
+    public void onMenuChanged(Restaurant restaurant, MenuSnapshot previous, MenuSnapshot current) {
+        version.incrementAndGet();
+    }
+    
+    public List<Restaurant> getRestaurants() {
+        return Collections.unmodifiableList(restaurants);
+    }
+    
+    public long getVersion() {
+        return version.get();
+    }
+    
+    public int size() {
+        return index().slot(null).prices.length;
+    }
+    
+    public List<CatalogEntry> findUnder(DishType type, long maxPrice) {
+        return findPricedBetween(type, Long.MIN_VALUE, maxPrice);
+    }
+    
+    public List<CatalogEntry> findPricedBetween(DishType type, long minPrice, long maxPrice) {
+        if (minPrice > maxPrice) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+        Slot slot = index().slot(type);
+        return new EntryList(slot, slot.boundary(minPrice, false), slot.boundary(maxPrice, true));
+    }
+    
+    public int countPricedBetween(DishType type, long minPrice, long maxPrice) {
+        return findPricedBetween(type, minPrice, maxPrice).size();
+    }
+    
+    private Index index() {
+        Index current = index;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long observed = version.get();
+            current = index;
+            if (current == null || current.version != observed) {
+                current = new Index(observed, restaurants);
+                index = current;
+            }
+            return current;
+        }
+    }
+    
+    private static class Index {
+        private final long version;
+        private final Slot[] slots;
+        
+        Index(long version, List<Restaurant> restaurants) {
+            this.version = version;
+            int count = restaurants.size();
+            MenuSnapshot[] menus = new MenuSnapshot[count];
+            Restaurant[] owners = new Restaurant[count];
+            for (int i = 0; i < count; i++) {
+                owners[i] = restaurants.get(i);
+                menus[i] = owners[i].getMenuSnapshot();
+            }
+            this.slots = new Slot[TYPES.length + 1];
+            for (int t = 0; t <= TYPES.length; t++) {
+                slots[t] = new Slot(t < TYPES.length ? TYPES[t] : null, owners, menus);
+            }
+        }
+        
+        Slot slot(DishType type) {
+            return slots[type == null ? TYPES.length : type.ordinal()];
+        }
+    }
+    
+    private static class Slot {
+        private final Dish[] dishes;
+        private final Restaurant[] owners;
+        private final long[] prices;
+        
+        Slot(DishType type, Restaurant[] restaurants, MenuSnapshot[] menus) {
+            int total = 0;
+            for (MenuSnapshot menu : menus) {
+                total += menu.priceIndex(type).length;
+            }
+            Dish[] collectedDishes = new Dish[total];
+            Restaurant[] collectedOwners = new Restaurant[total];
+            long[] collectedPrices = new long[total];
+            int[] positions = new int[total];
+            int next = 0;
+            for (int r = 0; r < menus.length; r++) {
+                MenuSnapshot menu = menus[r];
+                for (int position : menu.priceIndex(type)) {
+                    collectedDishes[next] = menu.getDish(position);
+                    collectedOwners[next] = restaurants[r];
+                    collectedPrices[next] = menu.priceAt(position);
+                    positions[next] = next;
+                    next++;
+                }
+            }
+            int[] sorted = MenuSnapshot.sortByPrice(positions, collectedPrices);
+            this.dishes = new Dish[total];
+            this.owners = new Restaurant[total];
+            this.prices = new long[total];
+            for (int i = 0; i < total; i++) {
+                dishes[i] = collectedDishes[sorted[i]];
+                owners[i] = collectedOwners[sorted[i]];
+                prices[i] = collectedPrices[sorted[i]];
+            }
+        }
+        
+        int boundary(long price, boolean inclusive) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price || (inclusive && prices[mid] == price)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+    
+    private static class EntryList extends AbstractList<CatalogEntry> implements RandomAccess {
+        private final Slot slot;
+        private final int from;
+        private final int to;
+        
+        EntryList(Slot slot, int from, int to) {
+            this.slot = slot;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        public CatalogEntry get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (to - from));
+            }
+            return new CatalogEntry(slot.owners[from + index], slot.dishes[from + index]);
+        }
+        
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
\ No newline at end of file
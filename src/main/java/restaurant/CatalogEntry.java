@@ -0,0 +1,25 @@
+package restaurant;
+
+import dish.Dish;
+
+public class CatalogEntry {
+    private final Restaurant restaurant;
+    private final Dish dish;
+    
+    public CatalogEntry(Restaurant restaurant, Dish dish) {
+        this.restaurant = restaurant;
+        this.dish = dish;
+    }
+    
+    public Restaurant getRestaurant() {
+        return restaurant;
+    }
+    
+    public Dish getDish() {
+        return dish;
+    }
+    
+    public long getPrice() {
+        return dish.getPrice();
+    }
+}
\ No newline at end of file
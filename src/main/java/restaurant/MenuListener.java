@@ -0,0 +1,5 @@
+package restaurant;
+
+public interface MenuListener {
+    void onMenuChanged(Restaurant restaurant, MenuSnapshot previous, MenuSnapshot current);
+}
\ No newline at end of file
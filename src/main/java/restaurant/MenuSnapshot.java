@@ -0,0 +1,230 @@
+package restaurant;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import dish.Dish;
+import dish.DishType;
+
+public class MenuSnapshot {
+    private static final DishType[] TYPES = DishType.values();
+    private static final MenuSnapshot EMPTY = new MenuSnapshot(0, new Dish[0], new DishType[0], new long[0],
+                                                               new int[0], emptyIndexes());
+    
+    private final long version;
+    private final Dish[] dishes;
+    private final DishType[] types;
+    private final long[] prices;
+    private final int[] priceIndex;
+    private final int[][] typePriceIndex;
+    private final List<Dish> view;
+    
+    private MenuSnapshot(long version, Dish[] dishes, DishType[] types, long[] prices,
+                         int[] priceIndex, int[][] typePriceIndex) {
+        this.version = version;
+        this.dishes = dishes;
+        this.types = types;
+        this.prices = prices;
+        this.priceIndex = priceIndex;
+        this.typePriceIndex = typePriceIndex;
+        this.view = new DishList(dishes, null, 0, dishes.length);
+    }
+    
+    static MenuSnapshot empty() {
+        return EMPTY;
+    }
+    
+    MenuSnapshot withDishes(Collection<? extends Dish> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        int oldSize = dishes.length;
+        int newSize = Math.addExact(oldSize, added.size());
+        Dish[] nextDishes = Arrays.copyOf(dishes, newSize);
+        DishType[] nextTypes = Arrays.copyOf(types, newSize);
+        long[] nextPrices = Arrays.copyOf(prices, newSize);
+        int[] typeCounts = new int[TYPES.length];
+        int position = oldSize;
+        for (Dish dish : added) {
+            if (dish == null) {
+                throw new IllegalArgumentException("Dish cannot be null");
+            }
+            DishType type = DishType.of(dish);
+            nextDishes[position] = dish;
+            nextTypes[position] = type;
+            nextPrices[position] = dish.getPrice();
+            typeCounts[type.ordinal()]++;
+            position++;
+        }
+        int[][] addedByType = new int[TYPES.length][];
+        for (int t = 0; t < TYPES.length; t++) {
+            addedByType[t] = new int[typeCounts[t]];
+        }
+        int[] filled = new int[TYPES.length];
+        int[] addedPositions = new int[newSize - oldSize];
+        for (int p = oldSize; p < newSize; p++) {
+            int t = nextTypes[p].ordinal();
+            addedByType[t][filled[t]++] = p;
+            addedPositions[p - oldSize] = p;
+        }
+        int[][] nextTypePriceIndex = new int[TYPES.length][];
+        for (int t = 0; t < TYPES.length; t++) {
+            nextTypePriceIndex[t] = merge(typePriceIndex[t], sortByPrice(addedByType[t], nextPrices), nextPrices);
+        }
+        int[] nextPriceIndex = merge(priceIndex, sortByPrice(addedPositions, nextPrices), nextPrices);
+        return new MenuSnapshot(version + 1, nextDishes, nextTypes, nextPrices, nextPriceIndex, nextTypePriceIndex);
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public int size() {
+        return dishes.length;
+    }
+    
+    public boolean isEmpty() {
+        return dishes.length == 0;
+    }
+    
+    public Dish getDish(int position) {
+        return dishes[position];
+    }
+    
+    public DishType getType(int position) {
+        return types[position];
+    }
+    
+    public List<Dish> getDishes() {
+        return view;
+    }
+    
+    public List<Dish> getDishesPricedBetween(long minPrice, long maxPrice) {
+        return priceRange(priceIndex, minPrice, maxPrice);
+    }
+    
+    public List<Dish> getDishesPricedBetween(DishType type, long minPrice, long maxPrice) {
+        return priceRange(typePriceIndex[type.ordinal()], minPrice, maxPrice);
+    }
+    
+    int[] priceIndex(DishType type) {
+        return type == null ? priceIndex : typePriceIndex[type.ordinal()];
+    }
+    
+    long priceAt(int position) {
+        return prices[position];
+    }
+    
+    private List<Dish> priceRange(int[] sorted, long minPrice, long maxPrice) {
+        if (minPrice > maxPrice) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+        return new DishList(dishes, sorted, boundary(sorted, minPrice, false), boundary(sorted, maxPrice, true));
+    }
+    
+    private int boundary(int[] sorted, long price, boolean inclusive) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long candidate = prices[sorted[mid]];
+            if (candidate < price || (inclusive && candidate == price)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    static int[] sortByPrice(int[] positions, long[] prices) {
+        int[] sorted = positions.clone();
+        if (sorted.length < 2) {
+            return sorted;
+        }
+        int[] buffer = new int[sorted.length];
+        for (int width = 1; width < sorted.length; width *= 2) {
+            for (int low = 0; low < sorted.length; low += 2 * width) {
+                int mid = Math.min(low + width, sorted.length);
+                int high = Math.min(low + 2 * width, sorted.length);
+                mergeRuns(sorted, low, mid, high, buffer, prices);
+            }
+            int[] swap = sorted;
+            sorted = buffer;
+            buffer = swap;
+        }
+        return sorted;
+    }
+    
+    private static int[] merge(int[] left, int[] right, long[] prices) {
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.length == 0) {
+            return right;
+        }
+        int[] combined = concat(left, right);
+        int[] merged = new int[combined.length];
+        mergeRuns(combined, 0, left.length, combined.length, merged, prices);
+        return merged;
+    }
+    
+    private static void mergeRuns(int[] source, int low, int mid, int high, int[] target, long[] prices) {
+        int i = low;
+        int j = mid;
+        for (int k = low; k < high; k++) {
+            if (j >= high || (i < mid && prices[source[i]] <= prices[source[j]])) {
+                target[k] = source[i++];
+            } else {
+                target[k] = source[j++];
+            }
+        }
+    }
+    
+    private static int[] concat(int[] left, int[] right) {
+        if (right.length == 0) {
+            return left;
+        }
+        int[] combined = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, combined, left.length, right.length);
+        return combined;
+    }
+    
+    private static int[][] emptyIndexes() {
+        int[][] indexes = new int[TYPES.length][];
+        for (int t = 0; t < TYPES.length; t++) {
+            indexes[t] = new int[0];
+        }
+        return indexes;
+    }
+    
+    private static class DishList extends AbstractList<Dish> implements RandomAccess {
+        private final Dish[] dishes;
+        private final int[] positions;
+        private final int from;
+        private final int to;
+        
+        DishList(Dish[] dishes, int[] positions, int from, int to) {
+            this.dishes = dishes;
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        public Dish get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (to - from));
+            }
+            int slot = from + index;
+            return dishes[positions == null ? slot : positions[slot]];
+        }
+        
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
\ No newline at end of file
@@ -1,24 +1,52 @@
 package restaurant;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import dish.Dish;
 
 public class Restaurant {
     private String name;
-    private List<Dish> dishes;
+    private volatile MenuSnapshot menu;
+    private List<MenuListener> listeners;
     
     public Restaurant(String name) {
         this.name = name;
-        this.dishes = new ArrayList<>();
+        this.menu = MenuSnapshot.empty();
+        this.listeners = new CopyOnWriteArrayList<>();
     }
     
     public void addDish(Dish dish) {
-        dishes.add(dish);
+        addDishes(Collections.singletonList(dish));
+    }
+    
+    public synchronized void addDishes(Collection<? extends Dish> dishes) {
+        MenuSnapshot previous = menu;
+        MenuSnapshot current = previous.withDishes(dishes);
+        if (current == previous) {
+            return;
+        }
+        menu = current;
+        for (MenuListener listener : listeners) {
+            listener.onMenuChanged(this, previous, current);
+        }
     }
     
     public List<Dish> getMenu() {
-        return new ArrayList<>(dishes);
+        return menu.getDishes();
+    }
+    
+    public MenuSnapshot getMenuSnapshot() {
+        return menu;
+    }
+    
+    public void addMenuListener(MenuListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeMenuListener(MenuListener listener) {
+        listeners.remove(listener);
     }
     
     public String getName() {
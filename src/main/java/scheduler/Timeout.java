@@ -0,0 +1,51 @@
+package scheduler;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+public class Timeout implements Runnable {
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+    
+    private final TimingWheel wheel;
+    private final Runnable task;
+    final long deadline;
+    long remainingRounds;
+    Timeout next;
+    Timeout prev;
+    TimingWheel.Bucket bucket;
+    private volatile int state;
+    
+    Timeout(TimingWheel wheel, Runnable task, long deadline) {
+        this.wheel = wheel;
+        this.task = task;
+        this.deadline = deadline;
+    }
+    
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+            return false;
+        }
+        wheel.cancelled(this);
+        return true;
+    }
+    
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+    
+    public boolean isExpired() {
+        return state == EXPIRED;
+    }
+    
+    boolean expire() {
+        return STATE.compareAndSet(this, PENDING, EXPIRED);
+    }
+    
+    @Override
+    public void run() {
+        task.run();
+    }
+}
\ No newline at end of file
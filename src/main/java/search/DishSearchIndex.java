@@ -0,0 +1,407 @@
+package search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import dish.Dish;
+import restaurant.MenuListener;
+import restaurant.MenuSnapshot;
+import restaurant.Restaurant;
+
+public class DishSearchIndex implements MenuListener {
+    private static final int MAX_DOCUMENTS = 1 << 30;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final float NAME_BOOST = 2.0f;
+    private static final float PREFIX_WEIGHT = 0.75f;
+    private static final float FUZZY_WEIGHT = 0.5f;
+    
+    private ReadWriteLock lock;
+    private Map<String, Integer> termIds;
+    private TreeMap<String, Integer> vocabulary;
+    private List<String> terms;
+    private List<PostingList> postings;
+    private Map<String, PostingList> trigramTerms;
+    private Map<Restaurant, Integer> indexedCounts;
+    private Dish[] dishes;
+    private Restaurant[] owners;
+    private int documentCount;
+    
+    public DishSearchIndex(List<Restaurant> restaurants) {
+        this.lock = new ReentrantReadWriteLock();
+        this.termIds = new HashMap<>();
+        this.vocabulary = new TreeMap<>();
+        this.terms = new ArrayList<>();
+        this.postings = new ArrayList<>();
+        this.trigramTerms = new HashMap<>();
+        this.indexedCounts = new IdentityHashMap<>();
+        this.dishes = new Dish[1024];
+        this.owners = new Restaurant[1024];
+        for (Restaurant restaurant : restaurants) {
+            addRestaurant(restaurant);
+        }
+    }
+    
+    public void addRestaurant(Restaurant restaurant) {
+        lock.writeLock().lock();
+        try {
+            if (indexedCounts.containsKey(restaurant)) {
+                return;
+            }
+            indexedCounts.put(restaurant, 0);
+            restaurant.addMenuListener(this);
+            indexMenu(restaurant, restaurant.getMenuSnapshot());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            for (Restaurant restaurant : indexedCounts.keySet()) {
+                restaurant.removeMenuListener(this);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void onMenuChanged(Restaurant restaurant, MenuSnapshot previous, MenuSnapshot current) {
+        lock.writeLock().lock();
+        try {
+            if (indexedCounts.containsKey(restaurant)) {
+                indexMenu(restaurant, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public List<SearchResult> search(String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Result limit must be positive");
+        }
+        List<String> tokens = SearchTokenizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            List<List<TermMatch>> matches = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                List<TermMatch> expanded = expand(tokens.get(i), i == tokens.size() - 1);
+                if (expanded.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                matches.add(expanded);
+            }
+            matches.sort((left, right) -> Integer.compare(postingCount(left), postingCount(right)));
+            Candidates result = collect(matches.get(0));
+            for (int i = 1; i < matches.size() && result.size > 0; i++) {
+                List<TermMatch> next = matches.get(i);
+                if (next.size() == 1) {
+                    result = intersect(result, next.get(0));
+                } else {
+                    result = intersect(result, collect(next));
+                }
+            }
+            return topResults(result, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void indexMenu(Restaurant restaurant, MenuSnapshot menu) {
+        int indexed = indexedCounts.get(restaurant);
+        for (int position = indexed; position < menu.size(); position++) {
+            indexDish(restaurant, menu.getDish(position));
+        }
+        indexedCounts.put(restaurant, Math.max(indexed, menu.size()));
+    }
+    
+    private void indexDish(Restaurant restaurant, Dish dish) {
+        if (documentCount == MAX_DOCUMENTS) {
+            throw new IllegalStateException("Search index is full");
+        }
+        if (documentCount == dishes.length) {
+            int capacity = (int) Math.min((long) dishes.length * 2, MAX_DOCUMENTS);
+            dishes = Arrays.copyOf(dishes, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+        }
+        int document = documentCount;
+        dishes[document] = dish;
+        owners[document] = restaurant;
+        List<String> nameTokens = SearchTokenizer.tokenize(dish.getName());
+        List<String> seen = new ArrayList<>(nameTokens.size() + 8);
+        for (String token : nameTokens) {
+            if (!seen.contains(token)) {
+                seen.add(token);
+                postings.get(termId(token)).add(document << 1 | 1);
+            }
+        }
+        for (String token : SearchTokenizer.tokenize(dish.getDescription())) {
+            if (!seen.contains(token)) {
+                seen.add(token);
+                postings.get(termId(token)).add(document << 1);
+            }
+        }
+        documentCount++;
+    }
+    
+    private int termId(String term) {
+        Integer existing = termIds.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        int id = terms.size();
+        termIds.put(term, id);
+        vocabulary.put(term, id);
+        terms.add(term);
+        postings.add(new PostingList());
+        for (String trigram : SearchTokenizer.trigrams(term)) {
+            trigramTerms.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+        }
+        return id;
+    }
+    
+    private List<TermMatch> expand(String token, boolean last) {
+        List<TermMatch> matches = new ArrayList<>();
+        Integer exact = termIds.get(token);
+        if (exact != null) {
+            matches.add(new TermMatch(exact, 1.0f));
+        }
+        if ((last || exact == null) && token.length() >= MIN_PREFIX_LENGTH) {
+            for (Integer id : vocabulary.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+                if (matches.size() > MAX_EXPANSIONS) {
+                    break;
+                }
+                matches.add(new TermMatch(id, PREFIX_WEIGHT));
+            }
+        }
+        if (matches.isEmpty()) {
+            expandFuzzy(token, matches);
+        }
+        return matches;
+    }
+    
+    private void expandFuzzy(String token, List<TermMatch> matches) {
+        int maxEdits = SearchTokenizer.maxEdits(token);
+        if (maxEdits == 0) {
+            return;
+        }
+        List<String> trigrams = SearchTokenizer.trigrams(token);
+        int total = 0;
+        for (String trigram : trigrams) {
+            PostingList list = trigramTerms.get(trigram);
+            total += list == null ? 0 : list.size();
+        }
+        int[] candidates = new int[total];
+        int next = 0;
+        for (String trigram : trigrams) {
+            PostingList list = trigramTerms.get(trigram);
+            for (int i = 0; list != null && i < list.size(); i++) {
+                candidates[next++] = list.get(i);
+            }
+        }
+        Arrays.sort(candidates);
+        int threshold = Math.max(1, trigrams.size() - 3 * maxEdits);
+        for (int i = 0; i < candidates.length; ) {
+            int id = candidates[i];
+            int run = i;
+            while (run < candidates.length && candidates[run] == id) {
+                run++;
+            }
+            if (run - i >= threshold) {
+                int distance = SearchTokenizer.editDistance(token, terms.get(id), maxEdits);
+                if (distance <= maxEdits) {
+                    matches.add(new TermMatch(id, FUZZY_WEIGHT / distance));
+                }
+            }
+            i = run;
+        }
+    }
+    
+    private Candidates collect(List<TermMatch> matches) {
+        if (matches.size() == 1) {
+            TermMatch match = matches.get(0);
+            PostingList list = postings.get(match.term);
+            float weight = match.weight * idf(list);
+            Candidates candidates = new Candidates(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                int entry = list.get(i);
+                candidates.add(entry >>> 1, (entry & 1) != 0 ? weight * NAME_BOOST : weight);
+            }
+            return candidates;
+        }
+        int total = 0;
+        for (TermMatch match : matches) {
+            total += postings.get(match.term).size();
+        }
+        long[] packed = new long[total];
+        int next = 0;
+        for (TermMatch match : matches) {
+            PostingList list = postings.get(match.term);
+            float weight = match.weight * idf(list);
+            for (int i = 0; i < list.size(); i++) {
+                int entry = list.get(i);
+                float score = (entry & 1) != 0 ? weight * NAME_BOOST : weight;
+                packed[next++] = (long) (entry >>> 1) << 32 | Float.floatToIntBits(score);
+            }
+        }
+        Arrays.sort(packed);
+        Candidates candidates = new Candidates(total);
+        for (int i = 0; i < total; i++) {
+            int document = (int) (packed[i] >>> 32);
+            if (i + 1 < total && (int) (packed[i + 1] >>> 32) == document) {
+                continue;
+            }
+            candidates.add(document, Float.intBitsToFloat((int) packed[i]));
+        }
+        return candidates;
+    }
+    
+    private int postingCount(List<TermMatch> matches) {
+        int count = 0;
+        for (TermMatch match : matches) {
+            count += postings.get(match.term).size();
+        }
+        return count;
+    }
+    
+    private Candidates intersect(Candidates candidates, TermMatch match) {
+        PostingList list = postings.get(match.term);
+        float weight = match.weight * idf(list);
+        Candidates result = new Candidates(candidates.size);
+        int low = 0;
+        for (int i = 0; i < candidates.size && low < list.size(); i++) {
+            int document = candidates.documents[i];
+            low = seek(list, low, document);
+            if (low < list.size() && list.get(low) >>> 1 == document) {
+                float score = (list.get(low) & 1) != 0 ? weight * NAME_BOOST : weight;
+                result.add(document, candidates.scores[i] + score);
+            }
+        }
+        return result;
+    }
+    
+    private static int seek(PostingList list, int from, int document) {
+        int step = 1;
+        int high = from;
+        while (high < list.size() && list.get(high) >>> 1 < document) {
+            from = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, list.size());
+        while (from < high) {
+            int mid = (from + high) >>> 1;
+            if (list.get(mid) >>> 1 < document) {
+                from = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return from;
+    }
+    
+    private float idf(PostingList list) {
+        return (float) Math.log(1.0 + (double) documentCount / Math.max(1, list.size()));
+    }
+    
+    private static Candidates intersect(Candidates left, Candidates right) {
+        Candidates result = new Candidates(Math.min(left.size, right.size));
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            int a = left.documents[i];
+            int b = right.documents[j];
+            if (a == b) {
+                result.add(a, left.scores[i] + right.scores[j]);
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+    
+    private List<SearchResult> topResults(Candidates candidates, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, Math.max(1, candidates.size)) + 1, (a, b) -> {
+            int byScore = Float.compare(candidates.scores[a], candidates.scores[b]);
+            return byScore != 0 ? byScore : Integer.compare(b, a);
+        });
+        for (int i = 0; i < candidates.size; i++) {
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (candidates.scores[i] > candidates.scores[heap.peek()]) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+        SearchResult[] results = new SearchResult[heap.size()];
+        for (int i = results.length - 1; i >= 0; i--) {
+            int slot = heap.poll();
+            int document = candidates.documents[slot];
+            results[i] = new SearchResult(owners[document], dishes[document], candidates.scores[slot]);
+        }
+        return Arrays.asList(results);
+    }
+    
+    private static class TermMatch {
+        private final int term;
+        private final float weight;
+        
+        TermMatch(int term, float weight) {
+            this.term = term;
+            this.weight = weight;
+        }
+    }
+    
+    private static class Candidates {
+        private final int[] documents;
+        private final float[] scores;
+        private int size;
+        
+        Candidates(int capacity) {
+            this.documents = new int[capacity];
+            this.scores = new float[capacity];
+        }
+        
+        void add(int document, float score) {
+            documents[size] = document;
+            scores[size] = score;
+            size++;
+        }
+    }
+}
\ No newline at end of file
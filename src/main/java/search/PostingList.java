@@ -0,0 +1,27 @@
+package search;
+
+import java.util.Arrays;
+
+class PostingList {
+    private int[] entries;
+    private int size;
+    
+    PostingList() {
+        this.entries = new int[4];
+    }
+    
+    void add(int entry) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size++] = entry;
+    }
+    
+    int get(int index) {
+        return entries[index];
+    }
+    
+    int size() {
+        return size;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package search;
+
+import dish.Dish;
+import restaurant.Restaurant;
+
+public class SearchResult {
+    private final Restaurant restaurant;
+    private final Dish dish;
+    private final double score;
+    
+    public SearchResult(Restaurant restaurant, Dish dish, double score) {
+        this.restaurant = restaurant;
+        this.dish = dish;
+        this.score = score;
+    }
+    
+    public Restaurant getRestaurant() {
+        return restaurant;
+    }
+    
+    public Dish getDish() {
+        return dish;
+    }
+    
+    public double getScore() {
+        return score;
+    }
+}
\ No newline at end of file
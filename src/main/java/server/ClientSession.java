@@ -0,0 +1,63 @@
+package server;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import config.AppConfig;
+import controller.MainMenuController;
+import notification.ConsoleNotificationSink;
+import notification.Notification;
+import notification.NotificationSink;
+import order.Order;
+import user.User;
+import util.ConsoleWriter;
+import view.ScreenRenderer;
+
+public class ClientSession implements Runnable {
+    private SessionServer server;
+    private Socket socket;
+    private long sessionNumber;
+    
+    ClientSession(SessionServer server, Socket socket, long sessionNumber) {
+        this.server = server;
+        this.socket = socket;
+        this.sessionNumber = sessionNumber;
+    }
+    
+    @Override
+    public void run() {
+        User user = new User("Guest " + sessionNumber);
+        NotificationSink notifications = null;
+        try (Socket connection = socket) {
+            connection.setSoTimeout(server.getIdleTimeoutMillis());
+            connection.setTcpNoDelay(true);
+            PrintStream stream = new PrintStream(connection.getOutputStream(), false, StandardCharsets.UTF_8);
+            ConsoleWriter out = new ConsoleWriter(stream, StandardCharsets.UTF_8, 512);
+            AppConfig config = AppConfig.getInstance();
+            ScreenRenderer renderer = new ScreenRenderer(out, config.isServerAnsiScreens());
+            Scanner scanner = new Scanner(connection.getInputStream(), StandardCharsets.UTF_8);
+            out.println("========================================");
+            out.print("Welcome to ").println(config.getAppName());
+            out.print("Version: ").println(config.getVersion());
+            out.print("Session: ").print(sessionNumber).println();
+            out.println("========================================").flush();
+            Order cart = new Order("CART-" + sessionNumber, user);
+            notifications = new ConsoleNotificationSink(new ConsoleWriter(stream, StandardCharsets.UTF_8, 256),
+                                                        renderer::invalidate);
+            Notification.getDispatcher().addRecipient(user.getId(), notifications);
+            new MainMenuController(server.getRestaurants(), server.getSearchIndex(), server.getCatalog(), cart, scanner,
+                                   renderer).run();
+        } catch (IOException | NoSuchElementException e) {
+        } catch (RuntimeException e) {
+            server.sessionFailed(sessionNumber, e);
+        } finally {
+            if (notifications != null) {
+                Notification.getDispatcher().removeRecipient(user.getId(), notifications);
+            }
+            server.sessionEnded(socket);
+        }
+    }
+}
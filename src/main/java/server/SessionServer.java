@@ -0,0 +1,198 @@
+package server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import restaurant.Catalog;
+import restaurant.Restaurant;
+import search.DishSearchIndex;
+
+public class SessionServer implements Runnable {
+    private static final long PLATFORM_THREAD_STACK_BYTES = 256 * 1024;
+    
+    private int port;
+    private List<Restaurant> restaurants;
+    private DishSearchIndex searchIndex;
+    private Catalog catalog;
+    private int maxSessions;
+    private int idleTimeoutMillis;
+    private Semaphore sessionPermits;
+    private Set<Socket> openSockets;
+    private AtomicLong sessionCounter;
+    private LongAdder failedSessions;
+    private ExecutorService sessionExecutor;
+    private volatile ServerSocket serverSocket;
+    private volatile boolean running;
+    
+    public SessionServer(int port, List<Restaurant> restaurants, int maxSessions, int idleTimeoutMillis) {
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("Maximum sessions must be positive");
+        }
+        if (idleTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Idle timeout must not be negative");
+        }
+        this.port = port;
+        this.restaurants = restaurants;
+        this.searchIndex = new DishSearchIndex(restaurants);
+        this.catalog = new Catalog(restaurants);
+        this.maxSessions = maxSessions;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.sessionPermits = new Semaphore(maxSessions);
+        this.openSockets = ConcurrentHashMap.newKeySet();
+        this.sessionCounter = new AtomicLong();
+        this.failedSessions = new LongAdder();
+    }
+    
+    public synchronized void bind() throws IOException {
+        if (serverSocket != null) {
+            return;
+        }
+        ServerSocket socket = new ServerSocket();
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        sessionExecutor = newSessionExecutor();
+        running = true;
+        serverSocket = socket;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            bind();
+        } catch (IOException e) {
+            System.err.println("Unable to listen on port " + port + ": " + e.getMessage());
+            return;
+        }
+        System.out.println("Listening on " + serverSocket.getLocalSocketAddress() + " (up to " + maxSessions +
+                           " sessions, " + describeExecutor() + ")");
+        while (running) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                break;
+            } catch (IOException e) {
+                continue;
+            }
+            if (!sessionPermits.tryAcquire()) {
+                reject(socket);
+                continue;
+            }
+            openSockets.add(socket);
+            try {
+                sessionExecutor.execute(new ClientSession(this, socket, sessionCounter.incrementAndGet()));
+            } catch (RuntimeException e) {
+                sessionEnded(socket);
+                closeQuietly(socket);
+            }
+        }
+    }
+    
+    public synchronized void stop() {
+        running = false;
+        if (serverSocket != null) {
+            closeQuietly(serverSocket);
+        }
+        for (Socket socket : openSockets) {
+            closeQuietly(socket);
+        }
+        if (sessionExecutor != null) {
+            sessionExecutor.shutdownNow();
+        }
+    }
+    
+    public int getLocalPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null ? socket.getLocalPort() : port;
+    }
+    
+    public int getActiveSessionCount() {
+        return maxSessions - sessionPermits.availablePermits();
+    }
+    
+    public long getSessionCount() {
+        return sessionCounter.get();
+    }
+    
+    public long getFailedSessionCount() {
+        return failedSessions.sum();
+    }
+    
+    List<Restaurant> getRestaurants() {
+        return restaurants;
+    }
+    
+    DishSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+    
+    Catalog getCatalog() {
+        return catalog;
+    }
+    
+    int getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+    
+    void sessionEnded(Socket socket) {
+        if (openSockets.remove(socket)) {
+            sessionPermits.release();
+        }
+    }
+    
+    void sessionFailed(long sessionNumber, RuntimeException e) {
+        failedSessions.increment();
+        System.err.println("Session " + sessionNumber + " ended with an error:");
+        e.printStackTrace();
+    }
+    
+    private void reject(Socket socket) {
+        try {
+            OutputStream output = socket.getOutputStream();
+            output.write("Server is busy. Please try again later.\n".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+        } catch (IOException e) {
+        }
+        closeQuietly(socket);
+    }
+    
+    private String describeExecutor() {
+        return sessionExecutor.getClass().getName().contains("ThreadPerTask") ? "virtual threads" : "platform threads";
+    }
+    
+    private static ExecutorService newSessionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicLong threadCounter = new AtomicLong();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(null, task, "session-" + threadCounter.incrementAndGet(),
+                                           PLATFORM_THREAD_STACK_BYTES);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+        }
+    }
+}
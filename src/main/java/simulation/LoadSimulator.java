@@ -0,0 +1,101 @@
+package simulation;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import dish.VariantCompiler;
+import gateway.PaymentGateway;
+import gateway.PaymentStatus;
+import gateway.Payments;
+import notification.Notification;
+import notification.NotificationDispatcher;
+import journal.OrderJournal;
+import metrics.Histogram;
+import metrics.HistogramSnapshot;
+import metrics.Metrics;
+import order.OrderStatus;
+import restaurant.Restaurant;
+
+public class LoadSimulator {
+    private List<Restaurant> restaurants;
+    private SimulationConfig config;
+    
+    public LoadSimulator(List<Restaurant> restaurants, SimulationConfig config) {
+        this.restaurants = restaurants;
+        this.config = config;
+    }
+    
+    public void run() throws InterruptedException {
+        SimulationStage[] stages = SimulationStage.values();
+        Histogram[] histograms = new Histogram[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            histograms[i] = new Histogram();
+        }
+        LongAdder completedOrders = new LongAdder();
+        LongAdder failedPayments = new LongAdder();
+        
+        System.out.println("Starting headless simulation: " + config);
+        ExecutorService customers = Executors.newFixedThreadPool(config.getCustomers());
+        long start = System.nanoTime();
+        for (int i = 0; i < config.getCustomers(); i++) {
+            customers.execute(new SyntheticCustomer(i + 1, restaurants, config, histograms,
+                                                    completedOrders, failedPayments));
+        }
+        customers.shutdown();
+        while (!customers.awaitTermination(1, TimeUnit.SECONDS)) {
+            System.out.println("  ... " + completedOrders.sum() + " orders placed");
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        printReport(stages, histograms, completedOrders.sum(), failedPayments.sum(), elapsedNanos);
+    }
+    
+    private void printReport(SimulationStage[] stages, Histogram[] histograms,
+                             long completedOrders, long failedPayments, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        System.out.println("\n=== Simulation Report ===");
+        System.out.println("Orders placed: " + completedOrders);
+        System.out.println("Failed payments: " + failedPayments);
+        System.out.println("Dish variants: " + VariantCompiler.getVariantCount());
+        NotificationDispatcher notifications = Notification.getDispatcher();
+        System.out.println("Notifications published: " + notifications.getPublishedCount() +
+                           ", coalesced: " + notifications.getCoalescedCount() +
+                           ", dropped: " + notifications.getDroppedCount() +
+                           ", delivered: " + notifications.getDeliveredCount());
+        OrderJournal journal = OrderStatus.getJournal();
+        if (journal != null) {
+            System.out.println("Journal records: " + journal.getRecordsWritten() +
+                               ", batches: " + journal.getBatchesWritten() +
+                               ", syncs: " + journal.getSyncCount() +
+                               ", compactions: " + journal.getCompactionCount());
+        }
+        PaymentGateway gateway = Payments.getGateway();
+        System.out.println("Payments approved: " + gateway.getOutcomeCount(PaymentStatus.APPROVED) +
+                           ", declined: " + gateway.getOutcomeCount(PaymentStatus.DECLINED) +
+                           ", failed: " + (gateway.getOutcomeCount(PaymentStatus.FAILED) +
+                                            gateway.getOutcomeCount(PaymentStatus.TIMED_OUT) +
+                                            gateway.getOutcomeCount(PaymentStatus.REJECTED)) +
+                           ", retries: " + gateway.getRetryCount() +
+                           ", timeouts: " + gateway.getTimeoutCount());
+        System.out.println("Elapsed: " + String.format("%.2f", elapsedSeconds) + " s");
+        System.out.println("Throughput: " + String.format("%.1f", completedOrders / elapsedSeconds) + " orders/s");
+        System.out.println();
+        System.out.println(String.format("%-22s %10s %10s %10s %10s %10s",
+                                         "Stage (us)", "count", "mean", "p50", "p99", "p999"));
+        for (SimulationStage stage : stages) {
+            HistogramSnapshot histogram = histograms[stage.ordinal()].snapshot();
+            System.out.println(String.format("%-22s %10d %10.1f %10.1f %10.1f %10.1f",
+                                             stage.getLabel(),
+                                             histogram.getCount(),
+                                             histogram.getMeanNanos() / 1000.0,
+                                             histogram.percentileNanos(50) / 1000.0,
+                                             histogram.percentileNanos(99) / 1000.0,
+                                             histogram.percentileNanos(99.9) / 1000.0));
+        }
+        System.out.println();
+        System.out.println("=== Metrics ===");
+        System.out.print(Metrics.getRegistry().appendSnapshot(new StringBuilder()));
+        System.out.println();
+    }
+}
\ No newline at end of file
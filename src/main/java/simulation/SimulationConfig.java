@@ -0,0 +1,152 @@
+package simulation;
+
+public class SimulationConfig {
+    private int customers;
+    private int ordersPerCustomer;
+    private int minThinkTimeMillis;
+    private int maxThinkTimeMillis;
+    private int minCartSize;
+    private int maxCartSize;
+    private int creditCardWeight;
+    private int payPalWeight;
+    private int cashWeight;
+    
+    public SimulationConfig() {
+        this.customers = 50;
+        this.ordersPerCustomer = 100;
+        this.minThinkTimeMillis = 0;
+        this.maxThinkTimeMillis = 5;
+        this.minCartSize = 1;
+        this.maxCartSize = 8;
+        this.creditCardWeight = 60;
+        this.payPalWeight = 30;
+        this.cashWeight = 10;
+    }
+    
+    public static SimulationConfig fromArgs(String[] args) {
+        SimulationConfig config = new SimulationConfig();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            String key = arg.substring(0, separator).trim();
+            String value = arg.substring(separator + 1).trim();
+            switch (key) {
+                case "customers":
+                    config.customers = parsePositive(key, value);
+                    break;
+                case "orders":
+                    config.ordersPerCustomer = parsePositive(key, value);
+                    break;
+                case "think":
+                    int[] think = parseRange(key, value);
+                    config.minThinkTimeMillis = think[0];
+                    config.maxThinkTimeMillis = think[1];
+                    break;
+                case "cart":
+                    int[] cart = parseRange(key, value);
+                    config.minCartSize = Math.max(cart[0], 1);
+                    config.maxCartSize = Math.max(cart[1], config.minCartSize);
+                    break;
+                case "payment":
+                    String[] weights = value.split(":");
+                    if (weights.length != 3) {
+                        throw new IllegalArgumentException("payment must be credit:paypal:cash weights, e.g. 60:30:10");
+                    }
+                    config.creditCardWeight = parseNonNegative(key, weights[0]);
+                    config.payPalWeight = parseNonNegative(key, weights[1]);
+                    config.cashWeight = parseNonNegative(key, weights[2]);
+                    if (config.getTotalPaymentWeight() == 0) {
+                        throw new IllegalArgumentException("At least one payment weight must be positive");
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown simulation option: " + key);
+            }
+        }
+        return config;
+    }
+    
+    private static int[] parseRange(String key, String value) {
+        int dash = value.indexOf('-');
+        if (dash < 0) {
+            int single = parseNonNegative(key, value);
+            return new int[] {single, single};
+        }
+        int min = parseNonNegative(key, value.substring(0, dash));
+        int max = parseNonNegative(key, value.substring(dash + 1));
+        if (max < min) {
+            throw new IllegalArgumentException(key + " range maximum must not be below its minimum");
+        }
+        return new int[] {min, max};
+    }
+    
+    private static int parsePositive(String key, String value) {
+        int parsed = parseNonNegative(key, value);
+        if (parsed == 0) {
+            throw new IllegalArgumentException(key + " must be positive");
+        }
+        return parsed;
+    }
+    
+    private static int parseNonNegative(String key, String value) {
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed < 0) {
+                throw new IllegalArgumentException(key + " must not be negative");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + value);
+        }
+    }
+    
+    public int getCustomers() {
+        return customers;
+    }
+    
+    public int getOrdersPerCustomer() {
+        return ordersPerCustomer;
+    }
+    
+    public int getMinThinkTimeMillis() {
+        return minThinkTimeMillis;
+    }
+    
+    public int getMaxThinkTimeMillis() {
+        return maxThinkTimeMillis;
+    }
+    
+    public int getMinCartSize() {
+        return minCartSize;
+    }
+    
+    public int getMaxCartSize() {
+        return maxCartSize;
+    }
+    
+    public int getCreditCardWeight() {
+        return creditCardWeight;
+    }
+    
+    public int getPayPalWeight() {
+        return payPalWeight;
+    }
+    
+    public int getCashWeight() {
+        return cashWeight;
+    }
+    
+    public int getTotalPaymentWeight() {
+        return creditCardWeight + payPalWeight + cashWeight;
+    }
+    
+    @Override
+    public String toString() {
+        return "customers=" + customers + ", orders/customer=" + ordersPerCustomer +
+               ", think=" + minThinkTimeMillis + "-" + maxThinkTimeMillis + "ms" +
+               ", cart=" + minCartSize + "-" + maxCartSize +
+               ", payment mix (card:paypal:cash)=" + creditCardWeight + ":" + payPalWeight + ":" + cashWeight;
+    }
+}
\ No newline at end of file
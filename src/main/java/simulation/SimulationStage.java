@@ -0,0 +1,20 @@
+package simulation;
+
+public enum SimulationStage {
+    BROWSE("Browse"),
+    CART("Build cart"),
+    DISCOUNT("Select discount"),
+    PAYMENT("Process payment"),
+    PLACE("Place order"),
+    CHECKOUT("End-to-end checkout");
+    
+    private final String label;
+    
+    SimulationStage(String label) {
+        this.label = label;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package simulation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import dish.AddOn;
+import dish.Dish;
+import dish.VariantCompiler;
+import gateway.PaymentOutcome;
+import gateway.PaymentRequest;
+import gateway.Payments;
+import id.Ids;
+import metrics.Histogram;
+import order.OrderStatus;
+import order.Order;
+import payment.CashOnDelivery;
+import payment.CreditCardPayment;
+import payment.PayPalPayment;
+import payment.Payment;
+import payment.PaymentStrategy;
+import pricing.Pricing;
+import pricing.PricingQuote;
+import restaurant.Restaurant;
+import user.User;
+import util.NullTextOutput;
+import util.TextOutput;
+
+public class SyntheticCustomer implements Runnable {
+    private int customerNumber;
+    private List<Restaurant> restaurants;
+    private SimulationConfig config;
+    private Histogram[] histograms;
+    private LongAdder completedOrders;
+    private LongAdder failedPayments;
+    private User user;
+    private Order cart;
+    private TextOutput paymentOutput;
+    
+    public SyntheticCustomer(int customerNumber, List<Restaurant> restaurants, SimulationConfig config,
+                             Histogram[] histograms, LongAdder completedOrders, LongAdder failedPayments) {
+        this.customerNumber = customerNumber;
+        this.restaurants = restaurants;
+        this.config = config;
+        this.histograms = histograms;
+        this.completedOrders = completedOrders;
+        this.failedPayments = failedPayments;
+        this.user = new User("Simulated Customer " + customerNumber);
+        this.paymentOutput = new NullTextOutput();
+        this.cart = new Order("SIM-CART-" + customerNumber, user);
+    }
+    
+    @Override
+    public void run() {
+        for (int i = 0; i < config.getOrdersPerCustomer(); i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            runCheckout();
+        }
+    }
+    
+    private void runCheckout() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long checkoutStart = System.nanoTime();
+        
+        long start = System.nanoTime();
+        Restaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+        List<Dish> menu = restaurant.getMenu();
+        record(SimulationStage.BROWSE, start);
+        if (menu.isEmpty()) {
+            return;
+        }
+        think(random);
+        
+        start = System.nanoTime();
+        int cartSize = config.getMinCartSize() + random.nextInt(config.getMaxCartSize() - config.getMinCartSize() + 1);
+        boolean supportsDecorators = restaurant.getName().equals("Pizza Palace") ||
+                                     restaurant.getName().equals("Burger King");
+        for (int i = 0; i < cartSize; i++) {
+            Dish dish = menu.get(random.nextInt(menu.size()));
+            if (supportsDecorators) {
+                dish = withRandomExtras(dish, random);
+            }
+            cart.addDish(dish, restaurant);
+        }
+        record(SimulationStage.CART, start);
+        think(random);
+        
+        start = System.nanoTime();
+        PricingQuote quote = Pricing.getService().quote(cart);
+        long finalPrice = quote.getOption(random.nextInt(quote.getOptions().size())).getFinalPrice();
+        if (quote.getPromotions().getFinalPrice() < finalPrice) {
+            finalPrice = quote.getPromotions().getFinalPrice();
+        }
+        record(SimulationStage.DISCOUNT, start);
+        think(random);
+        
+        start = System.nanoTime();
+        long paymentNumber = Ids.nextId();
+        PaymentRequest request = new PaymentRequest(Ids.format("PAY", paymentNumber), finalPrice,
+                                                     choosePaymentStrategy(random), paymentOutput);
+        PaymentOutcome outcome = Payments.getGateway().submit(request).join();
+        record(SimulationStage.PAYMENT, start);
+        if (!outcome.isApproved()) {
+            failedPayments.increment();
+            cart.clearOrder();
+            return;
+        }
+        
+        start = System.nanoTime();
+        Order placedOrder = Payment.placeOrder(cart, user, Ids.next("ORD"));
+        OrderStatus.recordPayment(placedOrder, finalPrice);
+        Payment.recordAuthorization(paymentNumber, placedOrder, request.getMethod(), finalPrice);
+        record(SimulationStage.PLACE, start);
+        record(SimulationStage.CHECKOUT, checkoutStart);
+        completedOrders.increment();
+        think(random);
+    }
+    
+    private Dish withRandomExtras(Dish dish, ThreadLocalRandom random) {
+        switch (random.nextInt(4)) {
+            case 1:
+                return VariantCompiler.compile(dish, AddOn.EXTRA_CHEESE);
+            case 2:
+                return VariantCompiler.compile(dish, AddOn.EXTRA_SAUCE);
+            case 3:
+                return VariantCompiler.compile(dish, AddOn.EXTRA_CHEESE, AddOn.EXTRA_SAUCE);
+            default:
+                return dish;
+        }
+    }
+    
+    private PaymentStrategy choosePaymentStrategy(ThreadLocalRandom random) {
+        int roll = random.nextInt(config.getTotalPaymentWeight());
+        if (roll < config.getCreditCardWeight()) {
+            return new CreditCardPayment("1234-5678-9012", user.getName());
+        }
+        if (roll < config.getCreditCardWeight() + config.getPayPalWeight()) {
+            return new PayPalPayment("customer" + customerNumber + "@example.com");
+        }
+        return new CashOnDelivery();
+    }
+    
+    private void record(SimulationStage stage, long startNanos) {
+        histograms[stage.ordinal()].record(System.nanoTime() - startNanos);
+    }
+    
+    private void think(ThreadLocalRandom random) {
+        int min = config.getMinThinkTimeMillis();
+        int max = config.getMaxThinkTimeMillis();
+        int thinkMillis = min + (max > min ? random.nextInt(max - min + 1) : 0);
+        if (thinkMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(thinkMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
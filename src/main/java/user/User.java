@@ -1,13 +1,41 @@
 package user;
 
+import id.Ids;
+
 public class User {
+    private long id;
     private String name;
     
     public User(String name) {
+        this(Ids.nextId(), name);
+    }
+    
+    public User(long id, String name) {
+        this.id = id;
         this.name = name;
     }
     
+    public long getId() {
+        return id;
+    }
+    
     public String getName() {
         return name;
     }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof User)) {
+            return false;
+        }
+        return id == ((User) other).id;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
 }
\ No newline at end of file
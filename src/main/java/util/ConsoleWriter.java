@@ -0,0 +1,107 @@
+package util;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import money.Money;
+
+public class ConsoleWriter implements TextOutput {
+    private PrintStream out;
+    private StringBuilder buffer;
+    private CharsetEncoder encoder;
+    private ByteBuffer bytes;
+    
+    public ConsoleWriter(PrintStream out) {
+        this(out, Charset.defaultCharset());
+    }
+    
+    public ConsoleWriter(PrintStream out, Charset charset) {
+        this(out, charset, 4096);
+    }
+    
+    public ConsoleWriter(PrintStream out, Charset charset, int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.out = out;
+        this.buffer = new StringBuilder(initialCapacity);
+        this.encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(initialCapacity * 2);
+    }
+    
+    @Override
+    public ConsoleWriter print(String text) {
+        buffer.append(text);
+        return this;
+    }
+    
+    @Override
+    public ConsoleWriter print(char c) {
+        buffer.append(c);
+        return this;
+    }
+    
+    @Override
+    public ConsoleWriter print(int value) {
+        buffer.append(value);
+        return this;
+    }
+    
+    @Override
+    public ConsoleWriter print(long value) {
+        buffer.append(value);
+        return this;
+    }
+    
+    @Override
+    public ConsoleWriter price(long amount) {
+        Money.appendTo(buffer, amount);
+        return this;
+    }
+    
+    @Override
+    public ConsoleWriter println(String text) {
+        buffer.append(text).append('\n');
+        return this;
+    }
+    
+    @Override
+    public ConsoleWriter println() {
+        buffer.append('\n');
+        return this;
+    }
+    
+    public void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        CharBuffer chars = CharBuffer.wrap(buffer);
+        encoder.reset();
+        bytes.clear();
+        while (encoder.encode(chars, bytes, true).isOverflow()) {
+            growBytes();
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            growBytes();
+        }
+        out.write(bytes.array(), 0, bytes.position());
+        out.flush();
+        buffer.setLength(0);
+    }
+    
+    private void growBytes() {
+        ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+        bytes.flip();
+        larger.put(bytes);
+        bytes = larger;
+    }
+    
+    public PrintStream getStream() {
+        return out;
+    }
+}
\ No newline at end of file
@@ -1,33 +1,32 @@
 package util;
 
-import java.util.List;
-import java.util.Map;
-import dish.Dish;
+import java.util.Collection;
+import money.Money;
+import order.OrderLine;
 
 public class DisplayFormatter {
-    public static String formatPrice(double price) {
-        return String.format("%.2f", price);
+    public static String formatPrice(long price) {
+        return Money.format(price);
     }
     
-    public static void displayGroupedDishes(Map<String, List<Dish>> groupedDishes, boolean showNumbers, String indent) {
+    public static void displayGroupedDishes(TextOutput out, Collection<OrderLine> groupedDishes, boolean showNumbers, String indent) {
         int index = 1;
-        for (Map.Entry<String, List<Dish>> entry : groupedDishes.entrySet()) {
-            String dishName = entry.getKey();
-            List<Dish> dishList = entry.getValue();
-            int quantity = dishList.size();
-            double unitPrice = dishList.get(0).getPrice();
-            double totalPrice = unitPrice * quantity;
-            String prefix = showNumbers ? (index + ". ") : indent;
-            if (quantity > 1) {
-                System.out.println(prefix + dishName + " x" + quantity + " - $" + formatPrice(totalPrice));
+        for (OrderLine line : groupedDishes) {
+            if (showNumbers) {
+                out.print(index).print(". ");
             } else {
-                System.out.println(prefix + dishName + " - $" + formatPrice(totalPrice));
+                out.print(indent);
             }
+            out.print(line.getName());
+            if (line.getQuantity() > 1) {
+                out.print(" x").print(line.getQuantity());
+            }
+            out.print(" - $").price(line.getSubtotal()).println();
             index++;
         }
     }
     
-    public static void displayGroupedDishes(Map<String, List<Dish>> groupedDishes) {
-        displayGroupedDishes(groupedDishes, false, "  ");
+    public static void displayGroupedDishes(TextOutput out, Collection<OrderLine> groupedDishes) {
+        displayGroupedDishes(out, groupedDishes, false, "  ");
     }
 }
\ No newline at end of file
@@ -1,88 +1,101 @@
 package util;
 
 import java.util.Scanner;
+import view.ScreenRenderer;
 
 public class InputHandler {
-    public static int readInt(Scanner scanner, String prompt) {
-        System.out.print(prompt);
+    public static int readInt(Scanner scanner, ConsoleWriter out, String prompt) {
+        out.print(prompt).flush();
         try {
             int value = scanner.nextInt();
             scanner.nextLine();
             return value;
         } catch (Exception e) {
-            System.out.println("Invalid input. Please enter a number.");
+            out.println("Invalid input. Please enter a number.").flush();
             scanner.nextLine();
             return -1;
         }
     }
     
-    public static String readMandatoryString(Scanner scanner, String prompt, String errorMessage) {
+    public static int readChoice(Scanner scanner, ScreenRenderer renderer) {
+        try {
+            int value = scanner.nextInt();
+            scanner.nextLine();
+            return value;
+        } catch (Exception e) {
+            renderer.notice("Invalid input. Please enter a number.");
+            scanner.nextLine();
+            return -1;
+        }
+    }
+    
+    public static String readMandatoryString(Scanner scanner, ConsoleWriter out, String prompt, String errorMessage) {
         String input = "";
         while (input.isEmpty()) {
-            System.out.print(prompt);
+            out.print(prompt).flush();
             input = scanner.nextLine().trim();
             if (input.isEmpty()) {
-                System.out.println(errorMessage);
+                out.println(errorMessage).flush();
             }
         }
         return input;
     }
     
-    public static String readEmail(Scanner scanner, String prompt) {
+    public static String readEmail(Scanner scanner, ConsoleWriter out, String prompt) {
         String email = "";
         boolean validEmail = false;
         while (!validEmail) {
-            System.out.print(prompt);
+            out.print(prompt).flush();
             email = scanner.nextLine().trim();
             if (email.isEmpty()) {
-                System.out.println("Email is required. Please enter your email.");
-                System.out.println("Example: john.doe@gmail.com or johnya@icloud.com");
+                out.println("Email is required. Please enter your email.");
+                out.println("Example: john.doe@gmail.com or johnya@icloud.com").flush();
             } else {
                 if (email.matches("^[a-zA-Z0-9._-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
                     validEmail = true;
                 } else {
-                    System.out.println("Invalid email format. Please enter a valid email address.");
-                    System.out.println("Example: john.doe@gmail.com or johnya@icloud.com");
+                    out.println("Invalid email format. Please enter a valid email address.");
+                    out.println("Example: john.doe@gmail.com or johnya@icloud.com").flush();
                 }
             }
         }
         return email;
     }
     
-    public static String readMandatoryPhoneNumber(Scanner scanner, String prompt, String errorMessage) {
+    public static String readMandatoryPhoneNumber(Scanner scanner, ConsoleWriter out, String prompt, String errorMessage) {
         String phone = "";
         boolean validPhone = false;
         while (!validPhone) {
-            System.out.print(prompt);
+            out.print(prompt).flush();
             phone = scanner.nextLine().trim();
             if (phone.isEmpty()) {
-                System.out.println(errorMessage);
+                out.println(errorMessage).flush();
             } else {
                 if (phone.matches("^[0-9\\s\\-\\(\\)]+$") && phone.replaceAll("[^0-9]", "").length() > 0) {
                     validPhone = true;
                 } else {
-                    System.out.println("Phone number must contain only numbers. Please enter a valid phone number.");
+                    out.println("Phone number must contain only numbers. Please enter a valid phone number.").flush();
                 }
             }
         }
         return phone;
     }
     
-    public static String readCreditCardNumber(Scanner scanner, String prompt) {
+    public static String readCreditCardNumber(Scanner scanner, ConsoleWriter out, String prompt) {
         String cardNumber = "";
         boolean validCard = false;
         while (!validCard) {
-            System.out.print(prompt);
+            out.print(prompt).flush();
             cardNumber = scanner.nextLine().trim();
             if (cardNumber.isEmpty()) {
-                System.out.println("Card number is required. Please enter your card number.");
-                System.out.println("Format: XXXX-XXXX-XXXX (e.g., 1234-5678-9012)");
+                out.println("Card number is required. Please enter your card number.");
+                out.println("Format: XXXX-XXXX-XXXX (e.g., 1234-5678-9012)").flush();
             } else {
                 if (cardNumber.matches("^\\d{4}-\\d{4}-\\d{4}$")) {
                     validCard = true;
                 } else {
-                    System.out.println("Invalid card number format. Please enter the card number in the correct format.");
-                    System.out.println("Format: XXXX-XXXX-XXXX (e.g., 1234-5678-9012)");
+                    out.println("Invalid card number format. Please enter the card number in the correct format.");
+                    out.println("Format: XXXX-XXXX-XXXX (e.g., 1234-5678-9012)").flush();
                 }
             }
         }
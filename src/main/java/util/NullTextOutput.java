@@ -0,0 +1,38 @@
+package util;
+
+public class NullTextOutput implements TextOutput {
+    @Override
+    public NullTextOutput print(String text) {
+        return this;
+    }
+    
+    @Override
+    public NullTextOutput print(char c) {
+        return this;
+    }
+    
+    @Override
+    public NullTextOutput print(int value) {
+        return this;
+    }
+    
+    @Override
+    public NullTextOutput print(long value) {
+        return this;
+    }
+    
+    @Override
+    public NullTextOutput price(long amount) {
+        return this;
+    }
+    
+    @Override
+    public NullTextOutput println(String text) {
+        return this;
+    }
+    
+    @Override
+    public NullTextOutput println() {
+        return this;
+    }
+}
\ No newline at end of file
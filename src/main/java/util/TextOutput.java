@@ -0,0 +1,17 @@
+package util;
+
+public interface TextOutput {
+    TextOutput print(String text);
+    
+    TextOutput print(char c);
+    
+    TextOutput print(int value);
+    
+    TextOutput print(long value);
+    
+    TextOutput price(long amount);
+    
+    TextOutput println(String text);
+    
+    TextOutput println();
+}
\ No newline at end of file
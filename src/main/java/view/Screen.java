@@ -0,0 +1,23 @@
+package view;
+
+public class Screen {
+    private final String[] rows;
+    private final String prompt;
+    
+    public Screen(String[] rows, String prompt) {
+        this.rows = rows.clone();
+        this.prompt = prompt;
+    }
+    
+    public int getRowCount() {
+        return rows.length;
+    }
+    
+    public String getRow(int index) {
+        return rows[index];
+    }
+    
+    public String getPrompt() {
+        return prompt;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.List;
+import money.Money;
+import util.TextOutput;
+
+public class ScreenBuilder implements TextOutput {
+    private static final String[] NO_ROWS = new String[0];
+    
+    private List<String> rows;
+    private StringBuilder line;
+    
+    public ScreenBuilder() {
+        this.rows = new ArrayList<>();
+        this.line = new StringBuilder(128);
+    }
+    
+    @Override
+    public ScreenBuilder print(String text) {
+        int start = 0;
+        int newline = text.indexOf('\n');
+        while (newline >= 0) {
+            line.append(text, start, newline);
+            endRow();
+            start = newline + 1;
+            newline = text.indexOf('\n', start);
+        }
+        line.append(text, start, text.length());
+        return this;
+    }
+    
+    @Override
+    public ScreenBuilder print(char c) {
+        if (c == '\n') {
+            endRow();
+        } else {
+            line.append(c);
+        }
+        return this;
+    }
+    
+    @Override
+    public ScreenBuilder print(int value) {
+        line.append(value);
+        return this;
+    }
+    
+    @Override
+    public ScreenBuilder print(long value) {
+        line.append(value);
+        return this;
+    }
+    
+    @Override
+    public ScreenBuilder price(long amount) {
+        Money.appendTo(line, amount);
+        return this;
+    }
+    
+    @Override
+    public ScreenBuilder println(String text) {
+        print(text);
+        endRow();
+        return this;
+    }
+    
+    @Override
+    public ScreenBuilder println() {
+        endRow();
+        return this;
+    }
+    
+    public ScreenBuilder append(Screen part) {
+        if (line.length() > 0) {
+            endRow();
+        }
+        for (int i = 0; i < part.getRowCount(); i++) {
+            rows.add(part.getRow(i));
+        }
+        return this;
+    }
+    
+    public Screen build() {
+        String prompt = line.toString();
+        Screen screen = new Screen(rows.toArray(NO_ROWS), prompt);
+        reset();
+        return screen;
+    }
+    
+    public ScreenBuilder reset() {
+        rows.clear();
+        line.setLength(0);
+        return this;
+    }
+    
+    private void endRow() {
+        rows.add(line.toString());
+        line.setLength(0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.List;
+import util.ConsoleWriter;
+
+public class ScreenRenderer {
+    private static final String CSI = "\u001b[";
+    
+    private ConsoleWriter out;
+    private boolean ansi;
+    private ScreenBuilder builder;
+    private List<String> notices;
+    private String[] displayed;
+    private volatile boolean invalidated;
+    private int dirtyFromRow;
+    
+    public ScreenRenderer(ConsoleWriter out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+        this.builder = new ScreenBuilder();
+        this.notices = new ArrayList<>();
+    }
+    
+    public ScreenBuilder begin() {
+        return builder.reset();
+    }
+    
+    public void notice(String text) {
+        int start = 0;
+        int newline = text.indexOf('\n');
+        while (newline >= 0) {
+            notices.add(text.substring(start, newline));
+            start = newline + 1;
+            newline = text.indexOf('\n', start);
+        }
+        notices.add(text.substring(start));
+    }
+    
+    public void invalidate() {
+        invalidated = true;
+    }
+    
+    public void render(Screen screen) {
+        if (ansi) {
+            renderDiff(screen);
+        } else {
+            renderPlain(screen);
+        }
+        notices.clear();
+        out.flush();
+    }
+    
+    public ConsoleWriter getWriter() {
+        return out;
+    }
+    
+    private void renderPlain(Screen screen) {
+        for (String notice : notices) {
+            out.println(notice);
+        }
+        for (int i = 0; i < screen.getRowCount(); i++) {
+            out.println(screen.getRow(i));
+        }
+        out.print(screen.getPrompt());
+    }
+    
+    private void renderDiff(Screen screen) {
+        String[] frame = compose(screen);
+        int promptRow = frame.length - 1;
+        if (invalidated) {
+            invalidated = false;
+            displayed = null;
+        }
+        if (displayed == null) {
+            out.print(CSI).print("H").print(CSI).print("2J");
+            for (int row = 0; row < promptRow; row++) {
+                out.println(frame[row]);
+            }
+            out.print(frame[promptRow]);
+        } else {
+            for (int row = 0; row < promptRow; row++) {
+                if (row >= dirtyFromRow || row >= displayed.length || !frame[row].equals(displayed[row])) {
+                    moveTo(row).print(frame[row]).print(CSI).print('K');
+                }
+            }
+            moveTo(promptRow).print(frame[promptRow]);
+        }
+        out.print(CSI).print('K').print(CSI).print('J');
+        displayed = frame;
+        dirtyFromRow = promptRow;
+    }
+    
+    private String[] compose(Screen screen) {
+        int bodyRows = screen.getRowCount();
+        String[] frame = new String[bodyRows + notices.size() + 1];
+        for (int i = 0; i < bodyRows; i++) {
+            frame[i] = screen.getRow(i);
+        }
+        for (int i = 0; i < notices.size(); i++) {
+            frame[bodyRows + i] = notices.get(i);
+        }
+        frame[frame.length - 1] = screen.getPrompt();
+        return frame;
+    }
+    
+    private ConsoleWriter moveTo(int row) {
+        return out.print(CSI).print(row + 1).print(";1H");
+    }
+}
\ No newline at end of file